@@ -0,0 +1,69 @@
+package sliderule.core.linear;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link LongRationalMatrix} */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongRationalMatrixBenchmark {
+    private static final long SEED = 42L;
+    private static final long[] DENOMINATORS = {1, 2, 4, 5, 8, 10, 20, 100};
+
+    /** Number of rows and columns */
+    @Param({"64", "256", "512"})
+    public int size;
+
+    private LongRationalMatrix left;
+    private LongRationalMatrix right;
+
+    /** Fills the matrices with weight and price like entries */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        left = new LongRationalMatrix(size, size);
+        right = new LongRationalMatrix(size, size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                left.set(i, j, random.nextLong(0, 1_000), DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+                right.set(i, j, random.nextLong(-10_000, 10_000), DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+            }
+        }
+    }
+
+    /**
+     * {@link LongRationalMatrix#multiply(LongRationalMatrix)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public LongRationalMatrix multiply() {
+        return left.multiply(right);
+    }
+
+    /**
+     * {@link LongRationalMatrix#transpose()}
+     *
+     * @return transpose
+     */
+    @Benchmark
+    public LongRationalMatrix transpose() {
+        return left.transpose();
+    }
+}
@@ -0,0 +1,70 @@
+package sliderule.core.linear;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sliderule.core.number.BigRational;
+import sliderule.core.number.LongRationalArray;
+
+/** Benchmarks for {@link MultiModularSolver} compared to Bareiss elimination on random integer systems */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiModularSolverBenchmark {
+    private static final long SEED = 42L;
+
+    /** Number of unknowns */
+    @Param({"20", "100"})
+    public int size;
+
+    private LongRationalMatrix matrix;
+    private LongRationalArray vector;
+
+    /** Fills the system with integers in [-100, 100) */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        matrix = new LongRationalMatrix(size, size);
+        vector = new LongRationalArray(size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                matrix.set(i, j, random.nextLong(-100, 100), 1);
+            }
+            vector.set(i, random.nextLong(-100, 100), 1);
+        }
+    }
+
+    /**
+     * {@link MultiModularSolver#solve(LongRationalMatrix, LongRationalArray)}
+     *
+     * @return solution
+     */
+    @Benchmark
+    public BigRational[] multiModular() {
+        return MultiModularSolver.solve(matrix, vector);
+    }
+
+    /**
+     * Fraction-free Bareiss elimination
+     *
+     * @return solution
+     */
+    @Benchmark
+    public BigRational[] bareiss() {
+        return MultiModularSolver.bareiss(matrix, vector);
+    }
+}
@@ -0,0 +1,46 @@
+package sliderule.core.number;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the in place transforms of {@link ComplexArray} with power of two and mixed radix lengths */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComplexArrayBenchmark {
+    @Param({"1024", "1000", "1048576"})
+    private int length;
+
+    private ComplexArray array;
+
+    /** Fills the array with random values */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final var random = new Random(42);
+        array = new ComplexArray(length);
+        for (var i = 0; i < length; i++) {
+            array.set(i, random.nextGaussian(), random.nextGaussian());
+        }
+    }
+
+    /** {@link ComplexArray#fft()} followed by {@link ComplexArray#inverseFft()} */
+    @Benchmark
+    public ComplexArray roundTrip() {
+        return array.fft().inverseFft();
+    }
+}
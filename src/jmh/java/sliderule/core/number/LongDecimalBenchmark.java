@@ -0,0 +1,75 @@
+package sliderule.core.number;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for ledger like sums of amounts with two decimal places as {@link LongDecimal} and {@link LongRational} */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongDecimalBenchmark {
+    private static final long SEED = 42L;
+    private static final int SCALE = 2;
+
+    /** Number of amounts */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private LongDecimal[] decimals;
+    private LongRational[] rationals;
+
+    /** Fills the amounts */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        decimals = new LongDecimal[size];
+        rationals = new LongRational[size];
+        for (var i = 0; i < size; i++) {
+            decimals[i] = new LongDecimal(random.nextLong(-1_000_000, 1_000_000), SCALE);
+            rationals[i] = decimals[i].toLongRational();
+        }
+    }
+
+    /**
+     * Left fold with {@link LongDecimal#add(LongDecimal)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public LongDecimal addDecimals() {
+        var sum = LongDecimal.ZERO.setScale(SCALE);
+        for (final var decimal : decimals) {
+            sum = sum.add(decimal);
+        }
+        return sum;
+    }
+
+    /**
+     * Left fold with {@link LongRational#add(LongRational)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public LongRational addRationals() {
+        var sum = LongRational.ZERO;
+        for (final var rational : rationals) {
+            sum = sum.add(rational);
+        }
+        return sum;
+    }
+}
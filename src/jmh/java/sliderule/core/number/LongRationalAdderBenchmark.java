@@ -0,0 +1,41 @@
+package sliderule.core.number;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link LongRationalAdder} under contention compared to a CAS loop */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class LongRationalAdderBenchmark {
+    private static final LongRational SUMMAND = new LongRational(1, 2);
+
+    private final LongRationalAdder adder = new LongRationalAdder();
+    private final AtomicReference<LongRational> reference = new AtomicReference<>(LongRational.ZERO);
+
+    /** {@link LongRationalAdder#add(LongRational)} */
+    @Benchmark
+    public void adder() {
+        adder.add(SUMMAND);
+    }
+
+    /** {@link AtomicReference#accumulateAndGet} with {@link LongRational#add(LongRational)} */
+    @Benchmark
+    public void atomicReference() {
+        reference.accumulateAndGet(SUMMAND, LongRational::add);
+    }
+}
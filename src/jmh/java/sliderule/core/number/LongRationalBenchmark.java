@@ -0,0 +1,233 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link LongRational}
+ *
+ * <p>Operations that overflow or do not terminate return null so that the exceptional path is measured as well.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongRationalBenchmark {
+    private static final int SIZE = 1 << 10;
+    private static final long SEED = 42L;
+
+    /** Kind of operands */
+    @Param
+    public Operands operands;
+
+    private final LongRational[] lefts = new LongRational[SIZE];
+    private final LongRational[] rights = new LongRational[SIZE];
+    private final int[] exponents = new int[SIZE];
+    private final double[] doubles = new double[SIZE];
+    private int index;
+
+    /** Kinds of operands */
+    public enum Operands {
+        /** Numerators and denominators below 16 */
+        SMALL,
+        /** Consecutive and therefore coprime numerators and denominators */
+        COPRIME,
+        /** Numerators and denominators close to the square root of {@link Long#MAX_VALUE} */
+        NEAR_OVERFLOW,
+        /** Uniformly distributed numerators and denominators below 2^40 */
+        RANDOM
+    }
+
+    /** Fills the operands */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        for (var i = 0; i < SIZE; i++) {
+            lefts[i] = rational(random);
+            rights[i] = rational(random);
+            exponents[i] = operands == Operands.SMALL ? random.nextInt(1, 8) : random.nextInt(1, 3);
+            doubles[i] = lefts[i].doubleValue();
+        }
+    }
+
+    /**
+     * {@link LongRational#add(LongRational)}
+     *
+     * @return sum or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational add() {
+        final var i = next();
+        try {
+            return lefts[i].add(rights[i]);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#subtract(LongRational)}
+     *
+     * @return difference or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational subtract() {
+        final var i = next();
+        try {
+            return lefts[i].subtract(rights[i]);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#multiply(LongRational)}
+     *
+     * @return product or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational multiply() {
+        final var i = next();
+        try {
+            return lefts[i].multiply(rights[i]);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#divide(LongRational)}
+     *
+     * @return quotient or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational divide() {
+        final var i = next();
+        try {
+            return lefts[i].divide(rights[i]);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#compareTo(LongRational)}
+     *
+     * @return comparison or 0 when an operation overflows
+     */
+    @Benchmark
+    public int compareTo() {
+        final var i = next();
+        try {
+            return lefts[i].compareTo(rights[i]);
+        } catch (final ArithmeticException exception) {
+            return 0;
+        }
+    }
+
+    /**
+     * {@link LongRational#canonical()}
+     *
+     * @return canonical representation
+     */
+    @Benchmark
+    public LongRational canonical() {
+        return lefts[next()].canonical();
+    }
+
+    /**
+     * {@link LongRational#power(int)}
+     *
+     * @return power or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational power() {
+        final var i = next();
+        try {
+            return lefts[i].power(exponents[i]);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#toBigDecimal()}
+     *
+     * @return BigDecimal or null when the decimal expansion does not terminate
+     */
+    @Benchmark
+    public @Nullable BigDecimal toBigDecimal() {
+        try {
+            return lefts[next()].toBigDecimal();
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRational#doubleValue()}
+     *
+     * @return double or NaN when the decimal expansion does not terminate
+     */
+    @Benchmark
+    public double doubleValue() {
+        try {
+            return lefts[next()].doubleValue();
+        } catch (final ArithmeticException exception) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * {@link LongRational#approximate(double, long)} with denominators up to 10^6
+     *
+     * @return approximation or null when the numerator overflows
+     */
+    @Benchmark
+    public @Nullable LongRational approximate() {
+        try {
+            return LongRational.approximate(doubles[next()], 1_000_000);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+
+    private LongRational rational(final SplittableRandom random) {
+        return switch (operands) {
+            case SMALL -> new LongRational(signed(random, random.nextLong(1, 16)), random.nextLong(1, 16));
+            case COPRIME -> {
+                final var numerator = random.nextLong(1, 1L << 20);
+                yield new LongRational(numerator, numerator + 1);
+            }
+            case NEAR_OVERFLOW -> new LongRational(
+                    random.nextLong(3_000_000_000L, 3_037_000_499L), random.nextLong(3_000_000_000L, 3_037_000_499L));
+            case RANDOM -> new LongRational(signed(random, random.nextLong(1, 1L << 40)), random.nextLong(1, 1L << 40));
+        };
+    }
+
+    /** Operands are divisors, so they are never 0 */
+    private static long signed(final SplittableRandom random, final long magnitude) {
+        return random.nextBoolean() ? magnitude : -magnitude;
+    }
+}
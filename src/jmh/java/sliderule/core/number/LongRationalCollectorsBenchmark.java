@@ -0,0 +1,95 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link LongRationalCollectors#summing()} compared to a left fold
+ *
+ * <p>Sums that overflow return null so that the exceptional path is measured as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongRationalCollectorsBenchmark {
+    private static final long SEED = 42L;
+    private static final long[] DENOMINATORS = {1, 2, 3, 4, 5, 6, 8, 10, 12, 16, 20, 25, 100, 360};
+
+    /** Number of summands */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private List<LongRational> summands;
+
+    /** Fills the summands with prices like denominators */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        final var array = new LongRational[size];
+        for (var i = 0; i < size; i++) {
+            array[i] = new LongRational(
+                    random.nextLong(-1_000_000, 1_000_000), DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+        }
+        summands = Arrays.asList(array);
+    }
+
+    /**
+     * {@code reduce(LongRational.ZERO, LongRational::add)}
+     *
+     * @return sum or null when an operation overflows
+     */
+    @Benchmark
+    public @Nullable LongRational reduce() {
+        try {
+            return summands.stream().reduce(LongRational.ZERO, LongRational::add);
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRationalCollectors#summing()} on a sequential stream
+     *
+     * @return sum or null when the sum overflows
+     */
+    @Benchmark
+    public @Nullable LongRational summing() {
+        try {
+            return summands.stream().collect(LongRationalCollectors.summing());
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link LongRationalCollectors#summing()} on a parallel stream
+     *
+     * @return sum or null when the sum overflows
+     */
+    @Benchmark
+    public @Nullable LongRational summingParallel() {
+        try {
+            return summands.parallelStream().collect(LongRationalCollectors.summing());
+        } catch (final ArithmeticException exception) {
+            return null;
+        }
+    }
+}
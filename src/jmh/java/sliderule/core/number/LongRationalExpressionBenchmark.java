@@ -0,0 +1,99 @@
+package sliderule.core.number;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for a compiled {@link LongRationalExpression} of {@code a * b + c * d - e} compared to eager operators */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongRationalExpressionBenchmark {
+    private static final long SEED = 42L;
+    private static final long[] DENOMINATORS = {1, 2, 4, 5, 8, 10, 20, 25, 100};
+    private static final int VARIABLES = 5;
+
+    /** Number of bindings */
+    @Param({"1000"})
+    public int size;
+
+    private LongRationalArray[] columns;
+    private LongRational[][] rows;
+    private LongRationalExpression.Compiled compiled;
+    private LongRationalArray destination;
+
+    /** Fills the bindings with prices like values */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        columns = new LongRationalArray[VARIABLES];
+        rows = new LongRational[size][VARIABLES];
+        for (var j = 0; j < VARIABLES; j++) {
+            columns[j] = new LongRationalArray(size);
+            for (var i = 0; i < size; i++) {
+                rows[i][j] = LongRational.valueOf(
+                        random.nextLong(-1_000_000, 1_000_000), DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+                columns[j].set(i, rows[i][j]);
+            }
+        }
+        final var a = LongRationalExpression.variable(0);
+        final var b = LongRationalExpression.variable(1);
+        final var c = LongRationalExpression.variable(2);
+        final var d = LongRationalExpression.variable(3);
+        final var e = LongRationalExpression.variable(4);
+        compiled = a.multiply(b).add(c.multiply(d)).subtract(e).compile();
+        destination = new LongRationalArray(size);
+    }
+
+    /**
+     * Eager {@link LongRational} operators per binding
+     *
+     * @return last value
+     */
+    @Benchmark
+    public LongRational eager() {
+        var result = LongRational.ZERO;
+        for (final var row : rows) {
+            result = row[0].multiply(row[1]).add(row[2].multiply(row[3])).subtract(row[4]);
+        }
+        return result;
+    }
+
+    /**
+     * {@link LongRationalExpression.Compiled#evaluate(LongRational...)} per binding
+     *
+     * @return last value
+     */
+    @Benchmark
+    public LongRational compiled() {
+        var result = LongRational.ZERO;
+        for (final var row : rows) {
+            result = compiled.evaluate(row);
+        }
+        return result;
+    }
+
+    /**
+     * {@link LongRationalExpression.Compiled#evaluate(LongRationalArray[], LongRationalArray)} over all bindings
+     *
+     * @return destination
+     */
+    @Benchmark
+    public LongRationalArray compiledColumns() {
+        return compiled.evaluate(columns, destination);
+    }
+}
@@ -0,0 +1,95 @@
+package sliderule.core.number;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the evaluation of a cubic at points with two decimal places */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongRationalPolynomialBenchmark {
+    private static final long SEED = 42L;
+
+    /** Number of points */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private LongRational[] coefficients;
+    private LongRationalPolynomial polynomial;
+    private LongRationalArray points;
+    private LongRationalArray destination;
+
+    /** Fills the coefficients and points */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        coefficients = new LongRational[4];
+        for (var i = 0; i < coefficients.length; i++) {
+            coefficients[i] = LongRational.valueOf(random.nextLong(-100, 100), random.nextLong(1, 10));
+        }
+        polynomial = new LongRationalPolynomial(coefficients);
+        points = new LongRationalArray(size);
+        for (var i = 0; i < size; i++) {
+            points.set(i, LongRational.valueOf(random.nextLong(-10_000, 10_000), 100));
+        }
+        destination = new LongRationalArray(size);
+    }
+
+    /**
+     * {@link LongRationalPolynomial#evaluate(LongRationalArray, LongRationalArray)}
+     *
+     * @return destination
+     */
+    @Benchmark
+    public LongRationalArray batch() {
+        return polynomial.evaluate(points, destination);
+    }
+
+    /**
+     * {@link LongRationalPolynomial#evaluate(long, long, MutableLongRational)} per point
+     *
+     * @return destination
+     */
+    @Benchmark
+    public LongRationalArray accumulator() {
+        final var accumulator = new MutableLongRational();
+        for (var i = 0; i < size; i++) {
+            polynomial.evaluate(points.getNumerator(i), points.getDenominator(i), accumulator);
+            destination.set(i, accumulator.getNumerator(), accumulator.getDenominator());
+        }
+        return destination;
+    }
+
+    /**
+     * Horner scheme with {@link LongRational} per point
+     *
+     * @return destination
+     */
+    @Benchmark
+    public LongRationalArray boxed() {
+        for (var i = 0; i < size; i++) {
+            final var point = points.get(i);
+            var value = LongRational.ZERO;
+            for (var j = coefficients.length - 1; j >= 0; j--) {
+                value = value.multiply(point).add(coefficients[j]);
+            }
+            destination.set(i, value);
+        }
+        return destination;
+    }
+}
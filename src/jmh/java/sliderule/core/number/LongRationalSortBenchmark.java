@@ -0,0 +1,88 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link LongRationalArray#sortInPlace()} compared to sorting boxed rationals
+ *
+ * <p>Numerators and denominators span the whole long range so that every comparison needs 128-bit products.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongRationalSortBenchmark {
+    private static final long SEED = 42L;
+
+    /** Number of elements */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private LongRationalArray original;
+    private LongRationalArray array;
+    private LongRational[] boxed;
+
+    /** Fills the original with random rationals */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        original = new LongRationalArray(size);
+        for (var i = 0; i < size; i++) {
+            original.set(i, random.nextLong(-Long.MAX_VALUE, Long.MAX_VALUE), random.nextLong(1, Long.MAX_VALUE));
+        }
+    }
+
+    /** Restores the unsorted elements */
+    @Setup(Level.Invocation)
+    public void reset() {
+        array = original.copy();
+        boxed = original.toArray();
+    }
+
+    /**
+     * {@link Arrays#sort(Object[])} of boxed rationals
+     *
+     * @return sorted rationals
+     */
+    @Benchmark
+    public LongRational[] sortBoxed() {
+        Arrays.sort(boxed);
+        return boxed;
+    }
+
+    /**
+     * {@link LongRationalArray#sortInPlace()}
+     *
+     * @return sorted array
+     */
+    @Benchmark
+    public LongRationalArray sortInPlace() {
+        return array.sortInPlace();
+    }
+
+    /**
+     * {@link LongRationalArray#parallelSortInPlace()}
+     *
+     * @return sorted array
+     */
+    @Benchmark
+    public LongRationalArray parallelSortInPlace() {
+        return array.parallelSortInPlace();
+    }
+}
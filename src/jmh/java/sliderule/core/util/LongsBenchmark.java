@@ -0,0 +1,105 @@
+package sliderule.core.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link Longs} */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongsBenchmark {
+    private static final int SIZE = 1 << 10;
+    private static final long SEED = 42L;
+
+    /** Kind of operands */
+    @Param
+    public Operands operands;
+
+    private final long[] lefts = new long[SIZE];
+    private final long[] rights = new long[SIZE];
+    private final int[] exponents = new int[SIZE];
+    private int index;
+
+    /** Kinds of operands */
+    public enum Operands {
+        /** Operands below 16 */
+        SMALL,
+        /** Consecutive and therefore coprime operands */
+        COPRIME,
+        /** Operands close to {@link Long#MAX_VALUE} and powers close to overflowing */
+        NEAR_OVERFLOW,
+        /** Uniformly distributed operands */
+        RANDOM
+    }
+
+    /** Fills the operands */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new SplittableRandom(SEED);
+        for (var i = 0; i < SIZE; i++) {
+            switch (operands) {
+                case SMALL -> {
+                    lefts[i] = random.nextLong(2, 16);
+                    rights[i] = random.nextLong(1, 16);
+                }
+                case COPRIME -> {
+                    lefts[i] = random.nextLong(2, 1L << 40);
+                    rights[i] = lefts[i] + 1;
+                }
+                case NEAR_OVERFLOW -> {
+                    lefts[i] = Long.MAX_VALUE - random.nextLong(1L << 20);
+                    rights[i] = Long.MAX_VALUE - random.nextLong(1L << 20);
+                }
+                case RANDOM -> {
+                    lefts[i] = random.nextLong(2, Long.MAX_VALUE);
+                    rights[i] = random.nextLong(1, Long.MAX_VALUE);
+                }
+                default -> throw new IllegalStateException("Unexpected operands: " + operands);
+            }
+            final var maxExponent = Math.max(1, 62 / (64 - Long.numberOfLeadingZeros(lefts[i])));
+            exponents[i] = operands == Operands.NEAR_OVERFLOW ? maxExponent : random.nextInt(1, maxExponent + 1);
+        }
+    }
+
+    /**
+     * {@link Longs#gcd(long, long)}
+     *
+     * @return greatest common divisor
+     */
+    @Benchmark
+    public long gcd() {
+        final var i = next();
+        return Longs.gcd(lefts[i], rights[i]);
+    }
+
+    /**
+     * {@link Longs#powerExact(long, int)}
+     *
+     * @return power
+     */
+    @Benchmark
+    public double powerExact() {
+        final var i = next();
+        return Longs.powerExact(lefts[i], exponents[i]);
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+}
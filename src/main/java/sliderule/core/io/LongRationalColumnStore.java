@@ -0,0 +1,356 @@
+package sliderule.core.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import sliderule.core.number.LongRational;
+import sliderule.core.number.LongRationalArray;
+
+/**
+ * File persisted store of rational numbers that is memory mapped with {@link FileChannel#map}
+ *
+ * <p>The file starts with a 16 byte header consisting of a magic number, a format version and the number of rationals.
+ * The header is followed by fixed width 16 byte records of numerator and denominator. All values are little endian.
+ * Opening a store maps the file lazily, so the operating system pages the data in on access instead of deserializing it
+ * onto the heap. Writes go directly into the mapped memory and the header is updated with every append; the file is not
+ * truncated, so it may be larger than the stored records.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class LongRationalColumnStore implements Closeable {
+    private static final int MAGIC = 0x534C5243;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 16;
+    private static final int SIZE_OFFSET = 8;
+    private static final int DEFAULT_SEGMENT_SHIFT = 26;
+    private static final long INITIAL_CAPACITY = 1L << 10;
+
+    private final @NonNull Path path;
+    private final @NonNull FileChannel channel;
+    private final boolean readOnly;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final @NonNull MappedByteBuffer header;
+    private final @NonNull List<MappedByteBuffer> segments = new ArrayList<>();
+    private long size;
+    private long capacity;
+    private boolean open = true;
+
+    private LongRationalColumnStore(
+            final Path path, final FileChannel channel, final boolean readOnly, final int segmentShift)
+            throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.readOnly = readOnly;
+        this.segmentShift = segmentShift;
+        segmentMask = (1L << segmentShift) - 1;
+        final var fileSize = channel.size();
+        if (fileSize == 0 && !readOnly) {
+            header = map(0, HEADER_BYTES);
+            header.putInt(0, MAGIC).putInt(4, VERSION).putLong(SIZE_OFFSET, 0L);
+        } else {
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("Expected rational column store but is " + path);
+            }
+            header = map(0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Expected rational column store but is " + path);
+            }
+            size = header.getLong(SIZE_OFFSET);
+            if (size < 0 || HEADER_BYTES + size * RECORD_BYTES > fileSize) {
+                throw new IOException("Expected at least " + size + " records but is " + path);
+            }
+        }
+        mapCapacity(readOnly ? size : Math.max(size, (fileSize - HEADER_BYTES) / RECORD_BYTES));
+    }
+
+    /**
+     * Opens the store for reading and writing and creates it when it does not exist
+     *
+     * @param path path
+     * @return store
+     * @throws NullPointerException when path is null
+     * @throws IOException when the file cannot be opened or is not a rational column store
+     */
+    public static @NonNull LongRationalColumnStore open(final @NonNull Path path) throws IOException {
+        return open(path, false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Opens an existing store for reading only
+     *
+     * @param path path
+     * @return store
+     * @throws NullPointerException when path is null
+     * @throws IOException when the file cannot be opened or is not a rational column store
+     */
+    public static @NonNull LongRationalColumnStore openReadOnly(final @NonNull Path path) throws IOException {
+        return open(path, true, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static LongRationalColumnStore open(final Path path, final boolean readOnly, final int segmentShift)
+            throws IOException {
+        Objects.requireNonNull(path, "path");
+        final var channel = readOnly
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new LongRationalColumnStore(path, channel, readOnly, segmentShift);
+        } catch (final IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Number of stored rationals
+     *
+     * @return size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Indicates if this store is read only
+     *
+     * @return boolean
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Returns the rational at the index
+     *
+     * @param index index
+     * @return rational
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     * @throws IllegalStateException when this store is closed
+     */
+    public @NonNull LongRational get(final long index) {
+        return new LongRational(getNumerator(index), getDenominator(index));
+    }
+
+    /**
+     * Returns the numerator of the rational at the index
+     *
+     * @param index index
+     * @return numerator
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     * @throws IllegalStateException when this store is closed
+     */
+    public long getNumerator(final long index) {
+        requireOpen();
+        Objects.checkIndex(index, size);
+        return segment(index).getLong(offset(index));
+    }
+
+    /**
+     * Returns the denominator of the rational at the index
+     *
+     * @param index index
+     * @return denominator
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     * @throws IllegalStateException when this store is closed
+     */
+    public long getDenominator(final long index) {
+        requireOpen();
+        Objects.checkIndex(index, size);
+        return segment(index).getLong(offset(index) + Long.BYTES);
+    }
+
+    /**
+     * Overwrites the rational at the index
+     *
+     * @param index index
+     * @param rational rational
+     * @throws NullPointerException when rational is null
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     * @throws IllegalStateException when this store is closed or read only
+     */
+    public void set(final long index, final @NonNull LongRational rational) {
+        Objects.requireNonNull(rational, "rational");
+        requireWritable();
+        Objects.checkIndex(index, size);
+        write(index, rational.getNumerator(), rational.getDenominator());
+    }
+
+    /**
+     * Appends the rational
+     *
+     * @param rational rational
+     * @throws NullPointerException when rational is null
+     * @throws IllegalStateException when this store is closed or read only
+     * @throws IOException when the file cannot be grown
+     */
+    public void append(final @NonNull LongRational rational) throws IOException {
+        Objects.requireNonNull(rational, "rational");
+        requireWritable();
+        ensureCapacity(size + 1);
+        write(size, rational.getNumerator(), rational.getDenominator());
+        resize(size + 1);
+    }
+
+    /**
+     * Appends all rationals of the array
+     *
+     * @param array array
+     * @throws NullPointerException when array is null
+     * @throws IllegalStateException when this store is closed or read only
+     * @throws IOException when the file cannot be grown
+     */
+    public void appendAll(final @NonNull LongRationalArray array) throws IOException {
+        Objects.requireNonNull(array, "array");
+        requireWritable();
+        ensureCapacity(size + array.length());
+        for (var i = 0; i < array.length(); i++) {
+            write(size + i, array.getNumerator(i), array.getDenominator(i));
+        }
+        resize(size + array.length());
+    }
+
+    /**
+     * Reads consecutive rationals starting at the index into the destination without creating intermediate objects
+     *
+     * @param index index of the first rational
+     * @param destination destination that is filled completely
+     * @return destination
+     * @throws NullPointerException when destination is null
+     * @throws IndexOutOfBoundsException when the range is out of bounds
+     * @throws IllegalStateException when this store is closed
+     */
+    public @NonNull LongRationalArray read(final long index, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(destination, "destination");
+        requireOpen();
+        Objects.checkFromIndexSize(index, destination.length(), size);
+        for (var i = 0; i < destination.length(); i++) {
+            final var segment = segment(index + i);
+            final var offset = offset(index + i);
+            destination.set(i, segment.getLong(offset), segment.getLong(offset + Long.BYTES));
+        }
+        return destination;
+    }
+
+    /**
+     * Reads consecutive rationals starting at the index into a new array
+     *
+     * @param index index of the first rational
+     * @param length number of rationals
+     * @return array
+     * @throws IndexOutOfBoundsException when the range is out of bounds
+     * @throws IllegalStateException when this store is closed
+     */
+    public @NonNull LongRationalArray read(final long index, final int length) {
+        return read(index, new LongRationalArray(length));
+    }
+
+    /**
+     * Returns the stored rationals as sequential stream
+     *
+     * @return stream
+     * @throws IllegalStateException when this store is closed
+     */
+    public @NonNull Stream<@NonNull LongRational> stream() {
+        requireOpen();
+        return LongStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Writes changes of the mapped memory to the file
+     *
+     * @throws IllegalStateException when this store is closed
+     */
+    public void force() {
+        requireOpen();
+        if (!readOnly) {
+            header.force();
+            segments.forEach(MappedByteBuffer::force);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (open) {
+            force();
+            open = false;
+            segments.clear();
+            channel.close();
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalColumnStore{path=" + path + ", size=" + size + ", readOnly=" + readOnly + '}';
+    }
+
+    private MappedByteBuffer segment(final long index) {
+        return segments.get((int) (index >>> segmentShift));
+    }
+
+    private int offset(final long index) {
+        return (int) ((index & segmentMask) * RECORD_BYTES);
+    }
+
+    private void write(final long index, final long numerator, final long denominator) {
+        final var segment = segment(index);
+        final var offset = offset(index);
+        segment.putLong(offset, numerator).putLong(offset + Long.BYTES, denominator);
+    }
+
+    private void resize(final long newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private void ensureCapacity(final long minCapacity) throws IOException {
+        if (minCapacity > capacity) {
+            mapCapacity(Math.max(minCapacity, Math.max(INITIAL_CAPACITY, capacity * 2)));
+        }
+    }
+
+    private void mapCapacity(final long newCapacity) throws IOException {
+        final var segmentRecords = 1L << segmentShift;
+        final var segmentCount = (int) ((newCapacity + segmentRecords - 1) >>> segmentShift);
+        for (var i = 0; i < segmentCount; i++) {
+            final var records = Math.min(segmentRecords, newCapacity - ((long) i << segmentShift));
+            if (i == segments.size()) {
+                segments.add(map(HEADER_BYTES + ((long) i << segmentShift) * RECORD_BYTES, records * RECORD_BYTES));
+            } else if (segments.get(i).capacity() < records * RECORD_BYTES) {
+                segments.set(i, map(HEADER_BYTES + ((long) i << segmentShift) * RECORD_BYTES, records * RECORD_BYTES));
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    private MappedByteBuffer map(final long position, final long length) throws IOException {
+        final var buffer = channel.map(
+                readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private void requireOpen() {
+        if (!open) {
+            throw new IllegalStateException("must be open but is " + this);
+        }
+    }
+
+    private void requireWritable() {
+        requireOpen();
+        if (readOnly) {
+            throw new IllegalStateException("must be writable but is " + this);
+        }
+    }
+}
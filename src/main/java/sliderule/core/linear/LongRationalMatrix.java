@@ -0,0 +1,474 @@
+package sliderule.core.linear;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.number.BigRational;
+import sliderule.core.number.LongRational;
+import sliderule.core.number.LongRationalArray;
+import sliderule.core.number.MutableLongRational;
+
+/**
+ * Mutable dense matrix of rational numbers that stores numerators and denominators row-major in two long arrays
+ *
+ * <p>Entries of products are accumulated in a {@link MutableLongRational} and reduced once at the end instead of after
+ * every term. A partial sum that does not fit into long continues exactly as {@link BigRational}, so products throw
+ * {@link ArithmeticException} only when a canonical entry does not fit into long. Multiplication is blocked so that the
+ * rows of both operands that are combined stay in cache, and the blocks are computed in parallel in a
+ * {@link ForkJoinPool}.
+ */
+public final class LongRationalMatrix {
+    private static final int BLOCK = 64;
+
+    private final int rows;
+    private final int columns;
+    private final long @NonNull [] numerators;
+    private final long @NonNull [] denominators;
+
+    /**
+     * Constructor for a matrix of zeros
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @throws IllegalArgumentException when rows or columns is negative or the number of entries exceeds
+     *     {@link Integer#MAX_VALUE}
+     */
+    public LongRationalMatrix(final int rows, final int columns) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Expected rows >= 0 but rows=" + rows);
+        }
+        if (columns < 0) {
+            throw new IllegalArgumentException("Expected columns >= 0 but columns=" + columns);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Expected rows * columns <= " + Integer.MAX_VALUE + " but rows=" + rows
+                    + " and columns=" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        numerators = new long[rows * columns];
+        denominators = new long[rows * columns];
+        Arrays.fill(denominators, 1L);
+    }
+
+    /**
+     * Constructor that copies the entries
+     *
+     * @param entries entries by row, all rows must have the same length
+     * @throws NullPointerException when entries, one of its rows or one of their entries is null
+     * @throws IllegalArgumentException when the rows have different lengths
+     */
+    public LongRationalMatrix(final @NonNull LongRational @NonNull [] @NonNull [] entries) {
+        this(Objects.requireNonNull(entries, "entries").length, entries.length == 0 ? 0 : entries[0].length);
+        for (var i = 0; i < rows; i++) {
+            Objects.requireNonNull(entries[i], "entries[" + i + "]");
+            if (entries[i].length != columns) {
+                throw new IllegalArgumentException("Expected entries[" + i + "].length=" + columns + " but entries[" + i
+                        + "].length=" + entries[i].length);
+            }
+            for (var j = 0; j < columns; j++) {
+                set(i, j, entries[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the identity matrix
+     *
+     * @param size number of rows and columns
+     * @return identity matrix
+     * @throws IllegalArgumentException when size is negative
+     */
+    public static @NonNull LongRationalMatrix identity(final int size) {
+        final var identity = new LongRationalMatrix(size, size);
+        for (var i = 0; i < size; i++) {
+            identity.numerators[i * size + i] = 1L;
+        }
+        return identity;
+    }
+
+    /**
+     * Number of rows
+     *
+     * @return rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Number of columns
+     *
+     * @return columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the entry
+     *
+     * @param row row
+     * @param column column
+     * @return entry
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public @NonNull LongRational get(final int row, final int column) {
+        final var index = index(row, column);
+        return new LongRational(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Returns the numerator of the entry
+     *
+     * @param row row
+     * @param column column
+     * @return numerator
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public long getNumerator(final int row, final int column) {
+        return numerators[index(row, column)];
+    }
+
+    /**
+     * Returns the denominator of the entry
+     *
+     * @param row row
+     * @param column column
+     * @return denominator
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public long getDenominator(final int row, final int column) {
+        return denominators[index(row, column)];
+    }
+
+    /**
+     * Sets the entry
+     *
+     * @param row row
+     * @param column column
+     * @param entry entry
+     * @throws NullPointerException when entry is null
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public void set(final int row, final int column, final @NonNull LongRational entry) {
+        Objects.requireNonNull(entry, "entry");
+        final var index = index(row, column);
+        numerators[index] = entry.getNumerator();
+        denominators[index] = entry.getDenominator();
+    }
+
+    /**
+     * Sets the entry
+     *
+     * @param row row
+     * @param column column
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when numerator or denominator is {@link Long#MIN_VALUE}
+     * @throws IndexOutOfBoundsException when row or column is out of bounds
+     */
+    public void set(final int row, final int column, final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        final var index = index(row, column);
+        final var absNumerator = Math.absExact(numerator);
+        numerators[index] = Long.signum(numerator) * Long.signum(denominator) < 0 ? -absNumerator : absNumerator;
+        denominators[index] = Math.absExact(denominator);
+    }
+
+    /**
+     * Returns the transpose
+     *
+     * @return transpose
+     */
+    public @NonNull LongRationalMatrix transpose() {
+        final var transpose = new LongRationalMatrix(columns, rows);
+        for (var rowBlock = 0; rowBlock < rows; rowBlock += BLOCK) {
+            for (var columnBlock = 0; columnBlock < columns; columnBlock += BLOCK) {
+                final var rowEnd = Math.min(rowBlock + BLOCK, rows);
+                final var columnEnd = Math.min(columnBlock + BLOCK, columns);
+                for (var i = rowBlock; i < rowEnd; i++) {
+                    for (var j = columnBlock; j < columnEnd; j++) {
+                        transpose.numerators[j * rows + i] = numerators[i * columns + j];
+                        transpose.denominators[j * rows + i] = denominators[i * columns + j];
+                    }
+                }
+            }
+        }
+        return transpose;
+    }
+
+    /**
+     * Returns the product of this and the multiplier computed in the common pool
+     *
+     * @param multiplier multiplier
+     * @return product with canonical entries
+     * @throws NullPointerException when multiplier is null
+     * @throws IllegalArgumentException when multiplier.rows differs from columns
+     * @throws ArithmeticException when a canonical entry does not fit into long
+     */
+    public @NonNull LongRationalMatrix multiply(final @NonNull LongRationalMatrix multiplier) {
+        return multiply(multiplier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the product of this and the multiplier computed in the pool
+     *
+     * @param multiplier multiplier
+     * @param pool pool
+     * @return product with canonical entries
+     * @throws NullPointerException when multiplier or pool is null
+     * @throws IllegalArgumentException when multiplier.rows differs from columns
+     * @throws ArithmeticException when a canonical entry does not fit into long
+     */
+    public @NonNull LongRationalMatrix multiply(
+            final @NonNull LongRationalMatrix multiplier, final @NonNull ForkJoinPool pool) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        Objects.requireNonNull(pool, "pool");
+        if (multiplier.rows != columns) {
+            throw new IllegalArgumentException(
+                    "Expected multiplier.rows=" + columns + " but multiplier.rows=" + multiplier.rows);
+        }
+        final var product = new LongRationalMatrix(rows, multiplier.columns);
+        // rows of the transpose are the columns of the multiplier, so dot products read both operands sequentially
+        final var transpose = multiplier.transpose();
+        pool.invoke(new MultiplyTask(this, transpose, product, 0, ceilDiv(rows), 0, ceilDiv(multiplier.columns)));
+        return product;
+    }
+
+    /**
+     * Returns the product of this and the vector
+     *
+     * @param vector vector
+     * @return product with canonical elements
+     * @throws NullPointerException when vector is null
+     * @throws IllegalArgumentException when vector.length differs from columns
+     * @throws ArithmeticException when a canonical element does not fit into long
+     */
+    public @NonNull LongRationalArray multiply(final @NonNull LongRationalArray vector) {
+        Objects.requireNonNull(vector, "vector");
+        if (vector.length() != columns) {
+            throw new IllegalArgumentException(
+                    "Expected vector.length=" + columns + " but vector.length=" + vector.length());
+        }
+        final var product = new LongRationalArray(rows);
+        final var accumulator = new Accumulator();
+        for (var i = 0; i < rows; i++) {
+            accumulator.reset();
+            for (var k = 0; k < columns; k++) {
+                final var index = i * columns + k;
+                accumulator.addProduct(
+                        numerators[index], denominators[index], vector.getNumerator(k), vector.getDenominator(k));
+            }
+            product.set(i, accumulator.toLongRational());
+        }
+        return product;
+    }
+
+    /**
+     * Returns the solution x of this x = vector computed in the common pool
+     *
+     * @param vector right-hand side
+     * @return solution with canonical elements
+     * @throws NullPointerException when vector is null
+     * @throws IllegalArgumentException when this is not square, vector.length differs from rows or this is singular
+     * @throws ArithmeticException when a canonical element does not fit into long
+     * @see MultiModularSolver
+     */
+    public @NonNull LongRationalArray solve(final @NonNull LongRationalArray vector) {
+        return solve(vector, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the solution x of this x = vector computed in the pool
+     *
+     * @param vector right-hand side
+     * @param pool pool
+     * @return solution with canonical elements
+     * @throws NullPointerException when vector or pool is null
+     * @throws IllegalArgumentException when this is not square, vector.length differs from rows or this is singular
+     * @throws ArithmeticException when a canonical element does not fit into long
+     * @see MultiModularSolver
+     */
+    public @NonNull LongRationalArray solve(final @NonNull LongRationalArray vector, final @NonNull ForkJoinPool pool) {
+        final var solution = MultiModularSolver.solve(this, vector, pool);
+        final var array = new LongRationalArray(solution.length);
+        for (var i = 0; i < solution.length; i++) {
+            array.set(i, solution[i].toLongRational());
+        }
+        return array;
+    }
+
+    /**
+     * Returns a copy of this matrix
+     *
+     * @return copy
+     */
+    public @NonNull LongRationalMatrix copy() {
+        final var copy = new LongRationalMatrix(rows, columns);
+        System.arraycopy(numerators, 0, copy.numerators, 0, numerators.length);
+        System.arraycopy(denominators, 0, copy.denominators, 0, denominators.length);
+        return copy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rows, columns, Arrays.hashCode(numerators), Arrays.hashCode(denominators));
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final LongRationalMatrix that)) {
+            return false;
+        }
+        return rows == that.rows
+                && columns == that.columns
+                && Arrays.equals(numerators, that.numerators)
+                && Arrays.equals(denominators, that.denominators);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalMatrix{rows=" + rows + ", columns=" + columns + ", numerators="
+                + Arrays.toString(numerators) + ", denominators=" + Arrays.toString(denominators) + '}';
+    }
+
+    private int index(final int row, final int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return row * columns + column;
+    }
+
+    private static int ceilDiv(final int length) {
+        return (length + BLOCK - 1) / BLOCK;
+    }
+
+    /** Computes the blocks of the product in [rowBlockFrom, rowBlockTo) x [columnBlockFrom, columnBlockTo) */
+    private static final class MultiplyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient LongRationalMatrix left;
+        private final transient LongRationalMatrix transpose;
+        private final transient LongRationalMatrix product;
+        private final int rowBlockFrom;
+        private final int rowBlockTo;
+        private final int columnBlockFrom;
+        private final int columnBlockTo;
+
+        MultiplyTask(
+                final LongRationalMatrix left,
+                final LongRationalMatrix transpose,
+                final LongRationalMatrix product,
+                final int rowBlockFrom,
+                final int rowBlockTo,
+                final int columnBlockFrom,
+                final int columnBlockTo) {
+            this.left = left;
+            this.transpose = transpose;
+            this.product = product;
+            this.rowBlockFrom = rowBlockFrom;
+            this.rowBlockTo = rowBlockTo;
+            this.columnBlockFrom = columnBlockFrom;
+            this.columnBlockTo = columnBlockTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowBlockTo - rowBlockFrom > 1) {
+                final var middle = (rowBlockFrom + rowBlockTo) >>> 1;
+                invokeAll(
+                        new MultiplyTask(
+                                left, transpose, product, rowBlockFrom, middle, columnBlockFrom, columnBlockTo),
+                        new MultiplyTask(left, transpose, product, middle, rowBlockTo, columnBlockFrom, columnBlockTo));
+            } else if (columnBlockTo - columnBlockFrom > 1) {
+                final var middle = (columnBlockFrom + columnBlockTo) >>> 1;
+                invokeAll(
+                        new MultiplyTask(left, transpose, product, rowBlockFrom, rowBlockTo, columnBlockFrom, middle),
+                        new MultiplyTask(left, transpose, product, rowBlockFrom, rowBlockTo, middle, columnBlockTo));
+            } else if (rowBlockTo > rowBlockFrom && columnBlockTo > columnBlockFrom) {
+                multiplyBlock(rowBlockFrom * BLOCK, columnBlockFrom * BLOCK);
+            }
+        }
+
+        private void multiplyBlock(final int rowFrom, final int columnFrom) {
+            final var rowTo = Math.min(rowFrom + BLOCK, product.rows);
+            final var columnTo = Math.min(columnFrom + BLOCK, product.columns);
+            final var inner = left.columns;
+            final var accumulators = new Accumulator[(rowTo - rowFrom) * (columnTo - columnFrom)];
+            for (var a = 0; a < accumulators.length; a++) {
+                accumulators[a] = new Accumulator();
+            }
+            // the inner dimension is blocked as well, so the rows of both blocks stay in cache
+            for (var kFrom = 0; kFrom < inner; kFrom += BLOCK) {
+                final var kTo = Math.min(kFrom + BLOCK, inner);
+                var a = 0;
+                for (var i = rowFrom; i < rowTo; i++) {
+                    for (var j = columnFrom; j < columnTo; j++) {
+                        final var accumulator = accumulators[a++];
+                        for (var k = kFrom; k < kTo; k++) {
+                            final var leftIndex = i * inner + k;
+                            final var rightIndex = j * inner + k;
+                            accumulator.addProduct(
+                                    left.numerators[leftIndex],
+                                    left.denominators[leftIndex],
+                                    transpose.numerators[rightIndex],
+                                    transpose.denominators[rightIndex]);
+                        }
+                    }
+                }
+            }
+            var a = 0;
+            for (var i = rowFrom; i < rowTo; i++) {
+                for (var j = columnFrom; j < columnTo; j++) {
+                    final var entry = accumulators[a++].toLongRational();
+                    product.numerators[i * product.columns + j] = entry.getNumerator();
+                    product.denominators[i * product.columns + j] = entry.getDenominator();
+                }
+            }
+        }
+    }
+
+    /** Exact sum of products that continues as {@link BigRational} once the partial sum does not fit into long */
+    private static final class Accumulator {
+        private final MutableLongRational value = new MutableLongRational();
+        private @Nullable BigRational overflow;
+
+        void reset() {
+            value.set(0, 1);
+            overflow = null;
+        }
+
+        void addProduct(
+                final long multiplicandNumerator,
+                final long multiplicandDenominator,
+                final long multiplierNumerator,
+                final long multiplierDenominator) {
+            var sum = overflow;
+            if (sum == null) {
+                try {
+                    value.addProduct(
+                            multiplicandNumerator, multiplicandDenominator, multiplierNumerator, multiplierDenominator);
+                    return;
+                } catch (final ArithmeticException exception) {
+                    // the value is left unchanged
+                    sum = new BigRational(value.getNumerator(), value.getDenominator());
+                }
+            }
+            overflow = sum.add(new BigRational(multiplicandNumerator, multiplicandDenominator)
+                    .multiply(new BigRational(multiplierNumerator, multiplierDenominator)));
+        }
+
+        LongRational toLongRational() {
+            return overflow == null ? value.toLongRational() : overflow.toLongRational();
+        }
+    }
+}
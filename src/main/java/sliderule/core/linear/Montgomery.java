@@ -0,0 +1,94 @@
+package sliderule.core.linear;
+
+import sliderule.core.util.Longs;
+
+/**
+ * Arithmetic modulo an odd modulus below 2^63 in Montgomery form with R = 2^64
+ *
+ * <p>A residue a is represented by a R mod modulus, so a product needs two 128-bit multiplications and no division. The
+ * representation of 0 is 0, so zero tests need no conversion.
+ */
+final class Montgomery {
+    private final long modulus;
+    private final long negatedInverse;
+    private final long rSquared;
+    private final long rCubed;
+
+    /**
+     * Constructor
+     *
+     * @param modulus odd modulus in [3, 2^63)
+     */
+    Montgomery(final long modulus) {
+        this.modulus = modulus;
+        // Newton iteration doubles the number of correct low bits of the inverse modulo 2^64, starting with 3
+        var inverse = modulus;
+        for (var i = 0; i < 5; i++) {
+            inverse *= 2 - modulus * inverse;
+        }
+        negatedInverse = -inverse;
+        final var r = Long.remainderUnsigned(-modulus, modulus);
+        rSquared = Longs.mulMod(r, r, modulus);
+        rCubed = multiply(rSquared, rSquared);
+    }
+
+    long modulus() {
+        return modulus;
+    }
+
+    /** Returns the Montgomery form of an arbitrary long */
+    long residue(final long value) {
+        return multiply(Math.floorMod(value, modulus), rSquared);
+    }
+
+    /** Returns the residue in [0, modulus) of the Montgomery form */
+    long value(final long montgomery) {
+        return reduce(0, montgomery);
+    }
+
+    long multiply(final long a, final long b) {
+        return reduce(Math.multiplyHigh(a, b), a * b);
+    }
+
+    long add(final long a, final long b) {
+        final var sum = a + b;
+        return Long.compareUnsigned(sum, modulus) >= 0 ? sum - modulus : sum;
+    }
+
+    long subtract(final long a, final long b) {
+        final var difference = a - b;
+        return difference < 0 ? difference + modulus : difference;
+    }
+
+    /** Returns the Montgomery form of the inverse of a non zero Montgomery form */
+    long inverse(final long montgomery) {
+        // the plain inverse of a R is a^-1 R^-1, and multiplying by R^3 gives a^-1 R
+        return multiply(plainInverse(montgomery), rCubed);
+    }
+
+    /** Returns (high 2^64 + low) R^-1 mod modulus for high < modulus */
+    private long reduce(final long high, final long low) {
+        final var m = low * negatedInverse;
+        // low + m * modulus is divisible by 2^64, so its low word carries exactly when low is not 0
+        final var t = high + Longs.unsignedMultiplyHigh(m, modulus) + (low != 0 ? 1 : 0);
+        return Long.compareUnsigned(t, modulus) >= 0 ? t - modulus : t;
+    }
+
+    /** Returns the inverse of a in [1, modulus) by the extended Euclidean algorithm */
+    private long plainInverse(final long a) {
+        var r0 = modulus;
+        var r1 = a;
+        var t0 = 0L;
+        var t1 = 1L;
+        while (r1 != 0) {
+            final var q = r0 / r1;
+            final var r2 = r0 - q * r1;
+            r0 = r1;
+            r1 = r2;
+            final var t2 = t0 - q * t1;
+            t0 = t1;
+            t1 = t2;
+        }
+        return t0 < 0 ? t0 + modulus : t0;
+    }
+}
@@ -0,0 +1,423 @@
+package sliderule.core.linear;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.number.BigRational;
+import sliderule.core.number.LongRationalArray;
+import sliderule.core.util.Longs;
+
+/**
+ * Exact solver of square rational linear systems A x = b by multi-modular elimination
+ *
+ * <p>The system is solved modulo the largest primes below 2^63 with Gaussian elimination in primitive long arithmetic,
+ * one {@link ForkJoinPool} task per prime. The solutions are combined by the Chinese remainder theorem and the rational
+ * entries are recovered by rational reconstruction with a common denominator. Primes are added in growing batches until
+ * the reconstructed solution satisfies the system exactly, which usually happens long before the Hadamard bound of the
+ * solution is reached. Primes that divide a denominator are skipped. When more primes divide the determinant than a non
+ * zero determinant can have, which happens for singular matrices, fraction-free Bareiss elimination decides exactly.
+ */
+public final class MultiModularSolver {
+    private static final List<Long> PRIMES = new ArrayList<>();
+
+    private MultiModularSolver() {}
+
+    /**
+     * Returns the solution of matrix x = vector computed in the common pool
+     *
+     * @param matrix square matrix
+     * @param vector right-hand side
+     * @return canonical solution
+     * @throws NullPointerException when matrix or vector is null
+     * @throws IllegalArgumentException when matrix is not square, vector.length differs from its rows or matrix is
+     *     singular
+     */
+    public static @NonNull BigRational @NonNull [] solve(
+            final @NonNull LongRationalMatrix matrix, final @NonNull LongRationalArray vector) {
+        return solve(matrix, vector, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the solution of matrix x = vector computed in the pool
+     *
+     * @param matrix square matrix
+     * @param vector right-hand side
+     * @param pool pool
+     * @return canonical solution
+     * @throws NullPointerException when matrix, vector or pool is null
+     * @throws IllegalArgumentException when matrix is not square, vector.length differs from its rows or matrix is
+     *     singular
+     */
+    public static @NonNull BigRational @NonNull [] solve(
+            final @NonNull LongRationalMatrix matrix,
+            final @NonNull LongRationalArray vector,
+            final @NonNull ForkJoinPool pool) {
+        Objects.requireNonNull(matrix, "matrix");
+        Objects.requireNonNull(vector, "vector");
+        Objects.requireNonNull(pool, "pool");
+        requireSystem(matrix, vector);
+        final var size = matrix.rows();
+        if (size == 0) {
+            return new BigRational[0];
+        }
+        final var hadamardBits = hadamardBits(matrix, vector);
+        // the numerators and the denominator of the solution are bounded by the Hadamard bound H, so a modulus above
+        // 2 H^2 guarantees the reconstruction, and a non zero determinant has at most hadamardBits / 62 of the primes
+        final var maxModulusBits = 2 * hadamardBits + 2;
+        final var maxSingularPrimes = hadamardBits / 62 + 1;
+        var residues = new BigInteger[size];
+        Arrays.fill(residues, BigInteger.ZERO);
+        var modulus = BigInteger.ONE;
+        var nextPrime = 0;
+        var singular = 0L;
+        var batch = Math.max(2, pool.getParallelism());
+        while (modulus.bitLength() <= maxModulusBits && singular <= maxSingularPrimes) {
+            final var tasks = new ArrayList<ModularTask>(batch);
+            for (var i = 0; i < batch; i++) {
+                tasks.add(new ModularTask(matrix, vector, prime(nextPrime++)));
+            }
+            tasks.forEach(pool::execute);
+            for (final var task : tasks) {
+                final var solution = task.join();
+                if (solution == null) {
+                    if (!task.divisibleDenominator) {
+                        singular++;
+                    }
+                    continue;
+                }
+                residues = combine(residues, modulus, solution, task.montgomery.modulus());
+                modulus = modulus.multiply(BigInteger.valueOf(task.montgomery.modulus()));
+            }
+            if (!BigInteger.ONE.equals(modulus)) {
+                final var candidate = reconstruct(residues, modulus);
+                if (candidate != null && satisfies(matrix, vector, candidate)) {
+                    return candidate.toBigRationals();
+                }
+            }
+            batch *= 2;
+        }
+        return bareiss(matrix, vector);
+    }
+
+    /**
+     * Returns the solution of matrix x = vector by fraction-free Bareiss elimination of the rows cleared of
+     * denominators
+     *
+     * @throws IllegalArgumentException when matrix is singular
+     */
+    static @NonNull BigRational @NonNull [] bareiss(
+            final @NonNull LongRationalMatrix matrix, final @NonNull LongRationalArray vector) {
+        final var size = matrix.rows();
+        final var rows = new BigInteger[size][];
+        for (var i = 0; i < size; i++) {
+            rows[i] = clearedRow(matrix, vector, i);
+        }
+        var previous = BigInteger.ONE;
+        for (var k = 0; k < size; k++) {
+            var pivot = k;
+            while (pivot < size && rows[pivot][k].signum() == 0) {
+                pivot++;
+            }
+            if (pivot == size) {
+                throw new IllegalArgumentException("Expected non-singular matrix");
+            }
+            final var swap = rows[k];
+            rows[k] = rows[pivot];
+            rows[pivot] = swap;
+            for (var i = k + 1; i < size; i++) {
+                for (var j = k + 1; j <= size; j++) {
+                    rows[i][j] = rows[i][j]
+                            .multiply(rows[k][k])
+                            .subtract(rows[i][k].multiply(rows[k][j]))
+                            .divide(previous);
+                }
+                rows[i][k] = BigInteger.ZERO;
+            }
+            previous = rows[k][k];
+        }
+        final var solution = new BigRational[size];
+        for (var i = size - 1; i >= 0; i--) {
+            var sum = new BigRational(rows[i][size], BigInteger.ONE);
+            for (var j = i + 1; j < size; j++) {
+                sum = sum.subtract(solution[j].multiply(new BigRational(rows[i][j], BigInteger.ONE)));
+            }
+            solution[i] =
+                    sum.divide(new BigRational(rows[i][i], BigInteger.ONE)).canonical();
+        }
+        return solution;
+    }
+
+    /** Returns the prime with the index among the primes below 2^63 in descending order */
+    static long prime(final int index) {
+        synchronized (PRIMES) {
+            var candidate = PRIMES.isEmpty() ? Long.MAX_VALUE : PRIMES.get(PRIMES.size() - 1) - 2;
+            while (PRIMES.size() <= index) {
+                if (Longs.isPrime(candidate)) {
+                    PRIMES.add(candidate);
+                }
+                candidate -= 2;
+            }
+            return PRIMES.get(index);
+        }
+    }
+
+    private static void requireSystem(final LongRationalMatrix matrix, final LongRationalArray vector) {
+        if (matrix.rows() != matrix.columns()) {
+            throw new IllegalArgumentException(
+                    "Expected square matrix but rows=" + matrix.rows() + " and columns=" + matrix.columns());
+        }
+        if (vector.length() != matrix.rows()) {
+            throw new IllegalArgumentException(
+                    "Expected vector.length=" + matrix.rows() + " but vector.length=" + vector.length());
+        }
+    }
+
+    /** Returns row i of the augmented matrix (matrix | vector) multiplied by the lcm of its denominators */
+    private static BigInteger[] clearedRow(
+            final LongRationalMatrix matrix, final LongRationalArray vector, final int i) {
+        final var size = matrix.rows();
+        var lcm = BigInteger.valueOf(vector.getDenominator(i));
+        for (var j = 0; j < size; j++) {
+            final var denominator = BigInteger.valueOf(matrix.getDenominator(i, j));
+            lcm = lcm.divide(lcm.gcd(denominator)).multiply(denominator);
+        }
+        final var row = new BigInteger[size + 1];
+        for (var j = 0; j < size; j++) {
+            row[j] = BigInteger.valueOf(matrix.getNumerator(i, j))
+                    .multiply(lcm.divide(BigInteger.valueOf(matrix.getDenominator(i, j))));
+        }
+        row[size] = BigInteger.valueOf(vector.getNumerator(i))
+                .multiply(lcm.divide(BigInteger.valueOf(vector.getDenominator(i))));
+        return row;
+    }
+
+    /** Returns the binary logarithm of the product of the Euclidean norms of the cleared augmented rows rounded up */
+    private static long hadamardBits(final LongRationalMatrix matrix, final LongRationalArray vector) {
+        var bits = 0L;
+        for (var i = 0; i < matrix.rows(); i++) {
+            var squaredNorm = BigInteger.ZERO;
+            for (final var entry : clearedRow(matrix, vector, i)) {
+                squaredNorm = squaredNorm.add(entry.multiply(entry));
+            }
+            bits += (squaredNorm.bitLength() + 1) / 2;
+        }
+        return bits;
+    }
+
+    /** Returns the residues modulo modulus p that are congruent to residues modulo modulus and to solution modulo p */
+    private static BigInteger[] combine(
+            final BigInteger[] residues, final BigInteger modulus, final long[] solution, final long prime) {
+        final var bigPrime = BigInteger.valueOf(prime);
+        final var inverse = modulus.mod(bigPrime).modInverse(bigPrime).longValue();
+        final var combined = new BigInteger[solution.length];
+        for (var j = 0; j < solution.length; j++) {
+            final var difference =
+                    Math.floorMod(solution[j] - residues[j].mod(bigPrime).longValue(), prime);
+            combined[j] =
+                    residues[j].add(modulus.multiply(BigInteger.valueOf(Longs.mulMod(difference, inverse, prime))));
+        }
+        return combined;
+    }
+
+    /**
+     * Returns the rationals whose residues modulo modulus are the residues, or null when they are too large
+     *
+     * <p>Every residue is multiplied by the common denominator of the entries reconstructed so far first, so that most
+     * entries are recognized as integers with respect to the common denominator.
+     */
+    private static @Nullable Candidate reconstruct(final BigInteger[] residues, final BigInteger modulus) {
+        final var bound = modulus.shiftRight(1).sqrt();
+        final var numerators = new BigInteger[residues.length];
+        var denominator = BigInteger.ONE;
+        for (var j = 0; j < residues.length; j++) {
+            final var scaled = residues[j].multiply(denominator).mod(modulus);
+            if (scaled.compareTo(bound) <= 0) {
+                numerators[j] = scaled;
+                continue;
+            }
+            if (modulus.subtract(scaled).compareTo(bound) <= 0) {
+                numerators[j] = scaled.subtract(modulus);
+                continue;
+            }
+            final var fraction = reconstruct(scaled, modulus, bound);
+            if (fraction == null) {
+                return null;
+            }
+            for (var k = 0; k < j; k++) {
+                numerators[k] = numerators[k].multiply(fraction[1]);
+            }
+            numerators[j] = fraction[0];
+            denominator = denominator.multiply(fraction[1]);
+            if (denominator.compareTo(bound) > 0) {
+                return null;
+            }
+        }
+        return new Candidate(numerators, denominator);
+    }
+
+    /** Returns {a, b} with a / b = value modulo modulus and |a|, b <= bound, or null when there is none */
+    private static BigInteger @Nullable [] reconstruct(
+            final BigInteger value, final BigInteger modulus, final BigInteger bound) {
+        var r0 = modulus;
+        var r1 = value;
+        var t0 = BigInteger.ZERO;
+        var t1 = BigInteger.ONE;
+        while (r1.compareTo(bound) > 0) {
+            final var quotientAndRemainder = r0.divideAndRemainder(r1);
+            r0 = r1;
+            r1 = quotientAndRemainder[1];
+            final var t2 = t0.subtract(quotientAndRemainder[0].multiply(t1));
+            t0 = t1;
+            t1 = t2;
+        }
+        if (t1.abs().compareTo(bound) > 0 || !BigInteger.ONE.equals(r1.gcd(t1))) {
+            return null;
+        }
+        return t1.signum() < 0 ? new BigInteger[] {r1.negate(), t1.negate()} : new BigInteger[] {r1, t1};
+    }
+
+    /** Indicates if the candidate solves the system exactly */
+    private static boolean satisfies(
+            final LongRationalMatrix matrix, final LongRationalArray vector, final Candidate candidate) {
+        final var size = matrix.rows();
+        for (var i = 0; i < size; i++) {
+            final var row = clearedRow(matrix, vector, i);
+            var sum = BigInteger.ZERO;
+            for (var j = 0; j < size; j++) {
+                sum = sum.add(row[j].multiply(candidate.numerators[j]));
+            }
+            if (!sum.equals(row[size].multiply(candidate.denominator))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Solution numerators / denominator */
+    private record Candidate(BigInteger[] numerators, BigInteger denominator) {
+        BigRational[] toBigRationals() {
+            final var solution = new BigRational[numerators.length];
+            for (var j = 0; j < numerators.length; j++) {
+                solution[j] = new BigRational(numerators[j], denominator).canonical();
+            }
+            return solution;
+        }
+    }
+
+    /** Solves the system modulo one prime, null when the prime divides the determinant or a denominator */
+    private static final class ModularTask extends RecursiveTask<long @Nullable []> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient LongRationalMatrix matrix;
+        private final transient LongRationalArray vector;
+        private final transient Montgomery montgomery;
+        private boolean divisibleDenominator;
+
+        ModularTask(final LongRationalMatrix matrix, final LongRationalArray vector, final long prime) {
+            this.matrix = matrix;
+            this.vector = vector;
+            montgomery = new Montgomery(prime);
+        }
+
+        @Override
+        protected long @Nullable [] compute() {
+            final var size = matrix.rows();
+            final var width = size + 1;
+            final var augmented = new long[size * width];
+            for (var i = 0; i < size; i++) {
+                if (!loadRow(i, augmented, i * width)) {
+                    divisibleDenominator = true;
+                    return null;
+                }
+            }
+            for (var k = 0; k < size; k++) {
+                var pivot = k;
+                while (pivot < size && augmented[pivot * width + k] == 0) {
+                    pivot++;
+                }
+                if (pivot == size) {
+                    return null;
+                }
+                swapRows(augmented, width, k, pivot);
+                final var offset = k * width;
+                final var inverse = montgomery.inverse(augmented[offset + k]);
+                for (var j = k; j < width; j++) {
+                    augmented[offset + j] = montgomery.multiply(augmented[offset + j], inverse);
+                }
+                for (var i = k + 1; i < size; i++) {
+                    final var rowOffset = i * width;
+                    final var factor = augmented[rowOffset + k];
+                    if (factor == 0) {
+                        continue;
+                    }
+                    for (var j = k; j < width; j++) {
+                        augmented[rowOffset + j] = montgomery.subtract(
+                                augmented[rowOffset + j], montgomery.multiply(factor, augmented[offset + j]));
+                    }
+                }
+            }
+            // the pivots are 1, so back substitution needs no inverses
+            final var solution = new long[size];
+            for (var i = size - 1; i >= 0; i--) {
+                final var offset = i * width;
+                var sum = augmented[offset + size];
+                for (var j = i + 1; j < size; j++) {
+                    sum = montgomery.subtract(sum, montgomery.multiply(augmented[offset + j], solution[j]));
+                }
+                solution[i] = sum;
+            }
+            for (var i = 0; i < size; i++) {
+                solution[i] = montgomery.value(solution[i]);
+            }
+            return solution;
+        }
+
+        /**
+         * Loads the residues of row i of (matrix | vector) and inverts the denominators with a single inversion by
+         * Montgomery's trick
+         *
+         * @return false when the prime divides a denominator
+         */
+        private boolean loadRow(final int i, final long[] augmented, final int offset) {
+            final var size = matrix.rows();
+            // the prefix products of the denominators go to the row first
+            var product = montgomery.residue(1);
+            for (var j = 0; j <= size; j++) {
+                final var denominator =
+                        montgomery.residue(j < size ? matrix.getDenominator(i, j) : vector.getDenominator(i));
+                if (denominator == 0) {
+                    return false;
+                }
+                augmented[offset + j] = product;
+                product = montgomery.multiply(product, denominator);
+            }
+            var inverse = montgomery.inverse(product);
+            for (var j = size; j >= 0; j--) {
+                final var denominator =
+                        montgomery.residue(j < size ? matrix.getDenominator(i, j) : vector.getDenominator(i));
+                final var numerator = montgomery.residue(j < size ? matrix.getNumerator(i, j) : vector.getNumerator(i));
+                augmented[offset + j] =
+                        montgomery.multiply(numerator, montgomery.multiply(augmented[offset + j], inverse));
+                inverse = montgomery.multiply(inverse, denominator);
+            }
+            return true;
+        }
+
+        private static void swapRows(final long[] augmented, final int width, final int a, final int b) {
+            if (a == b) {
+                return;
+            }
+            for (var j = 0; j < width; j++) {
+                final var swap = augmented[a * width + j];
+                augmented[a * width + j] = augmented[b * width + j];
+                augmented[b * width + j] = swap;
+            }
+        }
+    }
+}
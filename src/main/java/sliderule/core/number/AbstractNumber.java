@@ -213,7 +213,7 @@ abstract class AbstractNumber<N extends AbstractNumber<N>> extends Number implem
     }
 
     @Override
-    public final int intValue() {
+    public int intValue() {
         return toBigDecimal().intValue();
     }
 
@@ -223,12 +223,12 @@ abstract class AbstractNumber<N extends AbstractNumber<N>> extends Number implem
      * @return exact int
      * @throws ArithmeticException when conversion is not exact
      */
-    public final int intValueExact() {
+    public int intValueExact() {
         return toBigDecimal().intValueExact();
     }
 
     @Override
-    public final long longValue() {
+    public long longValue() {
         return toBigDecimal().longValue();
     }
 
@@ -238,17 +238,17 @@ abstract class AbstractNumber<N extends AbstractNumber<N>> extends Number implem
      * @return exact long
      * @throws ArithmeticException when conversion is not exact
      */
-    public final long longValueExact() {
+    public long longValueExact() {
         return toBigDecimal().longValueExact();
     }
 
     @Override
-    public final float floatValue() {
+    public float floatValue() {
         return toBigDecimal().floatValue();
     }
 
     @Override
-    public final double doubleValue() {
+    public double doubleValue() {
         return toBigDecimal().doubleValue();
     }
 
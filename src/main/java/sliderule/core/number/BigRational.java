@@ -0,0 +1,258 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Comparator;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/** Immutable implementation of a rational number with arbitrary precision */
+public final class BigRational extends AbstractRational<BigRational> {
+    /** Comparator */
+    public static final @NonNull Comparator<BigRational> COMPARATOR = Comparable::compareTo;
+
+    /** 0 */
+    public static final @NonNull BigRational ZERO = new BigRational(BigInteger.ZERO, BigInteger.ONE);
+
+    /** 1 */
+    public static final @NonNull BigRational ONE = new BigRational(BigInteger.ONE, BigInteger.ONE);
+
+    private final @NonNull BigInteger numerator;
+    private final @NonNull BigInteger denominator;
+
+    /**
+     * All arguments constructor
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws NullPointerException when numerator or denominator is null
+     * @throws IllegalArgumentException when denominator is 0
+     */
+    public BigRational(final @NonNull BigInteger numerator, final @NonNull BigInteger denominator) {
+        Objects.requireNonNull(numerator, "numerator");
+        Objects.requireNonNull(denominator, "denominator");
+        if (denominator.signum() == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        this.numerator = denominator.signum() < 0 ? numerator.negate() : numerator;
+        this.denominator = denominator.abs();
+    }
+
+    /**
+     * Constructor for long numerator and denominator
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws IllegalArgumentException when denominator is 0
+     */
+    public BigRational(final long numerator, final long denominator) {
+        this(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return numerator.signum() != 0;
+    }
+
+    @Override
+    public boolean isUnit() {
+        return BigInteger.ONE.equals(numerator);
+    }
+
+    @Override
+    public boolean isDyadic() {
+        return denominator.bitCount() == 1;
+    }
+
+    @Override
+    public boolean hasInvisibleDenominator() {
+        return BigInteger.ONE.equals(denominator);
+    }
+
+    @Override
+    public boolean isDecimal() {
+        return BigInteger.ONE.equals(
+                new BigDecimal(denominator).stripTrailingZeros().unscaledValue());
+    }
+
+    @Override
+    public BigRational negate() {
+        return new BigRational(numerator.negate(), denominator);
+    }
+
+    @Override
+    public @NonNull BigRational add(final @NonNull BigRational summand) {
+        Objects.requireNonNull(summand, "summand");
+        return canonical(
+                numerator
+                        .multiply(summand.getDenominator())
+                        .add(summand.getNumerator().multiply(denominator)),
+                denominator.multiply(summand.getDenominator()));
+    }
+
+    @Override
+    public @NonNull BigRational subtract(final @NonNull BigRational subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        return canonical(
+                numerator
+                        .multiply(subtrahend.getDenominator())
+                        .subtract(subtrahend.getNumerator().multiply(denominator)),
+                denominator.multiply(subtrahend.getDenominator()));
+    }
+
+    @Override
+    public @NonNull BigRational multiply(final @NonNull BigRational multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        return canonical(
+                numerator.multiply(multiplier.getNumerator()), denominator.multiply(multiplier.getDenominator()));
+    }
+
+    @Override
+    public @NonNull BigRational divide(final @NonNull BigRational divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        return canonical(numerator.multiply(divisor.getDenominator()), denominator.multiply(divisor.getNumerator()));
+    }
+
+    @Override
+    public @NonNull BigRational invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("must be invertible but is " + this);
+        }
+        return new BigRational(denominator, numerator);
+    }
+
+    @Override
+    public @NonNull BigRational power(final int exponent) {
+        final var base = exponent < 0 ? invert() : this;
+        final var absExponent = Math.absExact(exponent);
+        return new BigRational(
+                base.getNumerator().pow(absExponent), base.getDenominator().pow(absExponent));
+    }
+
+    @Override
+    public int signum() {
+        return numerator.signum();
+    }
+
+    @Override
+    public @NonNull BigRational min(final @NonNull BigRational other) {
+        Objects.requireNonNull(other, "other");
+        return isLessThanOrEqualTo(other) ? this : other;
+    }
+
+    @Override
+    public @NonNull BigRational max(final @NonNull BigRational other) {
+        Objects.requireNonNull(other, "other");
+        return isGreaterThanOrEqualTo(other) ? this : other;
+    }
+
+    @Override
+    public @NonNull BigRational canonical() {
+        final var gcd = numerator.gcd(denominator);
+        return BigInteger.ONE.equals(gcd) ? this : new BigRational(numerator.divide(gcd), denominator.divide(gcd));
+    }
+
+    @Override
+    public @NonNull BigRational positive() {
+        return this;
+    }
+
+    @Override
+    public @NonNull BigRational unaryPlus() {
+        return this;
+    }
+
+    @Override
+    public @NonNull BigDecimal toBigDecimal() {
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), MathContext.UNLIMITED);
+    }
+
+    /**
+     * Returns the canonical representation as {@link LongRational}
+     *
+     * @return LongRational
+     * @throws ArithmeticException when the canonical numerator or denominator does not fit into long
+     */
+    public @NonNull LongRational toLongRational() {
+        final var canonical = canonical();
+        return LongRational.valueOfCanonical(
+                canonical.getNumerator().longValueExact(),
+                canonical.getDenominator().longValueExact());
+    }
+
+    /**
+     * Indicates if the canonical representation fits into {@link LongRational}
+     *
+     * @return boolean
+     */
+    public boolean fitsLongRational() {
+        final var canonical = canonical();
+        return canonical.getNumerator().abs().bitLength() < Long.SIZE
+                && canonical.getDenominator().bitLength() < Long.SIZE;
+    }
+
+    @Override
+    public int compareTo(final @NonNull BigRational other) {
+        Objects.requireNonNull(other, "other");
+        return numerator
+                .multiply(other.getDenominator())
+                .compareTo(other.getNumerator().multiply(denominator));
+    }
+
+    /** Returns the hash code of the canonical representation, so that equal values have equal hash codes */
+    @Override
+    public int hashCode() {
+        final var canonical = canonical();
+        return Objects.hash(canonical.getNumerator(), canonical.getDenominator());
+    }
+
+    /**
+     * Indicates if the other object is a {@link BigRational} with the same value, so that e.g. 1/2 equals 2/4,
+     * consistent with {@link #compareTo(BigRational)}
+     */
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final BigRational that)) {
+            return false;
+        }
+        return numerator.equals(that.getNumerator()) && denominator.equals(that.getDenominator())
+                || numerator
+                        .multiply(that.getDenominator())
+                        .equals(that.getNumerator().multiply(denominator));
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "BigRational{numerator=" + numerator + ", denominator=" + denominator + '}';
+    }
+
+    /**
+     * Numerator
+     *
+     * @return numerator
+     */
+    public @NonNull BigInteger getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Denominator
+     *
+     * @return denominator
+     */
+    public @NonNull BigInteger getDenominator() {
+        return denominator;
+    }
+
+    private static BigRational canonical(final BigInteger numerator, final BigInteger denominator) {
+        return new BigRational(numerator, denominator).canonical();
+    }
+}
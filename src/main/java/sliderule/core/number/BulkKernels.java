@@ -0,0 +1,55 @@
+package sliderule.core.number;
+
+/**
+ * Elementwise kernels over rationals stored in parallel numerator and denominator arrays
+ *
+ * <p>Kernels process the index range [from, to). Denominators are positive. Destinations may be the same arrays as the
+ * operands. All implementations produce identical results; {@link BulkKernelsProvider} selects the fastest one that is
+ * available at runtime.
+ */
+interface BulkKernels {
+    /**
+     * Writes the products of the left and right rationals reduced by the cross gcds, which are canonical when the
+     * operands are canonical
+     *
+     * @throws ArithmeticException when a reduced product does not fit into long
+     */
+    void multiply(
+            long[] leftNumerators,
+            long[] leftDenominators,
+            long[] rightNumerators,
+            long[] rightDenominators,
+            long[] numerators,
+            long[] denominators,
+            int from,
+            int to);
+
+    /** Writes the canonical representations of the rationals */
+    void canonicalize(
+            long[] numerators,
+            long[] denominators,
+            long[] destinationNumerators,
+            long[] destinationDenominators,
+            int from,
+            int to);
+
+    /** Writes if the left rationals are less than the right rationals */
+    void lessThan(
+            long[] leftNumerators,
+            long[] leftDenominators,
+            long[] rightNumerators,
+            long[] rightDenominators,
+            boolean[] destination,
+            int from,
+            int to);
+
+    /** Writes if the left rationals are equal by value to the right rationals */
+    void equalTo(
+            long[] leftNumerators,
+            long[] leftDenominators,
+            long[] rightNumerators,
+            long[] rightDenominators,
+            boolean[] destination,
+            int from,
+            int to);
+}
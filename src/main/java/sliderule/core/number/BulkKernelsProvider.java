@@ -0,0 +1,17 @@
+package sliderule.core.number;
+
+/**
+ * Selects the {@link BulkKernels} implementation
+ *
+ * <p>This is the Java 17 version that always selects {@link ScalarBulkKernels}. The multi-release JAR contains a Java
+ * 21 version that selects vectorized kernels when the module {@code jdk.incubator.vector} is present.
+ */
+final class BulkKernelsProvider {
+    private static final BulkKernels INSTANCE = new ScalarBulkKernels();
+
+    private BulkKernelsProvider() {}
+
+    static BulkKernels get() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,285 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Mutable fixed length array of complex numbers that stores real and imaginary parts interleaved in one double array
+ *
+ * <p>Bulk operations and transforms work in place and neither box nor allocate per element. {@link DoubleComplex} is
+ * used only to get and set single elements.
+ */
+public final class ComplexArray {
+    private final double @NonNull [] data;
+
+    /**
+     * Constructor for an array of zeros
+     *
+     * @param length length
+     * @throws IllegalArgumentException when length is negative or greater than 2^30
+     */
+    public ComplexArray(final int length) {
+        if (length < 0 || length > 1 << 30) {
+            throw new IllegalArgumentException("Expected 0 <= length <= 2^30 but length=" + length);
+        }
+        data = new double[2 * length];
+    }
+
+    /**
+     * Constructor that copies real and imaginary parts
+     *
+     * @param reals real parts
+     * @param imaginaries imaginary parts
+     * @throws NullPointerException when reals or imaginaries is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public ComplexArray(final double @NonNull [] reals, final double @NonNull [] imaginaries) {
+        Objects.requireNonNull(reals, "reals");
+        Objects.requireNonNull(imaginaries, "imaginaries");
+        if (reals.length != imaginaries.length) {
+            throw new IllegalArgumentException("Expected equal lengths but reals.length=" + reals.length
+                    + " and imaginaries.length=" + imaginaries.length);
+        }
+        data = new double[2 * reals.length];
+        for (var i = 0; i < reals.length; i++) {
+            data[2 * i] = reals[i];
+            data[2 * i + 1] = imaginaries[i];
+        }
+    }
+
+    /**
+     * Constructor that copies complex numbers
+     *
+     * @param complexes complex numbers
+     * @throws NullPointerException when complexes or one of its elements is null
+     */
+    public ComplexArray(final @NonNull DoubleComplex @NonNull ... complexes) {
+        Objects.requireNonNull(complexes, "complexes");
+        data = new double[2 * complexes.length];
+        for (var i = 0; i < complexes.length; i++) {
+            set(i, complexes[i]);
+        }
+    }
+
+    private ComplexArray(final ComplexArray other) {
+        data = other.data.clone();
+    }
+
+    /**
+     * Length
+     *
+     * @return length
+     */
+    public int length() {
+        return data.length / 2;
+    }
+
+    /**
+     * Returns the element at the index
+     *
+     * @param index index
+     * @return element
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public @NonNull DoubleComplex get(final int index) {
+        Objects.checkIndex(index, length());
+        return new DoubleComplex(data[2 * index], data[2 * index + 1]);
+    }
+
+    /**
+     * Returns the real part of the element at the index
+     *
+     * @param index index
+     * @return real part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double getReal(final int index) {
+        Objects.checkIndex(index, length());
+        return data[2 * index];
+    }
+
+    /**
+     * Returns the imaginary part of the element at the index
+     *
+     * @param index index
+     * @return imaginary part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public double getImaginary(final int index) {
+        Objects.checkIndex(index, length());
+        return data[2 * index + 1];
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param complex complex number
+     * @throws NullPointerException when complex is null
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final @NonNull DoubleComplex complex) {
+        Objects.requireNonNull(complex, "complex");
+        set(index, complex.getReal(), complex.getImaginary());
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param real real part
+     * @param imaginary imaginary part
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final double real, final double imaginary) {
+        Objects.checkIndex(index, length());
+        data[2 * index] = real;
+        data[2 * index + 1] = imaginary;
+    }
+
+    /**
+     * Adds the summands element wise to this array
+     *
+     * @param summands summands
+     * @return this
+     * @throws NullPointerException when summands is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public @NonNull ComplexArray addInPlace(final @NonNull ComplexArray summands) {
+        Objects.requireNonNull(summands, "summands");
+        requireLength(summands.length(), "summands");
+        for (var i = 0; i < data.length; i++) {
+            data[i] += summands.data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies this array element wise by the multipliers
+     *
+     * @param multipliers multipliers
+     * @return this
+     * @throws NullPointerException when multipliers is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public @NonNull ComplexArray multiplyInPlace(final @NonNull ComplexArray multipliers) {
+        Objects.requireNonNull(multipliers, "multipliers");
+        requireLength(multipliers.length(), "multipliers");
+        final var other = multipliers.data;
+        for (var i = 0; i < data.length; i += 2) {
+            final var real = data[i] * other[i] - data[i + 1] * other[i + 1];
+            data[i + 1] = data[i] * other[i + 1] + data[i + 1] * other[i];
+            data[i] = real;
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this array by the real scalar
+     *
+     * @param scalar scalar
+     * @return this
+     */
+    public @NonNull ComplexArray scaleInPlace(final double scalar) {
+        for (var i = 0; i < data.length; i++) {
+            data[i] *= scalar;
+        }
+        return this;
+    }
+
+    /**
+     * Conjugates all elements of this array
+     *
+     * @return this
+     */
+    public @NonNull ComplexArray conjugateInPlace() {
+        for (var i = 1; i < data.length; i += 2) {
+            data[i] = -data[i];
+        }
+        return this;
+    }
+
+    /**
+     * Replaces this array by its discrete Fourier transform
+     *
+     * <p>Computes X[k] = sum x[j] exp(-2 pi i j k / n) without scaling. Lengths whose prime factors are small take O(n
+     * log n) operations. The twiddle factors are computed once per length and cached.
+     *
+     * @return this
+     */
+    public @NonNull ComplexArray fft() {
+        FastFourierTransform.transform(data, false);
+        return this;
+    }
+
+    /**
+     * Replaces this array by its inverse discrete Fourier transform
+     *
+     * <p>Computes x[j] = 1/n sum X[k] exp(2 pi i j k / n), so it reverts {@link #fft()} up to rounding errors.
+     *
+     * @return this
+     */
+    public @NonNull ComplexArray inverseFft() {
+        FastFourierTransform.transform(data, true);
+        return this;
+    }
+
+    /**
+     * Returns a copy of this array
+     *
+     * @return copy
+     */
+    public @NonNull ComplexArray copy() {
+        return new ComplexArray(this);
+    }
+
+    /**
+     * Returns the elements as array of {@link DoubleComplex}
+     *
+     * @return array
+     */
+    public @NonNull DoubleComplex @NonNull [] toArray() {
+        return stream().toArray(DoubleComplex[]::new);
+    }
+
+    /**
+     * Returns the elements as sequential stream of {@link DoubleComplex}
+     *
+     * @return stream
+     */
+    public @NonNull Stream<@NonNull DoubleComplex> stream() {
+        return IntStream.range(0, length()).mapToObj(this::get);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final ComplexArray that)) {
+            return false;
+        }
+        return Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "ComplexArray{data=" + Arrays.toString(data) + '}';
+    }
+
+    private void requireLength(final int length, final String name) {
+        if (length != length()) {
+            throw new IllegalArgumentException(
+                    "Expected " + name + ".length=" + length() + " but " + name + ".length=" + length);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable implementation of a complex number with double precision real and imaginary part
+ *
+ * <p>Arithmetic follows IEEE 754, so it never throws {@link ArithmeticException} but may return infinite or NaN parts.
+ * The order is lexicographic by real and imaginary part and consistent with equals, which compares the parts like
+ * {@link Double#equals(Object)}. Use {@link ComplexArray} for many values.
+ */
+public final class DoubleComplex extends AbstractNumber<DoubleComplex> {
+    /** 0 */
+    public static final @NonNull DoubleComplex ZERO = new DoubleComplex(0, 0);
+
+    /** 1 */
+    public static final @NonNull DoubleComplex ONE = new DoubleComplex(1, 0);
+
+    /** Imaginary unit */
+    public static final @NonNull DoubleComplex I = new DoubleComplex(0, 1);
+
+    private final double real;
+    private final double imaginary;
+
+    /**
+     * All arguments constructor
+     *
+     * @param real real part
+     * @param imaginary imaginary part
+     */
+    public DoubleComplex(final double real, final double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Returns the complex number with the given absolute value and argument
+     *
+     * @param absolute absolute value
+     * @param argument argument in radians
+     * @return complex number
+     */
+    public static @NonNull DoubleComplex polar(final double absolute, final double argument) {
+        return new DoubleComplex(absolute * Math.cos(argument), absolute * Math.sin(argument));
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return real != 0 || imaginary != 0;
+    }
+
+    @Override
+    public @NonNull DoubleComplex negate() {
+        return new DoubleComplex(-real, -imaginary);
+    }
+
+    @Override
+    public @NonNull DoubleComplex add(final @NonNull DoubleComplex summand) {
+        Objects.requireNonNull(summand, "summand");
+        return new DoubleComplex(real + summand.real, imaginary + summand.imaginary);
+    }
+
+    @Override
+    public @NonNull DoubleComplex subtract(final @NonNull DoubleComplex subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        return new DoubleComplex(real - subtrahend.real, imaginary - subtrahend.imaginary);
+    }
+
+    @Override
+    public @NonNull DoubleComplex multiply(final @NonNull DoubleComplex multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        return new DoubleComplex(
+                real * multiplier.real - imaginary * multiplier.imaginary,
+                real * multiplier.imaginary + imaginary * multiplier.real);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Uses the algorithm of Smith, which scales by the larger part of the divisor to avoid premature overflow.
+     */
+    @Override
+    public @NonNull DoubleComplex divide(final @NonNull DoubleComplex divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        return quotient(real, imaginary, divisor.real, divisor.imaginary);
+    }
+
+    @Override
+    public @NonNull DoubleComplex invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("must be invertible but is " + this);
+        }
+        return quotient(1, 0, real, imaginary);
+    }
+
+    @Override
+    public @NonNull DoubleComplex power(final int exponent) {
+        final var base = exponent < 0 ? invert() : this;
+        var powerReal = 1.0;
+        var powerImaginary = 0.0;
+        var squareReal = base.real;
+        var squareImaginary = base.imaginary;
+        var remaining = Math.abs((long) exponent);
+        while (remaining != 0) {
+            if ((remaining & 1) != 0) {
+                final var t = powerReal * squareReal - powerImaginary * squareImaginary;
+                powerImaginary = powerReal * squareImaginary + powerImaginary * squareReal;
+                powerReal = t;
+            }
+            remaining >>>= 1;
+            if (remaining != 0) {
+                final var t = squareReal * squareReal - squareImaginary * squareImaginary;
+                squareImaginary = 2 * squareReal * squareImaginary;
+                squareReal = t;
+            }
+        }
+        return new DoubleComplex(powerReal, powerImaginary);
+    }
+
+    /**
+     * Returns the complex conjugate
+     *
+     * @return conjugate
+     */
+    public @NonNull DoubleComplex conjugate() {
+        return new DoubleComplex(real, -imaginary);
+    }
+
+    /**
+     * Returns the absolute value without intermediate overflow or underflow
+     *
+     * @return absolute value
+     */
+    public double abs() {
+        return Math.hypot(real, imaginary);
+    }
+
+    /**
+     * Returns the argument
+     *
+     * @return argument in radians in [-pi, pi]
+     */
+    public double argument() {
+        return Math.atan2(imaginary, real);
+    }
+
+    @Override
+    public @NonNull DoubleComplex positive() {
+        return this;
+    }
+
+    @Override
+    public @NonNull DoubleComplex unaryPlus() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ArithmeticException when the imaginary part is not 0 or the real part is not finite
+     */
+    @Override
+    public @NonNull BigDecimal toBigDecimal() {
+        if (imaginary != 0) {
+            throw new ArithmeticException("Expected imaginary == 0 but imaginary=" + imaginary);
+        }
+        if (!Double.isFinite(real)) {
+            throw new ArithmeticException("Expected finite real but real=" + real);
+        }
+        return new BigDecimal(real);
+    }
+
+    /** Returns the real part narrowed to int */
+    @Override
+    public int intValue() {
+        return (int) real;
+    }
+
+    /** Returns the real part narrowed to long */
+    @Override
+    public long longValue() {
+        return (long) real;
+    }
+
+    /** Returns the real part narrowed to float */
+    @Override
+    public float floatValue() {
+        return (float) real;
+    }
+
+    /** Returns the real part */
+    @Override
+    public double doubleValue() {
+        return real;
+    }
+
+    @Override
+    public int compareTo(final @NonNull DoubleComplex other) {
+        Objects.requireNonNull(other, "other");
+        final var comparison = Double.compare(real, other.real);
+        return comparison != 0 ? comparison : Double.compare(imaginary, other.imaginary);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(real) + Double.hashCode(imaginary);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final DoubleComplex that)) {
+            return false;
+        }
+        return Double.compare(real, that.real) == 0 && Double.compare(imaginary, that.imaginary) == 0;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "DoubleComplex{real=" + real + ", imaginary=" + imaginary + '}';
+    }
+
+    /**
+     * Real part
+     *
+     * @return real part
+     */
+    public double getReal() {
+        return real;
+    }
+
+    /**
+     * Imaginary part
+     *
+     * @return imaginary part
+     */
+    public double getImaginary() {
+        return imaginary;
+    }
+
+    private static DoubleComplex quotient(final double a, final double b, final double c, final double d) {
+        if (Math.abs(c) >= Math.abs(d)) {
+            final var ratio = d / c;
+            final var scale = c + d * ratio;
+            return new DoubleComplex((a + b * ratio) / scale, (b - a * ratio) / scale);
+        }
+        final var ratio = c / d;
+        final var scale = c * ratio + d;
+        return new DoubleComplex((a * ratio + b) / scale, (b * ratio - a) / scale);
+    }
+}
@@ -0,0 +1,187 @@
+package sliderule.core.number;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mixed radix fast Fourier transform of interleaved complex data
+ *
+ * <p>Implements the self sorting algorithm of Stockham, which needs no bit reversal permutation, with specialized
+ * butterflies for the radices 4 and 2 and a generic butterfly for all other prime factors. So lengths with small prime
+ * factors take O(n log n) operations, while a large prime factor p costs O(n p). All stages take their twiddle factors
+ * from one table of the n-th roots of unity that is computed once per length and cached.
+ */
+final class FastFourierTransform {
+    private static final ConcurrentMap<Integer, double[]> TWIDDLES = new ConcurrentHashMap<>();
+
+    private FastFourierTransform() {}
+
+    /**
+     * Transforms the interleaved data in place
+     *
+     * @param data real and imaginary parts interleaved
+     * @param inverse if the inverse transform, which is scaled by 1/n, is computed
+     */
+    static void transform(final double[] data, final boolean inverse) {
+        final var n = data.length / 2;
+        if (n <= 1) {
+            return;
+        }
+        final var twiddles = TWIDDLES.computeIfAbsent(n, FastFourierTransform::twiddles);
+        final var sign = inverse ? -1.0 : 1.0;
+        var source = data;
+        var target = new double[data.length];
+        var length = n;
+        var stride = 1;
+        while (length > 1) {
+            final var radix = radix(length);
+            final var m = length / radix;
+            if (radix == 4) {
+                radix4(source, target, twiddles, sign, m, stride);
+            } else if (radix == 2) {
+                radix2(source, target, twiddles, sign, m, stride);
+            } else {
+                radixGeneric(source, target, twiddles, sign, radix, m, stride, n);
+            }
+            final var swap = source;
+            source = target;
+            target = swap;
+            length = m;
+            stride *= radix;
+        }
+        if (source != data) {
+            System.arraycopy(source, 0, data, 0, data.length);
+        }
+        if (inverse) {
+            final var scale = 1.0 / n;
+            for (var i = 0; i < data.length; i++) {
+                data[i] *= scale;
+            }
+        }
+    }
+
+    private static void radix2(
+            final double[] x, final double[] y, final double[] w, final double sign, final int m, final int s) {
+        for (var p = 0; p < m; p++) {
+            final var wRe = w[2 * p * s];
+            final var wIm = sign * w[2 * p * s + 1];
+            for (var q = 0; q < s; q++) {
+                final var a = 2 * (q + s * p);
+                final var b = 2 * (q + s * (p + m));
+                final var y0 = 2 * (q + s * 2 * p);
+                final var y1 = y0 + 2 * s;
+                final var dRe = x[a] - x[b];
+                final var dIm = x[a + 1] - x[b + 1];
+                y[y0] = x[a] + x[b];
+                y[y0 + 1] = x[a + 1] + x[b + 1];
+                y[y1] = dRe * wRe - dIm * wIm;
+                y[y1 + 1] = dRe * wIm + dIm * wRe;
+            }
+        }
+    }
+
+    private static void radix4(
+            final double[] x, final double[] y, final double[] w, final double sign, final int m, final int s) {
+        for (var p = 0; p < m; p++) {
+            final var w1Re = w[2 * p * s];
+            final var w1Im = sign * w[2 * p * s + 1];
+            final var w2Re = w[4 * p * s];
+            final var w2Im = sign * w[4 * p * s + 1];
+            final var w3Re = w[6 * p * s];
+            final var w3Im = sign * w[6 * p * s + 1];
+            for (var q = 0; q < s; q++) {
+                final var a0 = 2 * (q + s * p);
+                final var a1 = 2 * (q + s * (p + m));
+                final var a2 = 2 * (q + s * (p + 2 * m));
+                final var a3 = 2 * (q + s * (p + 3 * m));
+                final var bRe = x[a0] + x[a2];
+                final var bIm = x[a0 + 1] + x[a2 + 1];
+                final var cRe = x[a0] - x[a2];
+                final var cIm = x[a0 + 1] - x[a2 + 1];
+                final var dRe = x[a1] + x[a3];
+                final var dIm = x[a1 + 1] + x[a3 + 1];
+                // e multiplied by the fourth root of unity -i, or i for the inverse transform
+                final var eRe = sign * (x[a1 + 1] - x[a3 + 1]);
+                final var eIm = -sign * (x[a1] - x[a3]);
+                final var y0 = 2 * (q + s * 4 * p);
+                final var y1 = y0 + 2 * s;
+                final var y2 = y1 + 2 * s;
+                final var y3 = y2 + 2 * s;
+                y[y0] = bRe + dRe;
+                y[y0 + 1] = bIm + dIm;
+                final var t1Re = cRe + eRe;
+                final var t1Im = cIm + eIm;
+                y[y1] = t1Re * w1Re - t1Im * w1Im;
+                y[y1 + 1] = t1Re * w1Im + t1Im * w1Re;
+                final var t2Re = bRe - dRe;
+                final var t2Im = bIm - dIm;
+                y[y2] = t2Re * w2Re - t2Im * w2Im;
+                y[y2 + 1] = t2Re * w2Im + t2Im * w2Re;
+                final var t3Re = cRe - eRe;
+                final var t3Im = cIm - eIm;
+                y[y3] = t3Re * w3Re - t3Im * w3Im;
+                y[y3 + 1] = t3Re * w3Im + t3Im * w3Re;
+            }
+        }
+    }
+
+    private static void radixGeneric(
+            final double[] x,
+            final double[] y,
+            final double[] w,
+            final double sign,
+            final int r,
+            final int m,
+            final int s,
+            final int n) {
+        final var rootStep = n / r;
+        for (var p = 0; p < m; p++) {
+            for (var q = 0; q < s; q++) {
+                for (var u = 0; u < r; u++) {
+                    var sumRe = 0.0;
+                    var sumIm = 0.0;
+                    for (var t = 0; t < r; t++) {
+                        final var a = 2 * (q + s * (p + t * m));
+                        final var root = 2 * ((t * u) % r) * rootStep;
+                        final var rootRe = w[root];
+                        final var rootIm = sign * w[root + 1];
+                        sumRe += x[a] * rootRe - x[a + 1] * rootIm;
+                        sumIm += x[a] * rootIm + x[a + 1] * rootRe;
+                    }
+                    final var twiddle = 2 * p * u * s;
+                    final var wRe = w[twiddle];
+                    final var wIm = sign * w[twiddle + 1];
+                    final var target = 2 * (q + s * (r * p + u));
+                    y[target] = sumRe * wRe - sumIm * wIm;
+                    y[target + 1] = sumRe * wIm + sumIm * wRe;
+                }
+            }
+        }
+    }
+
+    private static int radix(final int length) {
+        if ((length & 3) == 0) {
+            return 4;
+        }
+        if ((length & 1) == 0) {
+            return 2;
+        }
+        for (var factor = 3; factor * factor <= length; factor += 2) {
+            if (length % factor == 0) {
+                return factor;
+            }
+        }
+        return length;
+    }
+
+    /** Returns cos(2 pi k / n) and -sin(2 pi k / n) interleaved for k in [0, n) */
+    private static double[] twiddles(final int n) {
+        final var twiddles = new double[2 * n];
+        for (var k = 0; k < n; k++) {
+            final var angle = 2 * Math.PI * k / n;
+            twiddles[2 * k] = Math.cos(angle);
+            twiddles[2 * k + 1] = -Math.sin(angle);
+        }
+        return twiddles;
+    }
+}
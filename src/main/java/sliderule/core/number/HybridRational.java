@@ -0,0 +1,280 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable implementation of a rational number that is backed by a {@link LongRational} as long as the canonical
+ * representation fits into long and by a {@link BigRational} otherwise
+ *
+ * <p>Operations on two long backed rationals use the long arithmetic and are promoted to {@link BigRational} only when
+ * they overflow. Results whose canonical representation fits into long again are demoted.
+ */
+public final class HybridRational extends AbstractRational<HybridRational> {
+    /** Comparator */
+    public static final @NonNull Comparator<HybridRational> COMPARATOR = Comparable::compareTo;
+
+    /** 0 */
+    public static final @NonNull HybridRational ZERO = new HybridRational(LongRational.ZERO);
+
+    /** 1 */
+    public static final @NonNull HybridRational ONE = new HybridRational(LongRational.ONE);
+
+    private final @Nullable LongRational longRational;
+    private final @Nullable BigRational bigRational;
+
+    /**
+     * Constructor for a long backed rational
+     *
+     * @param longRational LongRational
+     * @throws NullPointerException when longRational is null
+     */
+    public HybridRational(final @NonNull LongRational longRational) {
+        Objects.requireNonNull(longRational, "longRational");
+        this.longRational = longRational.canonical();
+        bigRational = null;
+    }
+
+    /**
+     * Constructor that demotes to a long backed rational when the canonical representation fits into long
+     *
+     * @param bigRational BigRational
+     * @throws NullPointerException when bigRational is null
+     */
+    public HybridRational(final @NonNull BigRational bigRational) {
+        Objects.requireNonNull(bigRational, "bigRational");
+        final var canonical = bigRational.canonical();
+        if (canonical.fitsLongRational()) {
+            longRational = canonical.toLongRational();
+            this.bigRational = null;
+        } else {
+            longRational = null;
+            this.bigRational = canonical;
+        }
+    }
+
+    /**
+     * Constructor for long numerator and denominator
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws IllegalArgumentException when denominator is 0
+     */
+    public HybridRational(final long numerator, final long denominator) {
+        this(new LongRational(numerator, denominator));
+    }
+
+    /**
+     * Indicates if this rational is backed by a {@link LongRational}
+     *
+     * @return boolean
+     */
+    public boolean isLongRational() {
+        return longRational != null;
+    }
+
+    /**
+     * Returns this as {@link LongRational}
+     *
+     * @return LongRational
+     * @throws ArithmeticException when this does not fit into {@link LongRational}
+     */
+    public @NonNull LongRational toLongRational() {
+        if (longRational == null) {
+            throw new ArithmeticException("Expected LongRational but is " + bigRational);
+        }
+        return longRational;
+    }
+
+    /**
+     * Returns this as {@link BigRational}
+     *
+     * @return BigRational
+     */
+    public @NonNull BigRational toBigRational() {
+        return longRational != null ? longRational.toBigRational() : Objects.requireNonNull(bigRational);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return signum() != 0;
+    }
+
+    @Override
+    public boolean isUnit() {
+        return longRational != null ? longRational.isUnit() : toBigRational().isUnit();
+    }
+
+    @Override
+    public boolean isDyadic() {
+        return longRational != null ? longRational.isDyadic() : toBigRational().isDyadic();
+    }
+
+    @Override
+    public boolean hasInvisibleDenominator() {
+        return longRational != null
+                ? longRational.hasInvisibleDenominator()
+                : toBigRational().hasInvisibleDenominator();
+    }
+
+    @Override
+    public boolean isDecimal() {
+        return longRational != null ? longRational.isDecimal() : toBigRational().isDecimal();
+    }
+
+    @Override
+    public HybridRational negate() {
+        return longRational != null
+                ? new HybridRational(longRational.negate())
+                : new HybridRational(toBigRational().negate());
+    }
+
+    @Override
+    public @NonNull HybridRational add(final @NonNull HybridRational summand) {
+        Objects.requireNonNull(summand, "summand");
+        if (longRational != null && summand.longRational != null) {
+            try {
+                return new HybridRational(longRational.add(summand.longRational));
+            } catch (final ArithmeticException overflow) {
+                return new HybridRational(toBigRational().add(summand.toBigRational()));
+            }
+        }
+        return new HybridRational(toBigRational().add(summand.toBigRational()));
+    }
+
+    @Override
+    public @NonNull HybridRational subtract(final @NonNull HybridRational subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        if (longRational != null && subtrahend.longRational != null) {
+            try {
+                return new HybridRational(longRational.subtract(subtrahend.longRational));
+            } catch (final ArithmeticException overflow) {
+                return new HybridRational(toBigRational().subtract(subtrahend.toBigRational()));
+            }
+        }
+        return new HybridRational(toBigRational().subtract(subtrahend.toBigRational()));
+    }
+
+    @Override
+    public @NonNull HybridRational multiply(final @NonNull HybridRational multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        if (longRational != null && multiplier.longRational != null) {
+            try {
+                return new HybridRational(longRational.multiply(multiplier.longRational));
+            } catch (final ArithmeticException overflow) {
+                return new HybridRational(toBigRational().multiply(multiplier.toBigRational()));
+            }
+        }
+        return new HybridRational(toBigRational().multiply(multiplier.toBigRational()));
+    }
+
+    @Override
+    public @NonNull HybridRational divide(final @NonNull HybridRational divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        if (longRational != null && divisor.longRational != null) {
+            try {
+                return new HybridRational(longRational.divide(divisor.longRational));
+            } catch (final ArithmeticException overflow) {
+                return new HybridRational(toBigRational().divide(divisor.toBigRational()));
+            }
+        }
+        return new HybridRational(toBigRational().divide(divisor.toBigRational()));
+    }
+
+    @Override
+    public @NonNull HybridRational invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("must be invertible but is " + this);
+        }
+        return longRational != null
+                ? new HybridRational(longRational.invert())
+                : new HybridRational(toBigRational().invert());
+    }
+
+    @Override
+    public @NonNull HybridRational power(final int exponent) {
+        if (longRational != null) {
+            try {
+                return new HybridRational(longRational.power(exponent));
+            } catch (final ArithmeticException overflow) {
+                return new HybridRational(toBigRational().power(exponent));
+            }
+        }
+        return new HybridRational(toBigRational().power(exponent));
+    }
+
+    @Override
+    public int signum() {
+        return longRational != null ? longRational.signum() : toBigRational().signum();
+    }
+
+    @Override
+    public @NonNull HybridRational min(final @NonNull HybridRational other) {
+        Objects.requireNonNull(other, "other");
+        return isLessThanOrEqualTo(other) ? this : other;
+    }
+
+    @Override
+    public @NonNull HybridRational max(final @NonNull HybridRational other) {
+        Objects.requireNonNull(other, "other");
+        return isGreaterThanOrEqualTo(other) ? this : other;
+    }
+
+    @Override
+    public @NonNull HybridRational canonical() {
+        return this;
+    }
+
+    @Override
+    public @NonNull HybridRational positive() {
+        return this;
+    }
+
+    @Override
+    public @NonNull HybridRational unaryPlus() {
+        return this;
+    }
+
+    @Override
+    public @NonNull BigDecimal toBigDecimal() {
+        return longRational != null
+                ? longRational.toBigDecimal()
+                : toBigRational().toBigDecimal();
+    }
+
+    @Override
+    public int compareTo(final @NonNull HybridRational other) {
+        Objects.requireNonNull(other, "other");
+        if (longRational != null && other.longRational != null) {
+            return longRational.compareTo(other.longRational);
+        }
+        return toBigRational().compareTo(other.toBigRational());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(longRational, bigRational);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final HybridRational that)) {
+            return false;
+        }
+        return Objects.equals(longRational, that.longRational) && Objects.equals(bigRational, that.bigRational);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "HybridRational{value=" + (longRational != null ? longRational : bigRational) + '}';
+    }
+}
@@ -0,0 +1,488 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.stream.Collector;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.util.Longs;
+
+/**
+ * Immutable decimal number of an unscaled long value and a scale in [0, {@value #MAX_SCALE}]
+ *
+ * <p>The value is unscaledValue / 10^scale. Addition and subtraction of decimals with the same scale are a single
+ * {@link Math#addExact(long, long)} or {@link Math#subtractExact(long, long)}; otherwise the operand with the smaller
+ * scale is rescaled to the larger one. Operations throw {@link ArithmeticException} when the unscaled value does not
+ * fit into long or the scale exceeds {@value #MAX_SCALE}.
+ *
+ * <p>Equality and comparison are value based, so 1.0 equals 1.00 unlike {@link BigDecimal#equals(Object)}.
+ */
+public final class LongDecimal extends AbstractNumber<LongDecimal> {
+    /** Maximum scale, so that every power of ten up to 10^scale fits into long */
+    public static final int MAX_SCALE = 18;
+
+    /** 0 */
+    public static final @NonNull LongDecimal ZERO = new LongDecimal(0, 0);
+
+    /** 1 */
+    public static final @NonNull LongDecimal ONE = new LongDecimal(1, 0);
+
+    private static final long[] POWERS_OF_TEN = powersOfTen();
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private final long unscaledValue;
+    private final int scale;
+
+    /**
+     * All arguments constructor
+     *
+     * @param unscaledValue unscaled value
+     * @param scale scale
+     * @throws IllegalArgumentException when scale is not in [0, {@value #MAX_SCALE}]
+     */
+    public LongDecimal(final long unscaledValue, final int scale) {
+        requireScale(scale);
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns the integer with scale 0
+     *
+     * @param integer integer
+     * @return decimal
+     */
+    public static @NonNull LongDecimal valueOf(final long integer) {
+        return new LongDecimal(integer, 0);
+    }
+
+    /**
+     * Returns the exact decimal of a rational
+     *
+     * @param rational rational whose canonical denominator is 2^a 5^b
+     * @return decimal with the smallest scale
+     * @throws NullPointerException when rational is null
+     * @throws ArithmeticException when the rational has no decimal representation with scale up to {@value #MAX_SCALE}
+     *     or the unscaled value does not fit into long
+     */
+    public static @NonNull LongDecimal valueOf(final @NonNull LongRational rational) {
+        Objects.requireNonNull(rational, "rational");
+        final var canonical = rational.canonical();
+        final var denominator = canonical.getDenominator();
+        final var twos = Long.numberOfTrailingZeros(denominator);
+        var fives = denominator >>> twos;
+        var newScale = 0;
+        while (fives % 5 == 0) {
+            fives /= 5;
+            newScale++;
+        }
+        if (fives != 1) {
+            throw new ArithmeticException("Expected decimal denominator but rational=" + rational);
+        }
+        newScale = Math.max(newScale, twos);
+        if (newScale > MAX_SCALE) {
+            throw new ArithmeticException("Expected scale <= " + MAX_SCALE + " but scale=" + newScale);
+        }
+        return new LongDecimal(
+                Math.multiplyExact(canonical.getNumerator(), POWERS_OF_TEN[newScale] / denominator), newScale);
+    }
+
+    /**
+     * Returns the exact decimal of a BigDecimal
+     *
+     * @param value value
+     * @return decimal with the scale of value or 0 when the scale of value is negative
+     * @throws NullPointerException when value is null
+     * @throws ArithmeticException when the scale exceeds {@value #MAX_SCALE} or the unscaled value does not fit into
+     *     long
+     */
+    public static @NonNull LongDecimal valueOf(final @NonNull BigDecimal value) {
+        Objects.requireNonNull(value, "value");
+        final var normalized = value.scale() < 0 ? value.setScale(0) : value;
+        if (normalized.scale() > MAX_SCALE) {
+            throw new ArithmeticException("Expected scale <= " + MAX_SCALE + " but scale=" + normalized.scale());
+        }
+        return new LongDecimal(normalized.unscaledValue().longValueExact(), normalized.scale());
+    }
+
+    /**
+     * Returns a collector of the exact sum with the largest scale of the elements, 0 for no elements
+     *
+     * <p>The collector accumulates into a primitive long and rescales it only when an element with a larger scale
+     * arrives, so a sum of decimals with the same scale runs at the speed of a sum of longs.
+     *
+     * @return collector
+     */
+    public static @NonNull Collector<LongDecimal, ?, LongDecimal> summing() {
+        return Collector.of(
+                Summation::new,
+                Summation::accept,
+                (left, right) -> {
+                    left.accept(right.unscaledValue, right.scale);
+                    return left;
+                },
+                summation -> new LongDecimal(summation.unscaledValue, summation.scale),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return unscaledValue != 0;
+    }
+
+    @Override
+    public @NonNull LongDecimal negate() {
+        return new LongDecimal(Math.negateExact(unscaledValue), scale);
+    }
+
+    @Override
+    public @NonNull LongDecimal add(final @NonNull LongDecimal summand) {
+        Objects.requireNonNull(summand, "summand");
+        if (scale == summand.scale) {
+            return new LongDecimal(Math.addExact(unscaledValue, summand.unscaledValue), scale);
+        }
+        final var newScale = Math.max(scale, summand.scale);
+        return new LongDecimal(
+                Math.addExact(
+                        rescale(unscaledValue, scale, newScale),
+                        rescale(summand.unscaledValue, summand.scale, newScale)),
+                newScale);
+    }
+
+    @Override
+    public @NonNull LongDecimal subtract(final @NonNull LongDecimal subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        if (scale == subtrahend.scale) {
+            return new LongDecimal(Math.subtractExact(unscaledValue, subtrahend.unscaledValue), scale);
+        }
+        final var newScale = Math.max(scale, subtrahend.scale);
+        return new LongDecimal(
+                Math.subtractExact(
+                        rescale(unscaledValue, scale, newScale),
+                        rescale(subtrahend.unscaledValue, subtrahend.scale, newScale)),
+                newScale);
+    }
+
+    /**
+     * Returns the exact product whose scale is the sum of the scales
+     *
+     * <p>Trailing zeros of the product are stripped while its scale exceeds {@value #MAX_SCALE}.
+     */
+    @Override
+    public @NonNull LongDecimal multiply(final @NonNull LongDecimal multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        var product = Math.multiplyExact(unscaledValue, multiplier.unscaledValue);
+        var newScale = scale + multiplier.scale;
+        while (newScale > MAX_SCALE && product % 10 == 0) {
+            product /= 10;
+            newScale--;
+        }
+        if (newScale > MAX_SCALE) {
+            throw new ArithmeticException("Expected scale <= " + MAX_SCALE + " but scale=" + newScale);
+        }
+        return new LongDecimal(product, newScale);
+    }
+
+    /**
+     * Returns the exact quotient with the smallest scale
+     *
+     * @throws ArithmeticException when the quotient has no decimal representation with scale up to {@value #MAX_SCALE}
+     *     or the unscaled value does not fit into long
+     */
+    @Override
+    public @NonNull LongDecimal divide(final @NonNull LongDecimal divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        return valueOf(toLongRational().divide(divisor.toLongRational()));
+    }
+
+    /**
+     * Returns the quotient rounded to the scale
+     *
+     * @param divisor divisor
+     * @param newScale scale of the quotient
+     * @param roundingMode rounding mode
+     * @return quotient
+     * @throws NullPointerException when divisor or roundingMode is null
+     * @throws IllegalArgumentException when divisor is 0 or newScale is not in [0, {@value #MAX_SCALE}]
+     * @throws ArithmeticException when roundingMode is {@link RoundingMode#UNNECESSARY} and rounding is necessary or
+     *     the unscaled value does not fit into long
+     */
+    public @NonNull LongDecimal divide(
+            final @NonNull LongDecimal divisor, final int newScale, final @NonNull RoundingMode roundingMode) {
+        Objects.requireNonNull(divisor, "divisor");
+        Objects.requireNonNull(roundingMode, "roundingMode");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        requireScale(newScale);
+        return valueOf(toBigDecimal().divide(divisor.toBigDecimal(), newScale, roundingMode));
+    }
+
+    @Override
+    public @NonNull LongDecimal invert() {
+        if (isNotInvertible()) {
+            throw new IllegalStateException("must be invertible but is " + this);
+        }
+        return ONE.divide(this);
+    }
+
+    @Override
+    public @NonNull LongDecimal power(final int exponent) {
+        if (exponent < 0) {
+            return invert().power(Math.negateExact(exponent));
+        }
+        final var newScale = (long) scale * exponent;
+        if (newScale > MAX_SCALE) {
+            return valueOf(toLongRational().power(exponent));
+        }
+        return new LongDecimal(Longs.powExact(unscaledValue, exponent), (int) newScale);
+    }
+
+    /**
+     * Returns the decimal with the scale without rounding
+     *
+     * @param newScale scale
+     * @return decimal
+     * @throws IllegalArgumentException when newScale is not in [0, {@value #MAX_SCALE}]
+     * @throws ArithmeticException when rounding is necessary or the unscaled value does not fit into long
+     */
+    public @NonNull LongDecimal setScale(final int newScale) {
+        return setScale(newScale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Returns the decimal with the scale
+     *
+     * @param newScale scale
+     * @param roundingMode rounding mode when the scale decreases
+     * @return decimal
+     * @throws NullPointerException when roundingMode is null
+     * @throws IllegalArgumentException when newScale is not in [0, {@value #MAX_SCALE}]
+     * @throws ArithmeticException when roundingMode is {@link RoundingMode#UNNECESSARY} and rounding is necessary or
+     *     the unscaled value does not fit into long
+     */
+    public @NonNull LongDecimal setScale(final int newScale, final @NonNull RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "roundingMode");
+        requireScale(newScale);
+        if (newScale >= scale) {
+            return newScale == scale ? this : new LongDecimal(rescale(unscaledValue, scale, newScale), newScale);
+        }
+        final var divisor = POWERS_OF_TEN[scale - newScale];
+        final var quotient = unscaledValue / divisor;
+        final var remainder = unscaledValue % divisor;
+        return new LongDecimal(
+                remainder == 0 ? quotient : quotient + roundingIncrement(quotient, remainder, divisor, roundingMode),
+                newScale);
+    }
+
+    /**
+     * Returns the numerically equal decimal with the smallest scale
+     *
+     * @return decimal
+     */
+    public @NonNull LongDecimal stripTrailingZeros() {
+        var stripped = unscaledValue;
+        var newScale = scale;
+        while (newScale > 0 && stripped % 10 == 0) {
+            stripped /= 10;
+            newScale--;
+        }
+        return newScale == scale ? this : new LongDecimal(stripped, newScale);
+    }
+
+    /**
+     * Returns the signum
+     *
+     * @return signum
+     */
+    public int signum() {
+        return Long.signum(unscaledValue);
+    }
+
+    @Override
+    public @NonNull LongDecimal positive() {
+        return this;
+    }
+
+    @Override
+    public @NonNull LongDecimal unaryPlus() {
+        return this;
+    }
+
+    /**
+     * Returns this as canonical {@link LongRational}
+     *
+     * @return rational
+     */
+    public @NonNull LongRational toLongRational() {
+        return LongRational.valueOf(unscaledValue, POWERS_OF_TEN[scale]);
+    }
+
+    @Override
+    public @NonNull BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * Returns the string representation without exponent
+     *
+     * @return string
+     */
+    public @NonNull String toPlainString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public long longValueExact() {
+        if (unscaledValue % POWERS_OF_TEN[scale] != 0) {
+            throw new ArithmeticException("Rounding necessary");
+        }
+        return longValue();
+    }
+
+    /** Divides in double precision when the unscaled value is an exact double, which rounds correctly */
+    @Override
+    public float floatValue() {
+        if (Math.abs(unscaledValue) <= MAX_EXACT_DOUBLE) {
+            return (float) ((double) unscaledValue / POWERS_OF_TEN[scale]);
+        }
+        return toBigDecimal().floatValue();
+    }
+
+    /** Divides in double precision when the unscaled value is an exact double, which rounds correctly */
+    @Override
+    public double doubleValue() {
+        if (Math.abs(unscaledValue) <= MAX_EXACT_DOUBLE) {
+            return (double) unscaledValue / POWERS_OF_TEN[scale];
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    /** Compares the values by their 128-bit rescaled unscaled values, so it never overflows */
+    @Override
+    public int compareTo(final @NonNull LongDecimal other) {
+        Objects.requireNonNull(other, "other");
+        if (scale == other.scale) {
+            return Long.compare(unscaledValue, other.unscaledValue);
+        }
+        final var newScale = Math.max(scale, other.scale);
+        return Longs.compareProducts(
+                unscaledValue,
+                POWERS_OF_TEN[newScale - scale],
+                other.unscaledValue,
+                POWERS_OF_TEN[newScale - other.scale]);
+    }
+
+    /** Returns the hash code of the stripped representation, so that equal values have equal hash codes */
+    @Override
+    public int hashCode() {
+        final var stripped = stripTrailingZeros();
+        return Objects.hash(stripped.unscaledValue, stripped.scale);
+    }
+
+    /** Indicates if the values are equal regardless of the scales */
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final LongDecimal that)) {
+            return false;
+        }
+        return compareTo(that) == 0;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongDecimal{unscaledValue=" + unscaledValue + ", scale=" + scale + '}';
+    }
+
+    /**
+     * Returns the unscaled value
+     *
+     * @return unscaled value
+     */
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * Returns the scale
+     *
+     * @return scale
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    private static void requireScale(final int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Expected scale in [0, " + MAX_SCALE + "] but scale=" + scale);
+        }
+    }
+
+    private static long rescale(final long unscaledValue, final int scale, final int newScale) {
+        return scale == newScale ? unscaledValue : Math.multiplyExact(unscaledValue, POWERS_OF_TEN[newScale - scale]);
+    }
+
+    /** Returns -1, 0 or 1 to add to the truncated quotient of a division with non zero remainder */
+    private static long roundingIncrement(
+            final long quotient, final long remainder, final long divisor, final RoundingMode roundingMode) {
+        final var sign = Long.signum(remainder);
+        final var half = Long.compare(2 * Math.abs(remainder), divisor);
+        final var increment =
+                switch (roundingMode) {
+                    case UP -> true;
+                    case DOWN -> false;
+                    case CEILING -> sign > 0;
+                    case FLOOR -> sign < 0;
+                    case HALF_UP -> half >= 0;
+                    case HALF_DOWN -> half > 0;
+                    case HALF_EVEN -> half > 0 || half == 0 && (quotient & 1) != 0;
+                    case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+                };
+        return increment ? sign : 0;
+    }
+
+    private static long[] powersOfTen() {
+        final var powers = new long[MAX_SCALE + 1];
+        powers[0] = 1;
+        for (var i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
+
+    /** Mutable accumulator of {@link #summing()} */
+    private static final class Summation {
+        private long unscaledValue;
+        private int scale;
+
+        private void accept(final LongDecimal summand) {
+            accept(summand.unscaledValue, summand.scale);
+        }
+
+        private void accept(final long summandUnscaledValue, final int summandScale) {
+            if (summandScale > scale) {
+                unscaledValue = rescale(unscaledValue, scale, summandScale);
+                scale = summandScale;
+            }
+            unscaledValue = Math.addExact(unscaledValue, rescale(summandUnscaledValue, summandScale, scale));
+        }
+    }
+}
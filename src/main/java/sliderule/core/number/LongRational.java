@@ -1,12 +1,14 @@
 package sliderule.core.number;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Comparator;
 import java.util.Objects;
-import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import sliderule.core.number.LongRationalMetrics.Operation;
 import sliderule.core.util.Longs;
 
 /** Immutable implementation of a rational number */
@@ -15,14 +17,29 @@ public final class LongRational extends AbstractRational<LongRational> {
     public static final @NonNull Comparator<LongRational> COMPARATOR = Comparable::compareTo;
 
     /** 0 */
-    public static final @NonNull LongRational ZERO = new LongRational(0, 1);
+    public static final @NonNull LongRational ZERO = valueOfCanonical(0, 1);
 
     /** 1 */
-    public static final @NonNull LongRational ONE = new LongRational(1, 1);
+    public static final @NonNull LongRational ONE = valueOfCanonical(1, 1);
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private static final int MAX_LONG_DECIMAL_SCALE = 18;
+
+    private static final int SIGNIFICAND_BITS = 52;
+    private static final long SIGNIFICAND_MASK = (1L << SIGNIFICAND_BITS) - 1;
+    private static final long IMPLICIT_BIT = 1L << SIGNIFICAND_BITS;
+    private static final long EXPONENT_MASK = 0x7FFL << SIGNIFICAND_BITS;
+
+    /** Bias of the exponent of a double whose significand is read as integer */
+    private static final int EXPONENT_BIAS = Double.MAX_EXPONENT + SIGNIFICAND_BITS;
 
     private final long numerator;
     private final long denominator;
 
+    /** Cached hash code of the canonical representation, 0 when not computed yet */
+    private int hash;
+
     /**
      * All arguments constructor
      *
@@ -40,6 +57,195 @@ public final class LongRational extends AbstractRational<LongRational> {
         this.denominator = Math.absExact(denominator);
     }
 
+    /**
+     * Returns the canonical rational
+     *
+     * <p>Canonical rationals with numerator in [-128, 127] and denominator in [1, 16] are shared instances from a
+     * precomputed table.
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @return canonical rational
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when the canonical numerator or denominator is {@link Long#MIN_VALUE}
+     */
+    public static @NonNull LongRational valueOf(final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        final var gcd = Longs.gcd(numerator, denominator);
+        final var reducedNumerator = numerator / gcd;
+        final var reducedDenominator = denominator / gcd;
+        return reducedDenominator < 0
+                ? valueOfCanonical(Math.negateExact(reducedNumerator), Math.negateExact(reducedDenominator))
+                : valueOfCanonical(reducedNumerator, reducedDenominator);
+    }
+
+    /**
+     * Returns the rational with denominator 1
+     *
+     * <p>Integers in [-128, 127] are shared instances from a precomputed table.
+     *
+     * @param integer integer
+     * @return rational
+     * @throws ArithmeticException when integer is {@link Long#MIN_VALUE}
+     */
+    public static @NonNull LongRational valueOf(final long integer) {
+        return valueOfCanonical(integer, 1);
+    }
+
+    /**
+     * Returns the exact value of a double
+     *
+     * @param value finite value
+     * @return canonical rational
+     * @throws IllegalArgumentException when value is not finite
+     * @throws ArithmeticException when the numerator or denominator does not fit into long
+     */
+    public static @NonNull LongRational fromDouble(final double value) {
+        requireFinite(value);
+        if (value == 0) {
+            return ZERO;
+        }
+        final var bits = Double.doubleToRawLongBits(value);
+        final var significand = oddSignificand(bits);
+        final var exponent = binaryExponent(bits);
+        final var sign = bits < 0 ? -1 : 1;
+        if (exponent >= 0 && exponent < Long.numberOfLeadingZeros(significand)) {
+            return valueOfCanonical(sign * (significand << exponent), 1);
+        }
+        if (exponent < 0 && exponent > -Long.SIZE + 1) {
+            return valueOfCanonical(sign * significand, 1L << -exponent);
+        }
+        throw new ArithmeticException("Expected numerator and denominator in long but value=" + value);
+    }
+
+    /**
+     * Returns the best rational approximation of a double whose denominator does not exceed maxDenominator
+     *
+     * <p>Expands the exact binary value into a continued fraction with long arithmetic and chooses between the last
+     * convergent and the last semiconvergent, preferring the convergent on ties. No objects but the result are
+     * allocated.
+     *
+     * @param value finite value
+     * @param maxDenominator positive maximum denominator
+     * @return canonical rational closest to value
+     * @throws IllegalArgumentException when value is not finite or maxDenominator is not positive
+     * @throws ArithmeticException when the numerator does not fit into long
+     */
+    public static @NonNull LongRational approximate(final double value, final long maxDenominator) {
+        requireFinite(value);
+        requireMaxDenominator(maxDenominator);
+        if (value == 0) {
+            return ZERO;
+        }
+        final var bits = Double.doubleToRawLongBits(value);
+        final var significand = oddSignificand(bits);
+        final var exponent = binaryExponent(bits);
+        final var sign = bits < 0 ? -1 : 1;
+        if (exponent >= 0) {
+            return fromDouble(value);
+        }
+        if (exponent > -Long.SIZE + 1) {
+            return approximate(sign, significand, 1L << -exponent, 0, 1, 1, 0, maxDenominator);
+        }
+        return approximateTiny(sign, significand, -exponent, maxDenominator);
+    }
+
+    /**
+     * Returns the best rational approximation of a decimal whose denominator does not exceed maxDenominator
+     *
+     * <p>Decimals with at most 18 fraction digits and an unscaled value that fits into long are expanded with long
+     * arithmetic like {@link #approximate(double, long)}. Longer decimals take their first continued fraction steps
+     * with {@link BigInteger}.
+     *
+     * @param value value
+     * @param maxDenominator positive maximum denominator
+     * @return canonical rational closest to value
+     * @throws NullPointerException when value is null
+     * @throws IllegalArgumentException when maxDenominator is not positive
+     * @throws ArithmeticException when the numerator does not fit into long
+     */
+    public static @NonNull LongRational approximate(final @NonNull BigDecimal value, final long maxDenominator) {
+        Objects.requireNonNull(value, "value");
+        requireMaxDenominator(maxDenominator);
+        if (value.scale() <= 0) {
+            return valueOf(value.longValueExact());
+        }
+        final var sign = value.signum();
+        final var unscaled = value.unscaledValue();
+        if (value.scale() <= MAX_LONG_DECIMAL_SCALE && unscaled.bitLength() < Long.SIZE - 1) {
+            return approximate(
+                    sign,
+                    Math.abs(unscaled.longValue()),
+                    Longs.powExact(10, value.scale()),
+                    0,
+                    1,
+                    1,
+                    0,
+                    maxDenominator);
+        }
+        return approximateBig(sign, unscaled.abs(), BigInteger.TEN.pow(value.scale()), maxDenominator);
+    }
+
+    /**
+     * Parses a rational in the form {@code n/d}, {@code n} or {@code i.f} with an optional leading sign
+     *
+     * @param text text
+     * @return canonical rational
+     * @throws NullPointerException when text is null
+     * @throws NumberFormatException when text is malformed, its denominator is 0 or its canonical numerator or
+     *     denominator does not fit into long
+     */
+    public static @NonNull LongRational parse(final @NonNull CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a rational in the form {@code n/d}, {@code n} or {@code i.f} with an optional leading sign from a range of
+     * the text without copying it
+     *
+     * @param text text
+     * @param start index of the first char
+     * @param end index after the last char
+     * @return canonical rational
+     * @throws NullPointerException when text is null
+     * @throws IndexOutOfBoundsException when start or end is out of bounds
+     * @throws NumberFormatException when the range is malformed, its denominator is 0 or its canonical numerator or
+     *     denominator does not fit into long
+     */
+    public static @NonNull LongRational parse(final @NonNull CharSequence text, final int start, final int end) {
+        Objects.requireNonNull(text, "text");
+        Objects.checkFromToIndex(start, end, text.length());
+        final var parser = new LongRationalParser();
+        try {
+            for (var i = start; i < end; i++) {
+                parser.accept(text.charAt(i));
+            }
+            parser.complete();
+        } catch (final NumberFormatException exception) {
+            throw new NumberFormatException(exception.getMessage() + " in \"" + text.subSequence(start, end) + '"');
+        }
+        return valueOfCanonical(parser.numerator(), parser.denominator());
+    }
+
+    /**
+     * Returns the rational for a numerator and a positive denominator that are known to be coprime
+     *
+     * @param numerator numerator
+     * @param denominator positive denominator
+     * @return rational
+     */
+    static LongRational valueOfCanonical(final long numerator, final long denominator) {
+        if (numerator >= Cache.MIN_NUMERATOR
+                && numerator <= Cache.MAX_NUMERATOR
+                && denominator <= Cache.MAX_DENOMINATOR) {
+            return Cache.TABLE[Cache.index(numerator, denominator)];
+        }
+        return new LongRational(numerator, denominator);
+    }
+
     @Override
     public boolean isInvertible() {
         return numerator != 0;
@@ -52,8 +258,7 @@ public final class LongRational extends AbstractRational<LongRational> {
 
     @Override
     public boolean isDyadic() {
-        final var quotient = Math.log((double) denominator) / Math.log(2);
-        return (long) Math.ceil(quotient) == (long) Math.floor(quotient);
+        return Longs.isPowerOf(denominator, 2);
     }
 
     @Override
@@ -63,11 +268,7 @@ public final class LongRational extends AbstractRational<LongRational> {
 
     @Override
     public boolean isDecimal() {
-        return Stream.iterate(
-                        BigDecimal.valueOf(denominator),
-                        decimal -> decimal.divide(BigDecimal.TEN, MathContext.UNLIMITED))
-                .limit(String.valueOf(denominator).length())
-                .anyMatch(decimal -> decimal.compareTo(BigDecimal.ONE) == 0);
+        return Longs.isPowerOf(denominator, 10);
     }
 
     @Override
@@ -78,29 +279,53 @@ public final class LongRational extends AbstractRational<LongRational> {
     @Override
     public @NonNull LongRational add(final @NonNull LongRational summand) {
         Objects.requireNonNull(summand, "summand");
-        return new LongRational(
-                Math.addExact(
-                        Math.multiplyExact(summand.getDenominator(), numerator),
-                        Math.multiplyExact(denominator, summand.getNumerator())),
-                Math.multiplyExact(denominator, summand.getDenominator()));
+        final var left = canonical();
+        final var right = summand.canonical();
+        try {
+            return LongRationalMetrics.result(
+                    Operation.ADD,
+                    sum(
+                            Operation.ADD,
+                            left.getNumerator(),
+                            left.getDenominator(),
+                            right.getNumerator(),
+                            right.getDenominator()));
+        } catch (final ArithmeticException overflow) {
+            throw LongRationalMetrics.overflow(Operation.ADD, overflow);
+        }
     }
 
     @Override
     public @NonNull LongRational subtract(final @NonNull LongRational subtrahend) {
         Objects.requireNonNull(subtrahend, "subtrahend");
-        return new LongRational(
-                Math.subtractExact(
-                        Math.multiplyExact(subtrahend.getDenominator(), numerator),
-                        Math.multiplyExact(denominator, subtrahend.getNumerator())),
-                Math.multiplyExact(denominator, subtrahend.getDenominator()));
+        final var left = canonical();
+        final var right = subtrahend.canonical();
+        try {
+            return LongRationalMetrics.result(
+                    Operation.SUBTRACT,
+                    sum(
+                            Operation.SUBTRACT,
+                            left.getNumerator(),
+                            left.getDenominator(),
+                            -right.getNumerator(),
+                            right.getDenominator()));
+        } catch (final ArithmeticException overflow) {
+            throw LongRationalMetrics.overflow(Operation.SUBTRACT, overflow);
+        }
     }
 
     @Override
     public @NonNull LongRational multiply(final @NonNull LongRational multiplier) {
         Objects.requireNonNull(multiplier, "multiplier");
-        return new LongRational(
-                Math.multiplyExact(numerator, multiplier.getNumerator()),
-                Math.multiplyExact(denominator, multiplier.getDenominator()));
+        final var left = canonical();
+        final var right = multiplier.canonical();
+        try {
+            return LongRationalMetrics.result(
+                    Operation.MULTIPLY,
+                    product(left.getNumerator(), left.getDenominator(), right.getNumerator(), right.getDenominator()));
+        } catch (final ArithmeticException overflow) {
+            throw LongRationalMetrics.overflow(Operation.MULTIPLY, overflow);
+        }
     }
 
     @Override
@@ -109,7 +334,20 @@ public final class LongRational extends AbstractRational<LongRational> {
         if (divisor.isNotInvertible()) {
             throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
         }
-        return new LongRational(numerator * divisor.getNumerator(), denominator * divisor.getDenominator());
+        final var left = canonical();
+        final var right = divisor.canonical();
+        final var sign = Long.signum(right.getNumerator());
+        try {
+            return LongRationalMetrics.result(
+                    Operation.DIVIDE,
+                    product(
+                            left.getNumerator(),
+                            left.getDenominator(),
+                            sign * right.getDenominator(),
+                            sign * right.getNumerator()));
+        } catch (final ArithmeticException overflow) {
+            throw LongRationalMetrics.overflow(Operation.DIVIDE, overflow);
+        }
     }
 
     @Override
@@ -122,8 +360,17 @@ public final class LongRational extends AbstractRational<LongRational> {
 
     @Override
     public @NonNull LongRational power(final int exponent) {
-        return new LongRational(
-                (long) Longs.powerExact(numerator, exponent), (long) Longs.powerExact(denominator, exponent));
+        final var base = (exponent < 0 ? invert() : this).canonical();
+        final var absExponent = Math.absExact(exponent);
+        try {
+            return LongRationalMetrics.result(
+                    Operation.POWER,
+                    valueOfCanonical(
+                            Longs.powExact(base.getNumerator(), absExponent),
+                            Longs.powExact(base.getDenominator(), absExponent)));
+        } catch (final ArithmeticException overflow) {
+            throw LongRationalMetrics.overflow(Operation.POWER, overflow);
+        }
     }
 
     @Override
@@ -146,7 +393,7 @@ public final class LongRational extends AbstractRational<LongRational> {
     @Override
     public @NonNull LongRational canonical() {
         final var gcd = Longs.gcd(numerator, denominator);
-        return new LongRational(numerator / gcd, denominator / gcd);
+        return gcd == 1 ? this : valueOfCanonical(numerator / gcd, denominator / gcd);
     }
 
     @Override
@@ -161,22 +408,104 @@ public final class LongRational extends AbstractRational<LongRational> {
 
     @Override
     public @NonNull BigDecimal toBigDecimal() {
+        if (denominator == 1) {
+            return BigDecimal.valueOf(numerator);
+        }
+        LongRationalMetrics.slowPath(Operation.TO_BIG_DECIMAL, numerator, denominator);
         return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), MathContext.UNLIMITED);
     }
 
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public int intValueExact() {
+        return Math.toIntExact(longValueExact());
+    }
+
+    @Override
+    public long longValue() {
+        return numerator / denominator;
+    }
+
+    @Override
+    public long longValueExact() {
+        if (numerator % denominator != 0) {
+            throw new ArithmeticException("Rounding necessary");
+        }
+        return numerator / denominator;
+    }
+
+    /**
+     * Returns the nearest float
+     *
+     * <p>Divides in double precision when numerator and denominator are exact doubles, which rounds correctly to float
+     * because double has more than twice the precision of float. Otherwise an exact quotient is rounded once.
+     */
+    @Override
+    public float floatValue() {
+        if (Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+            return (float) ((double) numerator / denominator);
+        }
+        LongRationalMetrics.slowPath(Operation.FLOAT_VALUE, numerator, denominator);
+        final var shift = quotientShift();
+        return Math.scalb(stickyQuotient(shift).floatValue(), -shift);
+    }
+
+    /**
+     * Returns the nearest double
+     *
+     * <p>Divides in double precision when numerator and denominator are exact doubles, which rounds correctly.
+     * Otherwise an exact quotient is rounded once.
+     */
+    @Override
+    public double doubleValue() {
+        if (Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+            return (double) numerator / denominator;
+        }
+        LongRationalMetrics.slowPath(Operation.DOUBLE_VALUE, numerator, denominator);
+        final var shift = quotientShift();
+        return Math.scalb(stickyQuotient(shift).doubleValue(), -shift);
+    }
+
+    /**
+     * Returns this as {@link BigRational}
+     *
+     * @return BigRational
+     */
+    public @NonNull BigRational toBigRational() {
+        return new BigRational(numerator, denominator);
+    }
+
+    /** Compares the values by their 128-bit cross products, so it never overflows and is consistent with equals */
     @Override
     public int compareTo(final @NonNull LongRational other) {
         Objects.requireNonNull(other, "other");
-        return Long.compare(
-                Math.multiplyExact(other.getDenominator(), numerator),
-                Math.multiplyExact(denominator, other.getNumerator()));
+        return Longs.compareProducts(numerator, other.getDenominator(), other.getNumerator(), denominator);
     }
 
+    /**
+     * Returns the hash code of the canonical representation, so that equal values have equal hash codes
+     *
+     * <p>Mixes the canonical numerator and denominator without boxing and caches the result on first use.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(numerator, denominator);
+        var h = hash;
+        if (h == 0) {
+            h = calculateHashCode();
+            hash = h;
+        }
+        return h;
     }
 
+    /**
+     * Indicates if the other object is a {@link LongRational} with the same value, so that e.g. 1/2 equals 2/4
+     *
+     * <p>Compares the 128-bit cross products, so neither a canonical representation is needed nor can it overflow.
+     */
     @Override
     public boolean equals(final @Nullable Object object) {
         if (this == object) {
@@ -185,7 +514,8 @@ public final class LongRational extends AbstractRational<LongRational> {
         if (!(object instanceof final LongRational that)) {
             return false;
         }
-        return numerator == that.getNumerator() && denominator == that.getDenominator();
+        return numerator == that.getNumerator() && denominator == that.getDenominator()
+                || Longs.compareProducts(numerator, that.getDenominator(), that.getNumerator(), denominator) == 0;
     }
 
     @Override
@@ -193,6 +523,37 @@ public final class LongRational extends AbstractRational<LongRational> {
         return "LongRational{numerator=" + numerator + ", denominator=" + denominator + '}';
     }
 
+    /**
+     * Appends this rational in the form {@code n/d}, which {@link #parse(CharSequence)} reads
+     *
+     * @param appendable appendable
+     * @param <A> type of appendable
+     * @return appendable
+     * @throws NullPointerException when appendable is null
+     * @throws IOException when appending fails
+     */
+    public <A extends Appendable> @NonNull A appendTo(final @NonNull A appendable) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof final StringBuilder builder) {
+            formatTo(builder);
+        } else {
+            LongRationalFormat.append(appendable, numerator, denominator);
+        }
+        return appendable;
+    }
+
+    /**
+     * Appends this rational in the form {@code n/d}, which {@link #parse(CharSequence)} reads
+     *
+     * @param builder builder
+     * @return builder
+     * @throws NullPointerException when builder is null
+     */
+    public @NonNull StringBuilder formatTo(final @NonNull StringBuilder builder) {
+        Objects.requireNonNull(builder, "builder");
+        return builder.append(numerator).append('/').append(denominator);
+    }
+
     /**
      * Numerator
      *
@@ -210,4 +571,260 @@ public final class LongRational extends AbstractRational<LongRational> {
     public long getDenominator() {
         return denominator;
     }
+
+    /** Mixes the canonical numerator and denominator without boxing */
+    private int calculateHashCode() {
+        final var gcd = Longs.gcd(numerator, denominator);
+        var mixed = (numerator / gcd) * 0x9E3779B97F4A7C15L ^ denominator / gcd;
+        mixed = (mixed ^ mixed >>> 32) * 0xD6E8FEB86659FD93L;
+        return (int) (mixed ^ mixed >>> 32);
+    }
+
+    /** Returns the shift that gives the quotient of the shifted numerator and the denominator at least 65 bits */
+    private int quotientShift() {
+        return 65 + Long.numberOfLeadingZeros(Math.abs(numerator)) - Long.numberOfLeadingZeros(denominator);
+    }
+
+    /**
+     * Returns the truncated quotient of the shifted numerator and the denominator with the lowest bit set when the
+     * remainder is not 0, so that rounding the quotient to float or double rounds the exact quotient correctly
+     */
+    private BigInteger stickyQuotient(final int shift) {
+        final var quotientAndRemainder = BigInteger.valueOf(numerator)
+                .abs()
+                .shiftLeft(shift)
+                .divideAndRemainder(BigInteger.valueOf(denominator));
+        final var quotient =
+                quotientAndRemainder[1].signum() == 0 ? quotientAndRemainder[0] : quotientAndRemainder[0].setBit(0);
+        return numerator < 0 ? quotient.negate() : quotient;
+    }
+
+    /**
+     * Returns the canonical sum of two canonical rationals
+     *
+     * <p>Reduces by gcd(b, d) before multiplying as described by Knuth, TAOCP Vol. 2, 4.5.1. Intermediate results that
+     * do not fit into long are computed with {@link BigInteger} so that only a sum whose canonical representation does
+     * not fit throws.
+     */
+    private static LongRational sum(final Operation operation, final long a, final long b, final long c, final long d) {
+        final var gcd = Longs.gcd(b, d);
+        final var bOverGcd = b / gcd;
+        final var dOverGcd = d / gcd;
+        final var left = a * dOverGcd;
+        final var right = c * bOverGcd;
+        final var t = left + right;
+        if (!Longs.multiplyFits(a, dOverGcd) || !Longs.multiplyFits(c, bOverGcd) || ((left ^ t) & (right ^ t)) < 0) {
+            LongRationalMetrics.slowPath(operation, a, b);
+            return canonical(
+                    BigInteger.valueOf(a)
+                            .multiply(BigInteger.valueOf(dOverGcd))
+                            .add(BigInteger.valueOf(c).multiply(BigInteger.valueOf(bOverGcd))),
+                    BigInteger.valueOf(bOverGcd).multiply(BigInteger.valueOf(d)));
+        }
+        final var gcd2 = Longs.gcd(t, gcd);
+        return valueOfCanonical(t / gcd2, Math.multiplyExact(bOverGcd, d / gcd2));
+    }
+
+    /**
+     * Returns the canonical product of two canonical rationals
+     *
+     * <p>Reduces by the cross gcds gcd(a, d) and gcd(c, b) before multiplying as described by Knuth, TAOCP Vol. 2,
+     * 4.5.1, so the product overflows only when its canonical representation does not fit.
+     */
+    private static LongRational product(final long a, final long b, final long c, final long d) {
+        if (a == 0 || c == 0) {
+            return ZERO;
+        }
+        final var gcd1 = Longs.gcd(a, d);
+        final var gcd2 = Longs.gcd(c, b);
+        return valueOfCanonical(Math.multiplyExact(a / gcd1, c / gcd2), Math.multiplyExact(b / gcd2, d / gcd1));
+    }
+
+    private static LongRational canonical(final BigInteger numerator, final BigInteger denominator) {
+        final var gcd = numerator.gcd(denominator);
+        return valueOfCanonical(
+                numerator.divide(gcd).longValueExact(), denominator.divide(gcd).longValueExact());
+    }
+
+    private static void requireFinite(final double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Expected finite value but value=" + value);
+        }
+    }
+
+    private static void requireMaxDenominator(final long maxDenominator) {
+        if (maxDenominator <= 0) {
+            throw new IllegalArgumentException("Expected maxDenominator > 0 but maxDenominator=" + maxDenominator);
+        }
+    }
+
+    /** Returns the odd integer m with |value| = m * 2^e for the non zero double with the given bits */
+    private static long oddSignificand(final long bits) {
+        final var fraction = bits & SIGNIFICAND_MASK;
+        final var significand = (bits & EXPONENT_MASK) == 0 ? fraction : fraction | IMPLICIT_BIT;
+        return significand >>> Long.numberOfTrailingZeros(significand);
+    }
+
+    /** Returns the exponent e with |value| = m * 2^e and odd m for the non zero double with the given bits */
+    private static int binaryExponent(final long bits) {
+        final var biasedExponent = (int) ((bits & EXPONENT_MASK) >>> SIGNIFICAND_BITS);
+        final var fraction = bits & SIGNIFICAND_MASK;
+        final var significand = biasedExponent == 0 ? fraction : fraction | IMPLICIT_BIT;
+        return Math.max(biasedExponent, 1) - EXPONENT_BIAS + Long.numberOfTrailingZeros(significand);
+    }
+
+    /**
+     * Returns the best approximation of sign * x with x = (p1 n / d + p0) / (q1 n / d + q0) whose denominator does not
+     * exceed maxDenominator
+     *
+     * <p>Continues the continued fraction expansion of x from the complete quotient n / d, where p1 / q1 and p0 / q0
+     * are the last two convergents, so 1 / 0 and 0 / 1 start the expansion of n / d itself.
+     */
+    private static LongRational approximate(
+            final long sign,
+            final long n,
+            final long d,
+            final long p0,
+            final long q0,
+            final long p1,
+            final long q1,
+            final long maxDenominator) {
+        var numerator = n;
+        var denominator = d;
+        var previousP = p0;
+        var previousQ = q0;
+        var p = p1;
+        var q = q1;
+        while (denominator != 0) {
+            final var a = numerator / denominator;
+            if (q != 0 && a > (maxDenominator - previousQ) / q) {
+                // the convergent p / q and the semiconvergent (previousP + k p) / (previousQ + k q) enclose x,
+                // where the convergent is at least as close when q (numerator / denominator - 2 k) >= previousQ
+                final var k = (maxDenominator - previousQ) / q;
+                if (Longs.compareProducts(q, numerator - k * denominator - k * denominator, previousQ, denominator)
+                        >= 0) {
+                    return valueOfCanonical(sign * p, q);
+                }
+                return valueOfCanonical(sign * Math.addExact(previousP, Math.multiplyExact(k, p)), previousQ + k * q);
+            }
+            final var nextP = Math.addExact(previousP, Math.multiplyExact(a, p));
+            final var nextQ = previousQ + a * q;
+            previousP = p;
+            previousQ = q;
+            p = nextP;
+            q = nextQ;
+            final var remainder = numerator - a * denominator;
+            numerator = denominator;
+            denominator = remainder;
+        }
+        return valueOfCanonical(sign * p, q);
+    }
+
+    /**
+     * Returns the best approximation of sign * m / 2^k for odd m < 2^53 and k > 62
+     *
+     * <p>The first partial quotient is 0 and the second one is floor(2^k / m), which may not fit into long. So the
+     * results 0 and 1 / maxDenominator are decided by 128-bit comparisons before the expansion continues with long
+     * arithmetic.
+     */
+    private static LongRational approximateTiny(final long sign, final long m, final int k, final long maxDenominator) {
+        final var high = Math.multiplyHigh(maxDenominator, m);
+        final var low = maxDenominator * m;
+        // x <= 1 / (2 maxDenominator), i.e. 2^(k - 1) >= maxDenominator m
+        if (isPowerOfTwoAtLeast(k - 1, high, low)) {
+            return ZERO;
+        }
+        // x < 1 / (maxDenominator + 1), i.e. 2^k >= maxDenominator m + m
+        final var lowPlusM = low + m;
+        if (isPowerOfTwoAtLeast(k, Long.compareUnsigned(lowPlusM, low) < 0 ? high + 1 : high, lowPlusM)) {
+            return valueOfCanonical(sign, maxDenominator);
+        }
+        // floor(2^k / m) <= maxDenominator by binary long division
+        var quotient = 0L;
+        var remainder = 1L;
+        for (var i = 0; i < k; i++) {
+            remainder <<= 1;
+            quotient <<= 1;
+            if (remainder >= m) {
+                remainder -= m;
+                quotient |= 1;
+            }
+        }
+        return approximate(sign, m, remainder, 0, 1, 1, quotient, maxDenominator);
+    }
+
+    /** Indicates if 2^exponent is greater than or equal to the unsigned 128-bit integer high * 2^64 + low */
+    private static boolean isPowerOfTwoAtLeast(final int exponent, final long high, final long low) {
+        if (exponent >= 2 * Long.SIZE) {
+            return true;
+        }
+        if (exponent >= Long.SIZE) {
+            final var powerHigh = 1L << (exponent - Long.SIZE);
+            return Long.compareUnsigned(powerHigh, high) > 0 || powerHigh == high && low == 0;
+        }
+        return high == 0 && Long.compareUnsigned(1L << exponent, low) >= 0;
+    }
+
+    /** Takes the continued fraction steps of sign * n / d with {@link BigInteger} until n and d fit into long */
+    private static LongRational approximateBig(
+            final long sign, final BigInteger n, final BigInteger d, final long maxDenominator) {
+        final var gcd = n.gcd(d);
+        var numerator = n.divide(gcd);
+        var denominator = d.divide(gcd);
+        var previousP = 0L;
+        var previousQ = 1L;
+        var p = 1L;
+        var q = 0L;
+        while (numerator.bitLength() >= Long.SIZE - 1 || denominator.bitLength() >= Long.SIZE - 1) {
+            final var quotientAndRemainder = numerator.divideAndRemainder(denominator);
+            if (q != 0 && quotientAndRemainder[0].compareTo(BigInteger.valueOf((maxDenominator - previousQ) / q)) > 0) {
+                final var k = (maxDenominator - previousQ) / q;
+                final var twiceKd = denominator.multiply(BigInteger.valueOf(k)).shiftLeft(1);
+                if (BigInteger.valueOf(q)
+                                .multiply(numerator.subtract(twiceKd))
+                                .compareTo(BigInteger.valueOf(previousQ).multiply(denominator))
+                        >= 0) {
+                    return valueOfCanonical(sign * p, q);
+                }
+                return valueOfCanonical(sign * Math.addExact(previousP, Math.multiplyExact(k, p)), previousQ + k * q);
+            }
+            final var a = quotientAndRemainder[0].longValueExact();
+            final var nextP = Math.addExact(previousP, Math.multiplyExact(a, p));
+            final var nextQ = previousQ + a * q;
+            previousP = p;
+            previousQ = q;
+            p = nextP;
+            q = nextQ;
+            numerator = denominator;
+            denominator = quotientAndRemainder[1];
+        }
+        return approximate(
+                sign, numerator.longValue(), denominator.longValue(), previousP, previousQ, p, q, maxDenominator);
+    }
+
+    /** Precomputed table of small canonical rationals */
+    private static final class Cache {
+        private static final long MIN_NUMERATOR = -128;
+        private static final long MAX_NUMERATOR = 127;
+        private static final long MAX_DENOMINATOR = 16;
+        private static final LongRational[] TABLE = table();
+
+        private Cache() {}
+
+        private static int index(final long numerator, final long denominator) {
+            return (int) ((numerator - MIN_NUMERATOR) * MAX_DENOMINATOR + denominator - 1);
+        }
+
+        private static LongRational[] table() {
+            final var table = new LongRational[(int) ((MAX_NUMERATOR - MIN_NUMERATOR + 1) * MAX_DENOMINATOR)];
+            for (var numerator = MIN_NUMERATOR; numerator <= MAX_NUMERATOR; numerator++) {
+                for (var denominator = 1L; denominator <= MAX_DENOMINATOR; denominator++) {
+                    if (Longs.gcd(numerator, denominator) == 1) {
+                        table[index(numerator, denominator)] = new LongRational(numerator, denominator);
+                    }
+                }
+            }
+            return table;
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thread safe accumulator of rational numbers modeled on {@link java.util.concurrent.atomic.LongAdder}
+ *
+ * <p>Contributions are added to one of several cells that are chosen per thread. A thread that finds its cell contended
+ * moves to another one and the number of cells grows up to the number of available processors. Every cell keeps an
+ * exact partial sum in a {@link MutableLongRational}; {@link #sum()} combines the partial sums exactly.
+ *
+ * <p>Like {@link java.util.concurrent.atomic.LongAdder#sum()}, {@link #sum()} is not an atomic snapshot when there are
+ * concurrent updates.
+ */
+public final class LongRationalAdder {
+    private static final int MAX_CELLS = maxCells();
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    private volatile Cell[] cells = {new Cell()};
+
+    /** Constructor for a sum of 0 */
+    public LongRationalAdder() {
+        // nothing to do
+    }
+
+    /**
+     * Constructor with one cell per partial sum for tests
+     *
+     * @param partialSums partial sums, a power of two of them
+     */
+    LongRationalAdder(final @NonNull LongRational... partialSums) {
+        final var initial = new Cell[partialSums.length];
+        for (var i = 0; i < initial.length; i++) {
+            initial[i] = new Cell();
+            initial[i].value.set(partialSums[i]);
+        }
+        cells = initial;
+    }
+
+    /**
+     * Adds the summand
+     *
+     * @param summand summand
+     * @throws NullPointerException when summand is null
+     * @throws ArithmeticException when the canonical partial sum of a cell does not fit into long
+     */
+    public void add(final @NonNull LongRational summand) {
+        Objects.requireNonNull(summand, "summand");
+        final var probe = PROBE.get();
+        var current = cells;
+        while (true) {
+            final var cell = current[probe[0] & (current.length - 1)];
+            if (cell.lock.tryLock()) {
+                try {
+                    cell.value.addInPlace(summand);
+                } finally {
+                    cell.lock.unlock();
+                }
+                return;
+            }
+            if (current.length >= MAX_CELLS) {
+                cell.lock.lock();
+                try {
+                    cell.value.addInPlace(summand);
+                } finally {
+                    cell.lock.unlock();
+                }
+                return;
+            }
+            probe[0] = advance(probe[0]);
+            current = grow(current);
+        }
+    }
+
+    /**
+     * Returns the exact sum of all contributions
+     *
+     * @return canonical sum
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public @NonNull LongRational sum() {
+        final var sum = new MutableLongRational();
+        for (final var cell : cells) {
+            cell.lock.lock();
+            try {
+                sum.addInPlace(cell.value.getNumerator(), cell.value.getDenominator());
+            } finally {
+                cell.lock.unlock();
+            }
+        }
+        return sum.toLongRational();
+    }
+
+    /** Resets the sum to 0 */
+    public void reset() {
+        for (final var cell : cells) {
+            cell.lock.lock();
+            try {
+                cell.value.set(0, 1);
+            } finally {
+                cell.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the exact sum of all contributions and resets the sum to 0
+     *
+     * <p>All cells are locked while the sum is computed, so the sum is unchanged when it does not fit into long.
+     *
+     * @return canonical sum
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public @NonNull LongRational sumThenReset() {
+        final var current = cells;
+        var locked = 0;
+        try {
+            final var sum = new MutableLongRational();
+            for (final var cell : current) {
+                cell.lock.lock();
+                locked++;
+                sum.addInPlace(cell.value.getNumerator(), cell.value.getDenominator());
+            }
+            final var result = sum.toLongRational();
+            for (final var cell : current) {
+                cell.value.set(0, 1);
+            }
+            return result;
+        } finally {
+            for (var i = 0; i < locked; i++) {
+                current[i].lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalAdder{sum=" + sum() + '}';
+    }
+
+    private Cell[] grow(final Cell[] expected) {
+        synchronized (this) {
+            final var current = cells;
+            if (current != expected || current.length >= MAX_CELLS) {
+                return current;
+            }
+            final var grown = Arrays.copyOf(current, current.length * 2);
+            for (var i = current.length; i < grown.length; i++) {
+                grown[i] = new Cell();
+            }
+            cells = grown;
+            return grown;
+        }
+    }
+
+    private static int advance(final int probe) {
+        var next = probe ^ probe << 13;
+        next ^= next >>> 17;
+        return next ^ next << 5;
+    }
+
+    private static int maxCells() {
+        final var processors = Runtime.getRuntime().availableProcessors();
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    private static final class Cell {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final MutableLongRational value = new MutableLongRational();
+    }
+}
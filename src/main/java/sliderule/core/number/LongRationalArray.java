@@ -0,0 +1,560 @@
+package sliderule.core.number;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.util.Longs;
+
+/**
+ * Mutable fixed length array of rational numbers that stores numerators and denominators in two parallel long arrays
+ *
+ * <p>Bulk operations neither box nor allocate per element. Their results are canonical when the operands are canonical
+ * and they throw {@link ArithmeticException} only when a canonical result does not fit into long. Elements before the
+ * overflowing one have been written by then. {@link LongRational} is used only to get and set single elements.
+ *
+ * <p>Multiplication, canonicalization and comparisons use SIMD instructions on Java 21 and newer when the module
+ * {@code jdk.incubator.vector} is present, e.g. with {@code --add-modules jdk.incubator.vector}.
+ */
+public final class LongRationalArray {
+    private static final BulkKernels KERNELS = BulkKernelsProvider.get();
+
+    private final long @NonNull [] numerators;
+    private final long @NonNull [] denominators;
+
+    /**
+     * Constructor for an array of zeros
+     *
+     * @param length length
+     * @throws IllegalArgumentException when length is negative
+     */
+    public LongRationalArray(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Expected length >= 0 but length=" + length);
+        }
+        numerators = new long[length];
+        denominators = new long[length];
+        Arrays.fill(denominators, 1L);
+    }
+
+    /**
+     * Constructor that copies numerators and denominators
+     *
+     * @param numerators numerators
+     * @param denominators denominators
+     * @throws NullPointerException when numerators or denominators is null
+     * @throws IllegalArgumentException when the lengths differ or a denominator is 0
+     * @throws ArithmeticException when a numerator or denominator is {@link Long#MIN_VALUE}
+     */
+    public LongRationalArray(final long @NonNull [] numerators, final long @NonNull [] denominators) {
+        Objects.requireNonNull(numerators, "numerators");
+        Objects.requireNonNull(denominators, "denominators");
+        if (numerators.length != denominators.length) {
+            throw new IllegalArgumentException("Expected equal lengths but numerators.length=" + numerators.length
+                    + " and denominators.length=" + denominators.length);
+        }
+        this.numerators = new long[numerators.length];
+        this.denominators = new long[denominators.length];
+        for (var i = 0; i < numerators.length; i++) {
+            set(i, numerators[i], denominators[i]);
+        }
+    }
+
+    /**
+     * Constructor that copies rationals
+     *
+     * @param rationals rationals
+     * @throws NullPointerException when rationals or one of its elements is null
+     */
+    public LongRationalArray(final @NonNull LongRational @NonNull ... rationals) {
+        Objects.requireNonNull(rationals, "rationals");
+        numerators = new long[rationals.length];
+        denominators = new long[rationals.length];
+        for (var i = 0; i < rationals.length; i++) {
+            set(i, rationals[i]);
+        }
+    }
+
+    /**
+     * Length
+     *
+     * @return length
+     */
+    public int length() {
+        return numerators.length;
+    }
+
+    /**
+     * Returns the element at the index
+     *
+     * @param index index
+     * @return element
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public @NonNull LongRational get(final int index) {
+        return new LongRational(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Returns the numerator of the element at the index
+     *
+     * @param index index
+     * @return numerator
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public long getNumerator(final int index) {
+        return numerators[index];
+    }
+
+    /**
+     * Returns the denominator of the element at the index
+     *
+     * @param index index
+     * @return denominator
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public long getDenominator(final int index) {
+        return denominators[index];
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param rational rational
+     * @throws NullPointerException when rational is null
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final @NonNull LongRational rational) {
+        Objects.requireNonNull(rational, "rational");
+        numerators[index] = rational.getNumerator();
+        denominators[index] = rational.getDenominator();
+    }
+
+    /**
+     * Sets the element at the index
+     *
+     * @param index index
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when numerator or denominator is {@link Long#MIN_VALUE}
+     * @throws IndexOutOfBoundsException when index is out of bounds
+     */
+    public void set(final int index, final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        Objects.checkIndex(index, numerators.length);
+        final var absNumerator = Math.absExact(numerator);
+        numerators[index] = Long.signum(numerator) * Long.signum(denominator) < 0 ? -absNumerator : absNumerator;
+        denominators[index] = Math.absExact(denominator);
+    }
+
+    /**
+     * Adds the summands elementwise to this array
+     *
+     * @param summands summands
+     * @return this
+     * @throws NullPointerException when summands is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray addInPlace(final @NonNull LongRationalArray summands) {
+        return add(summands, this);
+    }
+
+    /**
+     * Writes the elementwise sums of this array and the summands into the destination
+     *
+     * @param summands summands
+     * @param destination destination, may be this or summands
+     * @return destination
+     * @throws NullPointerException when summands or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray add(
+            final @NonNull LongRationalArray summands, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(summands, "summands");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(summands.length(), "summands");
+        requireLength(destination.length(), "destination");
+        for (var i = 0; i < numerators.length; i++) {
+            sum(
+                    numerators[i],
+                    denominators[i],
+                    summands.numerators[i],
+                    summands.denominators[i],
+                    destination.numerators,
+                    destination.denominators,
+                    i);
+        }
+        return destination;
+    }
+
+    /**
+     * Multiplies this array elementwise by the multipliers
+     *
+     * @param multipliers multipliers
+     * @return this
+     * @throws NullPointerException when multipliers is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray multiplyInPlace(final @NonNull LongRationalArray multipliers) {
+        return multiply(multipliers, this);
+    }
+
+    /**
+     * Writes the elementwise products of this array and the multipliers into the destination
+     *
+     * @param multipliers multipliers
+     * @param destination destination, may be this or multipliers
+     * @return destination
+     * @throws NullPointerException when multipliers or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray multiply(
+            final @NonNull LongRationalArray multipliers, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(multipliers, "multipliers");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(multipliers.length(), "multipliers");
+        requireLength(destination.length(), "destination");
+        KERNELS.multiply(
+                numerators,
+                denominators,
+                multipliers.numerators,
+                multipliers.denominators,
+                destination.numerators,
+                destination.denominators,
+                0,
+                numerators.length);
+        return destination;
+    }
+
+    /**
+     * Divides this array elementwise by the divisors
+     *
+     * @param divisors divisors
+     * @return this
+     * @throws NullPointerException when divisors is null
+     * @throws IllegalArgumentException when the lengths differ or a divisor is not invertible
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray divideInPlace(final @NonNull LongRationalArray divisors) {
+        return divide(divisors, this);
+    }
+
+    /**
+     * Writes the elementwise quotients of this array and the divisors into the destination
+     *
+     * @param divisors divisors
+     * @param destination destination, may be this or divisors
+     * @return destination
+     * @throws NullPointerException when divisors or destination is null
+     * @throws IllegalArgumentException when the lengths differ or a divisor is not invertible
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray divide(
+            final @NonNull LongRationalArray divisors, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(divisors, "divisors");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(divisors.length(), "divisors");
+        requireLength(destination.length(), "destination");
+        for (var i = 0; i < numerators.length; i++) {
+            if (divisors.numerators[i] == 0) {
+                throw new IllegalArgumentException("divisor must be invertible but is " + divisors.get(i));
+            }
+        }
+        for (var i = 0; i < numerators.length; i++) {
+            final var sign = Long.signum(divisors.numerators[i]);
+            ScalarBulkKernels.product(
+                    numerators[i],
+                    denominators[i],
+                    sign * divisors.denominators[i],
+                    sign * divisors.numerators[i],
+                    destination.numerators,
+                    destination.denominators,
+                    i);
+        }
+        return destination;
+    }
+
+    /**
+     * Multiplies every element of this array by the scalar
+     *
+     * @param scalar scalar
+     * @return this
+     * @throws NullPointerException when scalar is null
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray scaleInPlace(final @NonNull LongRational scalar) {
+        return scale(scalar, this);
+    }
+
+    /**
+     * Writes the products of every element of this array and the scalar into the destination
+     *
+     * @param scalar scalar
+     * @param destination destination, may be this
+     * @return destination
+     * @throws NullPointerException when scalar or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRationalArray scale(
+            final @NonNull LongRational scalar, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(scalar, "scalar");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(destination.length(), "destination");
+        final var canonical = scalar.canonical();
+        final var numerator = canonical.getNumerator();
+        final var denominator = canonical.getDenominator();
+        for (var i = 0; i < numerators.length; i++) {
+            ScalarBulkKernels.product(
+                    numerators[i],
+                    denominators[i],
+                    numerator,
+                    denominator,
+                    destination.numerators,
+                    destination.denominators,
+                    i);
+        }
+        return destination;
+    }
+
+    /**
+     * Replaces every element of this array by its canonical representation
+     *
+     * @return this
+     */
+    public @NonNull LongRationalArray canonicalizeInPlace() {
+        return canonicalize(this);
+    }
+
+    /**
+     * Writes the canonical representation of every element of this array into the destination
+     *
+     * @param destination destination, may be this
+     * @return destination
+     * @throws NullPointerException when destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public @NonNull LongRationalArray canonicalize(final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(destination, "destination");
+        requireLength(destination.length(), "destination");
+        KERNELS.canonicalize(
+                numerators, denominators, destination.numerators, destination.denominators, 0, numerators.length);
+        return destination;
+    }
+
+    /**
+     * Writes for every element if it is less than the element of the other array at the same index
+     *
+     * @param other other
+     * @param destination destination
+     * @return destination
+     * @throws NullPointerException when other or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public boolean @NonNull [] lessThan(final @NonNull LongRationalArray other, final boolean @NonNull [] destination) {
+        Objects.requireNonNull(other, "other");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(other.length(), "other");
+        requireLength(destination.length, "destination");
+        KERNELS.lessThan(
+                numerators, denominators, other.numerators, other.denominators, destination, 0, numerators.length);
+        return destination;
+    }
+
+    /**
+     * Writes for every element if it is equal by value to the element of the other array at the same index
+     *
+     * @param other other
+     * @param destination destination
+     * @return destination
+     * @throws NullPointerException when other or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     */
+    public boolean @NonNull [] equalTo(final @NonNull LongRationalArray other, final boolean @NonNull [] destination) {
+        Objects.requireNonNull(other, "other");
+        Objects.requireNonNull(destination, "destination");
+        requireLength(other.length(), "other");
+        requireLength(destination.length, "destination");
+        KERNELS.equalTo(
+                numerators, denominators, other.numerators, other.denominators, destination, 0, numerators.length);
+        return destination;
+    }
+
+    /**
+     * Sorts this array in ascending order of value
+     *
+     * <p>The sort is stable, so elements with equal values, e.g. 1/2 and 2/4, keep their order. Comparisons use 128-bit
+     * cross products and never overflow.
+     *
+     * @return this
+     */
+    public @NonNull LongRationalArray sortInPlace() {
+        LongRationalSort.sort(numerators, denominators, 0, numerators.length, null);
+        return this;
+    }
+
+    /**
+     * Sorts this array in ascending order of value in parallel in the common pool
+     *
+     * @return this
+     * @see #sortInPlace()
+     */
+    public @NonNull LongRationalArray parallelSortInPlace() {
+        return parallelSortInPlace(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts this array in ascending order of value in parallel in the pool
+     *
+     * @param pool pool
+     * @return this
+     * @throws NullPointerException when pool is null
+     * @see #sortInPlace()
+     */
+    public @NonNull LongRationalArray parallelSortInPlace(final @NonNull ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool");
+        LongRationalSort.sort(numerators, denominators, 0, numerators.length, pool);
+        return this;
+    }
+
+    /**
+     * Returns the dot product of this array and the other
+     *
+     * @param other other
+     * @return canonical dot product
+     * @throws NullPointerException when other is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when an operation overflows
+     */
+    public @NonNull LongRational dot(final @NonNull LongRationalArray other) {
+        Objects.requireNonNull(other, "other");
+        requireLength(other.length(), "other");
+        final var sumNumerator = new long[] {0L};
+        final var sumDenominator = new long[] {1L};
+        final var productNumerator = new long[1];
+        final var productDenominator = new long[1];
+        for (var i = 0; i < numerators.length; i++) {
+            ScalarBulkKernels.product(
+                    numerators[i],
+                    denominators[i],
+                    other.numerators[i],
+                    other.denominators[i],
+                    productNumerator,
+                    productDenominator,
+                    0);
+            sum(
+                    sumNumerator[0],
+                    sumDenominator[0],
+                    productNumerator[0],
+                    productDenominator[0],
+                    sumNumerator,
+                    sumDenominator,
+                    0);
+        }
+        return LongRational.valueOf(sumNumerator[0], sumDenominator[0]);
+    }
+
+    /**
+     * Returns a copy of this array
+     *
+     * @return copy
+     */
+    public @NonNull LongRationalArray copy() {
+        return new LongRationalArray(numerators, denominators);
+    }
+
+    /**
+     * Returns the elements as array of {@link LongRational}
+     *
+     * @return array
+     */
+    public @NonNull LongRational @NonNull [] toArray() {
+        return stream().toArray(LongRational[]::new);
+    }
+
+    /**
+     * Returns the elements as sequential stream of {@link LongRational}
+     *
+     * @return stream
+     */
+    public @NonNull Stream<@NonNull LongRational> stream() {
+        return IntStream.range(0, numerators.length).mapToObj(this::get);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numerators) + Arrays.hashCode(denominators);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final LongRationalArray that)) {
+            return false;
+        }
+        return Arrays.equals(numerators, that.numerators) && Arrays.equals(denominators, that.denominators);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalArray{numerators=" + Arrays.toString(numerators) + ", denominators="
+                + Arrays.toString(denominators) + '}';
+    }
+
+    private void requireLength(final int length, final String name) {
+        if (length != numerators.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + name + ".length=" + numerators.length + " but " + name + ".length=" + length);
+        }
+    }
+
+    /**
+     * Writes a/b + c/d into the arrays at the index
+     *
+     * <p>Reduces by gcd(b, d) before multiplying as described by Knuth, TAOCP Vol. 2, 4.5.1. Intermediate results that
+     * do not fit into long are computed with {@link BigInteger}.
+     */
+    private static void sum(
+            final long a,
+            final long b,
+            final long c,
+            final long d,
+            final long[] numerators,
+            final long[] denominators,
+            final int index) {
+        final var gcd = Longs.gcd(b, d);
+        final var bOverGcd = b / gcd;
+        final var dOverGcd = d / gcd;
+        final var left = a * dOverGcd;
+        final var right = c * bOverGcd;
+        final var t = left + right;
+        if (!Longs.multiplyFits(a, dOverGcd) || !Longs.multiplyFits(c, bOverGcd) || ((left ^ t) & (right ^ t)) < 0) {
+            final var numerator = BigInteger.valueOf(a)
+                    .multiply(BigInteger.valueOf(dOverGcd))
+                    .add(BigInteger.valueOf(c).multiply(BigInteger.valueOf(bOverGcd)));
+            final var denominator = BigInteger.valueOf(bOverGcd).multiply(BigInteger.valueOf(d));
+            final var bigGcd = numerator.gcd(denominator);
+            final var canonicalNumerator = numerator.divide(bigGcd).longValueExact();
+            denominators[index] = denominator.divide(bigGcd).longValueExact();
+            numerators[index] = canonicalNumerator;
+            return;
+        }
+        final var gcd2 = Longs.gcd(t, gcd);
+        denominators[index] = Math.multiplyExact(bOverGcd, d / gcd2);
+        numerators[index] = t / gcd2;
+    }
+}
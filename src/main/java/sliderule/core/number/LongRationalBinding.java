@@ -0,0 +1,35 @@
+package sliderule.core.number;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the variables of a script binding that hold {@link LongRational}
+ *
+ * <p>The type checking extension {@code sliderule/core/number/LongRationalTypeChecking.groovy} types an undeclared
+ * variable as {@link LongRational} only when its name is declared by this annotation on the script class or one of its
+ * superclasses, usually the script base class of the compiler configuration:
+ *
+ * <pre>{@code
+ * @LongRationalBinding({"price", "quantity"})
+ * abstract class PricingScript extends Script {}
+ *
+ * configuration.setScriptBaseClass(PricingScript.class.getName());
+ * }</pre>
+ *
+ * <p>Other undeclared variables are still rejected by the static compiler.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LongRationalBinding {
+    /**
+     * Names of the variables
+     *
+     * @return names
+     */
+    String[] value();
+}
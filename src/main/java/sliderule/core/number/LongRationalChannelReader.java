@@ -0,0 +1,85 @@
+package sliderule.core.number;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Reader that decodes rationals in the sequence format of {@link LongRationalCodec} from a channel, e.g. a
+ * {@link java.nio.channels.FileChannel}
+ *
+ * <p>Bytes are read into one direct buffer that always holds at least one complete block. The channel is not closed by
+ * this reader. Instances are not thread safe.
+ */
+public final class LongRationalChannelReader {
+    /** Default buffer size in bytes */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfStream;
+
+    /**
+     * Constructor with {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @param channel channel
+     * @throws NullPointerException when channel is null
+     */
+    public LongRationalChannelReader(final @NonNull ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param channel channel
+     * @param bufferSize buffer size in bytes
+     * @throws NullPointerException when channel is null
+     * @throws IllegalArgumentException when bufferSize is less than {@link LongRationalCodec#MAX_BLOCK_BYTES}
+     */
+    public LongRationalChannelReader(final @NonNull ReadableByteChannel channel, final int bufferSize) {
+        Objects.requireNonNull(channel, "channel");
+        if (bufferSize < LongRationalCodec.MAX_BLOCK_BYTES) {
+            throw new IllegalArgumentException(
+                    "Expected bufferSize >= " + LongRationalCodec.MAX_BLOCK_BYTES + " but bufferSize=" + bufferSize);
+        }
+        this.channel = channel;
+        buffer = ByteBuffer.allocateDirect(bufferSize).flip();
+    }
+
+    /**
+     * Reads the values of the complete blocks that are buffered or read by one read from the channel into the
+     * destination starting at offset
+     *
+     * @param destination destination
+     * @param offset index of the first value in destination
+     * @return number of values read, which is 0 when the next block does not fit into the destination, or -1 at the end
+     *     of the stream
+     * @throws NullPointerException when destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, destination.length()]
+     * @throws EOFException when the stream ends within a block
+     * @throws IOException when reading from the channel fails
+     * @throws IllegalArgumentException when a block is malformed
+     */
+    public int read(final @NonNull LongRationalArray destination, final int offset) throws IOException {
+        while (true) {
+            final var count = LongRationalCodec.decode(buffer, destination, offset);
+            if (count > 0 || offset == destination.length() || LongRationalCodec.hasCompleteBlock(buffer)) {
+                return count;
+            }
+            if (endOfStream) {
+                if (buffer.hasRemaining()) {
+                    throw new EOFException("Expected complete block but stream ended after " + buffer.remaining()
+                            + " bytes of a block");
+                }
+                return -1;
+            }
+            buffer.compact();
+            endOfStream = channel.read(buffer) < 0;
+            buffer.flip();
+        }
+    }
+}
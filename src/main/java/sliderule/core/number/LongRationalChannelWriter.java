@@ -0,0 +1,95 @@
+package sliderule.core.number;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Writer that encodes rationals in the sequence format of {@link LongRationalCodec} into a channel, e.g. a
+ * {@link java.nio.channels.FileChannel}
+ *
+ * <p>Values are encoded into one direct buffer that is written to the channel when it is full or flushed. The channel
+ * is neither flushed nor closed by this writer. Instances are not thread safe.
+ */
+public final class LongRationalChannelWriter implements Flushable {
+    /** Default buffer size in bytes */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor with {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @param channel channel
+     * @throws NullPointerException when channel is null
+     */
+    public LongRationalChannelWriter(final @NonNull WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param channel channel
+     * @param bufferSize buffer size in bytes
+     * @throws NullPointerException when channel is null
+     * @throws IllegalArgumentException when bufferSize is less than {@link LongRationalCodec#MAX_BLOCK_BYTES}
+     */
+    public LongRationalChannelWriter(final @NonNull WritableByteChannel channel, final int bufferSize) {
+        Objects.requireNonNull(channel, "channel");
+        if (bufferSize < LongRationalCodec.MAX_BLOCK_BYTES) {
+            throw new IllegalArgumentException(
+                    "Expected bufferSize >= " + LongRationalCodec.MAX_BLOCK_BYTES + " but bufferSize=" + bufferSize);
+        }
+        this.channel = channel;
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Writes all elements of the source
+     *
+     * @param source source
+     * @throws NullPointerException when source is null
+     * @throws IOException when writing to the channel fails
+     */
+    public void write(final @NonNull LongRationalArray source) throws IOException {
+        Objects.requireNonNull(source, "source");
+        write(source, 0, source.length());
+    }
+
+    /**
+     * Writes the elements of the source from inclusive to exclusive
+     *
+     * @param source source
+     * @param from index of the first element
+     * @param to index after the last element
+     * @throws NullPointerException when source is null
+     * @throws IndexOutOfBoundsException when from or to is out of bounds
+     * @throws IOException when writing to the channel fails
+     */
+    public void write(final @NonNull LongRationalArray source, final int from, final int to) throws IOException {
+        var index = LongRationalCodec.encode(source, from, to, buffer);
+        while (index < to) {
+            flush();
+            index = LongRationalCodec.encode(source, index, to, buffer);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel
+     *
+     * @throws IOException when writing to the channel fails
+     */
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,296 @@
+package sliderule.core.number;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Compact binary format for rationals and sequences of rationals
+ *
+ * <p>A value is its numerator as zigzag varint followed by its denominator as unsigned varint, where a varint stores 7
+ * bits per byte starting with the least significant ones and sets the highest bit of all bytes but the last. So small
+ * numerators and denominators take one byte each.
+ *
+ * <p>A sequence is a series of blocks of at most {@link #MAX_BLOCK_LENGTH} values. A block starts with the varint
+ * {@code length << 1 | shared} and the varint number of payload bytes. The payload of a shared block is the common
+ * denominator followed by the numerators, otherwise it is the values. Runs of equal denominators are encoded as shared
+ * blocks. As the payload size is known upfront, a block is only decoded when it is complete.
+ *
+ * <p>No object is allocated per value when encoding or decoding sequences.
+ */
+public final class LongRationalCodec {
+    /** Maximum number of values per block */
+    public static final int MAX_BLOCK_LENGTH = 256;
+
+    /** Maximum number of bytes per block */
+    public static final int MAX_BLOCK_BYTES = 4 + MAX_BLOCK_LENGTH * 2 * 10;
+
+    private static final int MAX_HEADER_BYTES = 4;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private LongRationalCodec() {}
+
+    /**
+     * Returns the number of bytes of the encoded value
+     *
+     * @param value value
+     * @return number of bytes
+     * @throws NullPointerException when value is null
+     */
+    public static int encodedLength(final @NonNull LongRational value) {
+        Objects.requireNonNull(value, "value");
+        return varintLength(zigzag(value.getNumerator())) + varintLength(value.getDenominator());
+    }
+
+    /**
+     * Encodes the value at the position of the destination
+     *
+     * @param value value
+     * @param destination destination
+     * @throws NullPointerException when value or destination is null
+     * @throws BufferOverflowException when destination has less than {@link #encodedLength(LongRational)} bytes
+     *     remaining, which leaves it unchanged
+     */
+    public static void encode(final @NonNull LongRational value, final @NonNull ByteBuffer destination) {
+        Objects.requireNonNull(destination, "destination");
+        if (encodedLength(value) > destination.remaining()) {
+            throw new BufferOverflowException();
+        }
+        putVarint(destination, zigzag(value.getNumerator()));
+        putVarint(destination, value.getDenominator());
+    }
+
+    /**
+     * Decodes a value at the position of the source
+     *
+     * @param source source
+     * @return value
+     * @throws NullPointerException when source is null
+     * @throws BufferUnderflowException when source ends within the value
+     * @throws IllegalArgumentException when the value is malformed
+     * @throws ArithmeticException when the numerator is {@link Long#MIN_VALUE}
+     */
+    public static @NonNull LongRational decode(final @NonNull ByteBuffer source) {
+        Objects.requireNonNull(source, "source");
+        final var numerator = unzigzag(getVarint(source));
+        final var denominator = getVarint(source);
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Expected denominator > 0 but denominator=" + denominator);
+        }
+        return new LongRational(numerator, denominator);
+    }
+
+    /**
+     * Encodes the elements of the source from inclusive to exclusive as blocks at the position of the destination
+     *
+     * <p>Writes blocks while they fit, shortening the last one if necessary.
+     *
+     * @param source source
+     * @param from index of the first element
+     * @param to index after the last element
+     * @param destination destination
+     * @return index of the first element that was not encoded
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when from or to is out of bounds
+     */
+    public static int encode(
+            final @NonNull LongRationalArray source,
+            final int from,
+            final int to,
+            final @NonNull ByteBuffer destination) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkFromToIndex(from, to, source.length());
+        var index = from;
+        while (index < to) {
+            final var length = encodeBlock(source, index, to, destination);
+            if (length == 0) {
+                break;
+            }
+            index += length;
+        }
+        return index;
+    }
+
+    /**
+     * Decodes complete blocks at the position of the source into the destination starting at offset
+     *
+     * <p>Stops before a block that is incomplete or does not fit into the destination.
+     *
+     * @param source source
+     * @param destination destination
+     * @param offset index of the first decoded value in destination
+     * @return number of decoded values
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, destination.length()]
+     * @throws IllegalArgumentException when a block is malformed
+     * @throws ArithmeticException when a numerator is {@link Long#MIN_VALUE}
+     */
+    public static int decode(
+            final @NonNull ByteBuffer source, final @NonNull LongRationalArray destination, final int offset) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkIndex(offset, destination.length() + 1);
+        var index = offset;
+        while (true) {
+            final var start = source.position();
+            final var header = tryGetVarint(source);
+            final var payloadBytes = header < 0 ? -1 : tryGetVarint(source);
+            if (payloadBytes < 0 || payloadBytes > source.remaining()) {
+                source.position(start);
+                return index - offset;
+            }
+            final var length = (int) Math.min(header >>> 1, Integer.MAX_VALUE);
+            if (length < 1 || length > MAX_BLOCK_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Expected block length in [1, " + MAX_BLOCK_LENGTH + "] but length=" + length);
+            }
+            if (length > destination.length() - index) {
+                source.position(start);
+                return index - offset;
+            }
+            decodeBlock(source, destination, index, length, (header & 1) != 0, payloadBytes);
+            index += length;
+        }
+    }
+
+    /**
+     * Indicates if a complete block starts at the position of the source, which is left unchanged
+     *
+     * @param source source
+     * @return boolean
+     */
+    static boolean hasCompleteBlock(final ByteBuffer source) {
+        final var start = source.position();
+        try {
+            final var header = tryGetVarint(source);
+            final var payloadBytes = header < 0 ? -1 : tryGetVarint(source);
+            return payloadBytes >= 0 && payloadBytes <= source.remaining();
+        } finally {
+            source.position(start);
+        }
+    }
+
+    private static int encodeBlock(
+            final LongRationalArray source, final int from, final int to, final ByteBuffer destination) {
+        final var budget = destination.remaining() - MAX_HEADER_BYTES;
+        final var limit = Math.min(to, from + MAX_BLOCK_LENGTH);
+        final var denominator = source.getDenominator(from);
+        var run = 1;
+        while (from + run < limit && source.getDenominator(from + run) == denominator) {
+            run++;
+        }
+        final var shared = run > 1;
+        var payloadBytes = shared ? varintLength(denominator) : 0;
+        var length = 0;
+        while (from + length < limit) {
+            final var index = from + length;
+            if (shared ? length == run : length > 0 && startsRun(source, index, limit)) {
+                break;
+            }
+            final var valueBytes = varintLength(zigzag(source.getNumerator(index)))
+                    + (shared ? 0 : varintLength(source.getDenominator(index)));
+            if (payloadBytes + valueBytes > budget) {
+                break;
+            }
+            payloadBytes += valueBytes;
+            length++;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        putVarint(destination, (long) length << 1 | (shared ? 1 : 0));
+        putVarint(destination, payloadBytes);
+        if (shared) {
+            putVarint(destination, denominator);
+        }
+        for (var i = from; i < from + length; i++) {
+            putVarint(destination, zigzag(source.getNumerator(i)));
+            if (!shared) {
+                putVarint(destination, source.getDenominator(i));
+            }
+        }
+        return length;
+    }
+
+    private static boolean startsRun(final LongRationalArray source, final int index, final int limit) {
+        return index + 1 < limit && source.getDenominator(index) == source.getDenominator(index + 1);
+    }
+
+    private static void decodeBlock(
+            final ByteBuffer source,
+            final LongRationalArray destination,
+            final int offset,
+            final int length,
+            final boolean shared,
+            final long payloadBytes) {
+        final var start = source.position();
+        final var denominator = shared ? getVarint(source) : 0;
+        for (var i = offset; i < offset + length; i++) {
+            final var numerator = unzigzag(getVarint(source));
+            final var currentDenominator = shared ? denominator : getVarint(source);
+            if (currentDenominator <= 0) {
+                throw new IllegalArgumentException("Expected denominator > 0 but denominator=" + currentDenominator);
+            }
+            destination.set(i, numerator, currentDenominator);
+        }
+        if (source.position() - start != payloadBytes) {
+            throw new IllegalArgumentException(
+                    "Expected payloadBytes=" + payloadBytes + " but payloadBytes=" + (source.position() - start));
+        }
+    }
+
+    private static long zigzag(final long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unzigzag(final long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static int varintLength(final long value) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private static void putVarint(final ByteBuffer destination, final long value) {
+        var remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            destination.put((byte) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        destination.put((byte) remaining);
+    }
+
+    private static long getVarint(final ByteBuffer source) {
+        var value = 0L;
+        for (var i = 0; i < MAX_VARINT_BYTES; i++) {
+            final var b = source.get();
+            value |= (long) (b & 0x7F) << 7 * i;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Expected varint of at most " + MAX_VARINT_BYTES + " bytes");
+    }
+
+    /** Returns the varint or -1 when the source ends within it */
+    private static long tryGetVarint(final ByteBuffer source) {
+        var value = 0L;
+        for (var i = 0; i < MAX_VARINT_BYTES; i++) {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            final var b = source.get();
+            value |= (long) (b & 0x7F) << 7 * i;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Expected block header >= 0 but header=" + value);
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Expected varint of at most " + MAX_VARINT_BYTES + " bytes");
+    }
+}
@@ -0,0 +1,150 @@
+package sliderule.core.number;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Exact {@link Collector}s for {@link LongRational}
+ *
+ * <p>Unlike {@code reduce(LongRational.ZERO, LongRational::add)}, which folds from left to right, the collectors reduce
+ * in a balanced pairwise way, so denominators grow slowly, and summing adds summands with a common denominator by their
+ * numerators first. Intermediate results that do not fit into long are computed with {@link BigRational}; only a
+ * canonical result that does not fit throws {@link ArithmeticException}. The collectors are unordered and work well
+ * with parallel streams, whose partial results are combined in a balanced way as well.
+ */
+public final class LongRationalCollectors {
+    private LongRationalCollectors() {}
+
+    /**
+     * Returns a collector of the canonical sum, 0 for no elements
+     *
+     * @return collector
+     */
+    public static @NonNull Collector<LongRational, ?, LongRational> summing() {
+        return summing(Function.identity());
+    }
+
+    /**
+     * Returns a collector of the canonical sum of the mapped elements, 0 for no elements
+     *
+     * @param mapper mapper
+     * @param <T> type of the elements
+     * @return collector
+     * @throws NullPointerException when mapper is null
+     */
+    public static <T> @NonNull Collector<T, ?, LongRational> summing(
+            final @NonNull Function<? super T, LongRational> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                LongRationalSummation::new,
+                (summation, element) -> summation.accept(mapper.apply(element)),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                },
+                summation -> summation.sum().toLongRational(),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector of the canonical arithmetic mean, 0 for no elements
+     *
+     * @return collector
+     */
+    public static @NonNull Collector<LongRational, ?, LongRational> averaging() {
+        return averaging(Function.identity());
+    }
+
+    /**
+     * Returns a collector of the canonical arithmetic mean of the mapped elements, 0 for no elements
+     *
+     * @param mapper mapper
+     * @param <T> type of the elements
+     * @return collector
+     * @throws NullPointerException when mapper is null
+     */
+    public static <T> @NonNull Collector<T, ?, LongRational> averaging(
+            final @NonNull Function<? super T, LongRational> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                LongRationalSummation::new,
+                (summation, element) -> summation.accept(mapper.apply(element)),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                },
+                LongRationalCollectors::average,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector of the canonical product, 1 for no elements
+     *
+     * @return collector
+     */
+    public static @NonNull Collector<LongRational, ?, LongRational> product() {
+        return product(Function.identity());
+    }
+
+    /**
+     * Returns a collector of the canonical product of the mapped elements, 1 for no elements
+     *
+     * @param mapper mapper
+     * @param <T> type of the elements
+     * @return collector
+     * @throws NullPointerException when mapper is null
+     */
+    public static <T> @NonNull Collector<T, ?, LongRational> product(
+            final @NonNull Function<? super T, LongRational> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                () -> new PairwiseReduction(HybridRational::multiply, HybridRational.ONE),
+                (reduction, element) -> reduction.accept(new HybridRational(mapper.apply(element))),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                },
+                reduction -> reduction.result().toLongRational(),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector of {@link LongRationalSummaryStatistics}
+     *
+     * @return collector
+     */
+    public static @NonNull Collector<LongRational, ?, LongRationalSummaryStatistics> summarizing() {
+        return summarizing(Function.identity());
+    }
+
+    /**
+     * Returns a collector of {@link LongRationalSummaryStatistics} of the mapped elements
+     *
+     * @param mapper mapper
+     * @param <T> type of the elements
+     * @return collector
+     * @throws NullPointerException when mapper is null
+     */
+    public static <T> @NonNull Collector<T, ?, LongRationalSummaryStatistics> summarizing(
+            final @NonNull Function<? super T, LongRational> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                LongRationalSummaryStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.apply(element)),
+                (left, right) -> {
+                    left.combine(right);
+                    return left;
+                },
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    static LongRational average(final LongRationalSummation summation) {
+        if (summation.count() == 0) {
+            return LongRational.ZERO;
+        }
+        return summation.sum().divide(new HybridRational(summation.count(), 1)).toLongRational();
+    }
+}
@@ -0,0 +1,521 @@
+package sliderule.core.number;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.util.Longs;
+
+/**
+ * Immutable lazy expression of rational numbers
+ *
+ * <p>Operations only build a directed acyclic graph of constants, variables and operations. {@link #compile()} turns
+ * the graph into a program that evaluates shared subexpressions once and can be reused for any number of bindings of
+ * the variables:
+ *
+ * <pre>{@code
+ * final var price = LongRationalExpression.variable(0);
+ * final var quantity = LongRationalExpression.variable(1);
+ * final var total = price.multiply(quantity).subtract(LongRationalExpression.variable(2)).compile();
+ * total.evaluate(LongRational.valueOf(3, 2), LongRational.valueOf(4), LongRational.ONE);
+ * }</pre>
+ *
+ * <p>Evaluation is fused: intermediate results are kept as unreduced fractions and reduced once at the end, so no
+ * intermediate {@link LongRational} is created. When an intermediate result does not fit into long, the program is
+ * evaluated again with {@link BigInteger}, so evaluation throws only when the canonical result does not fit.
+ */
+public final class LongRationalExpression {
+    private final Kind kind;
+    private final @Nullable LongRationalExpression left;
+    private final @Nullable LongRationalExpression right;
+    private final long numerator;
+    private final long denominator;
+
+    private LongRationalExpression(
+            final Kind kind,
+            final @Nullable LongRationalExpression left,
+            final @Nullable LongRationalExpression right,
+            final long numerator,
+            final long denominator) {
+        this.kind = kind;
+        this.left = left;
+        this.right = right;
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * Returns the constant expression
+     *
+     * @param value value
+     * @return expression
+     * @throws NullPointerException when value is null
+     */
+    public static @NonNull LongRationalExpression constant(final @NonNull LongRational value) {
+        Objects.requireNonNull(value, "value");
+        return new LongRationalExpression(Kind.CONSTANT, null, null, value.getNumerator(), value.getDenominator());
+    }
+
+    /**
+     * Returns the variable that is bound to the binding at the index
+     *
+     * @param index index of the binding
+     * @return expression
+     * @throws IllegalArgumentException when index is negative
+     */
+    public static @NonNull LongRationalExpression variable(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Expected index >= 0 but index=" + index);
+        }
+        return new LongRationalExpression(Kind.VARIABLE, null, null, index, 1);
+    }
+
+    /**
+     * Returns the sum
+     *
+     * @param summand summand
+     * @return expression
+     * @throws NullPointerException when summand is null
+     */
+    public @NonNull LongRationalExpression add(final @NonNull LongRationalExpression summand) {
+        return binary(Kind.ADD, summand, "summand");
+    }
+
+    /**
+     * Returns the sum
+     *
+     * @param summand summand
+     * @return expression
+     * @throws NullPointerException when summand is null
+     */
+    public @NonNull LongRationalExpression add(final @NonNull LongRational summand) {
+        return add(constant(summand));
+    }
+
+    /**
+     * Returns the difference
+     *
+     * @param subtrahend subtrahend
+     * @return expression
+     * @throws NullPointerException when subtrahend is null
+     */
+    public @NonNull LongRationalExpression subtract(final @NonNull LongRationalExpression subtrahend) {
+        return binary(Kind.SUBTRACT, subtrahend, "subtrahend");
+    }
+
+    /**
+     * Returns the difference
+     *
+     * @param subtrahend subtrahend
+     * @return expression
+     * @throws NullPointerException when subtrahend is null
+     */
+    public @NonNull LongRationalExpression subtract(final @NonNull LongRational subtrahend) {
+        return subtract(constant(subtrahend));
+    }
+
+    /**
+     * Returns the product
+     *
+     * @param multiplier multiplier
+     * @return expression
+     * @throws NullPointerException when multiplier is null
+     */
+    public @NonNull LongRationalExpression multiply(final @NonNull LongRationalExpression multiplier) {
+        return binary(Kind.MULTIPLY, multiplier, "multiplier");
+    }
+
+    /**
+     * Returns the product
+     *
+     * @param multiplier multiplier
+     * @return expression
+     * @throws NullPointerException when multiplier is null
+     */
+    public @NonNull LongRationalExpression multiply(final @NonNull LongRational multiplier) {
+        return multiply(constant(multiplier));
+    }
+
+    /**
+     * Returns the quotient
+     *
+     * @param divisor divisor
+     * @return expression
+     * @throws NullPointerException when divisor is null
+     */
+    public @NonNull LongRationalExpression divide(final @NonNull LongRationalExpression divisor) {
+        return binary(Kind.DIVIDE, divisor, "divisor");
+    }
+
+    /**
+     * Returns the quotient
+     *
+     * @param divisor divisor
+     * @return expression
+     * @throws NullPointerException when divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     */
+    public @NonNull LongRationalExpression divide(final @NonNull LongRational divisor) {
+        Objects.requireNonNull(divisor, "divisor");
+        if (divisor.isNotInvertible()) {
+            throw new IllegalArgumentException("divisor must be invertible but is " + divisor);
+        }
+        return divide(constant(divisor));
+    }
+
+    /**
+     * Returns the negation
+     *
+     * @return expression
+     */
+    public @NonNull LongRationalExpression negate() {
+        return new LongRationalExpression(Kind.NEGATE, this, null, 0, 1);
+    }
+
+    /**
+     * Compiles this expression into a reusable program
+     *
+     * @return program
+     */
+    public @NonNull Compiled compile() {
+        return new Compiled(this);
+    }
+
+    /**
+     * Evaluates this expression once
+     *
+     * @param bindings values of the variables by index
+     * @return canonical value
+     * @throws NullPointerException when bindings or one of the used bindings is null
+     * @throws IllegalArgumentException when a variable has no binding or a divisor is 0
+     * @throws ArithmeticException when the canonical value does not fit into long
+     */
+    public @NonNull LongRational evaluate(final @NonNull LongRational @NonNull ... bindings) {
+        return compile().evaluate(bindings);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalExpression{expression=" + format() + "}";
+    }
+
+    private LongRationalExpression binary(final Kind kind, final LongRationalExpression operand, final String name) {
+        Objects.requireNonNull(operand, name);
+        return new LongRationalExpression(kind, this, operand, 0, 1);
+    }
+
+    private String format() {
+        return switch (kind) {
+            case CONSTANT -> denominator == 1 ? Long.toString(numerator) : numerator + "/" + denominator;
+            case VARIABLE -> "x" + numerator;
+            case NEGATE -> "-" + Objects.requireNonNull(left).format();
+            default -> "(" + Objects.requireNonNull(left).format() + " " + kind.symbol + " "
+                    + Objects.requireNonNull(right).format() + ")";
+        };
+    }
+
+    private enum Kind {
+        CONSTANT(""),
+        VARIABLE(""),
+        ADD("+"),
+        SUBTRACT("-"),
+        MULTIPLY("*"),
+        DIVIDE("/"),
+        NEGATE("-");
+
+        private final String symbol;
+
+        Kind(final String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    /**
+     * Immutable and thread safe program of a {@link LongRationalExpression}
+     *
+     * <p>Every distinct node of the expression becomes one instruction in post order, so shared subexpressions are
+     * evaluated once per binding.
+     */
+    public static final class Compiled {
+        private final Kind[] kinds;
+        private final int[] lefts;
+        private final int[] rights;
+        private final long[] numerators;
+        private final long[] denominators;
+        private final int variableCount;
+
+        private Compiled(final LongRationalExpression expression) {
+            final var slots = new IdentityHashMap<LongRationalExpression, Integer>();
+            final var order = new ArrayList<LongRationalExpression>();
+            final var stack = new ArrayDeque<LongRationalExpression>();
+            stack.push(expression);
+            while (!stack.isEmpty()) {
+                final var node = stack.peek();
+                if (slots.containsKey(node)) {
+                    stack.pop();
+                    continue;
+                }
+                final var pending = pendingOperand(node, slots);
+                if (pending != null) {
+                    stack.push(pending);
+                } else {
+                    stack.pop();
+                    slots.put(node, order.size());
+                    order.add(node);
+                }
+            }
+            final var size = order.size();
+            kinds = new Kind[size];
+            lefts = new int[size];
+            rights = new int[size];
+            numerators = new long[size];
+            denominators = new long[size];
+            var maxIndex = -1;
+            for (var i = 0; i < size; i++) {
+                final var node = order.get(i);
+                kinds[i] = node.kind;
+                lefts[i] = node.left == null ? -1 : slots.get(node.left);
+                rights[i] = node.right == null ? -1 : slots.get(node.right);
+                numerators[i] = node.numerator;
+                denominators[i] = node.denominator;
+                if (node.kind == Kind.VARIABLE) {
+                    maxIndex = Math.max(maxIndex, (int) node.numerator);
+                }
+            }
+            variableCount = maxIndex + 1;
+        }
+
+        /**
+         * Returns the number of bindings that evaluation needs, i.e. the highest variable index plus 1
+         *
+         * @return variable count
+         */
+        public int getVariableCount() {
+            return variableCount;
+        }
+
+        /**
+         * Evaluates the program
+         *
+         * @param bindings values of the variables by index
+         * @return canonical value
+         * @throws NullPointerException when bindings or one of the used bindings is null
+         * @throws IllegalArgumentException when bindings has fewer than {@link #getVariableCount()} elements or a
+         *     divisor is 0
+         * @throws ArithmeticException when the canonical value does not fit into long
+         */
+        public @NonNull LongRational evaluate(final @NonNull LongRational @NonNull ... bindings) {
+            Objects.requireNonNull(bindings, "bindings");
+            requireBindings(bindings.length);
+            final var values = new long[2 * kinds.length];
+            for (var i = 0; i < kinds.length; i++) {
+                if (kinds[i] == Kind.VARIABLE) {
+                    final var binding = Objects.requireNonNull(bindings[(int) numerators[i]], "binding");
+                    values[2 * i] = binding.getNumerator();
+                    values[2 * i + 1] = binding.getDenominator();
+                }
+            }
+            run(values);
+            return LongRational.valueOfCanonical(values[0], values[1]);
+        }
+
+        /**
+         * Evaluates the program once per row of the columns
+         *
+         * <p>Column i holds the values of the variable with index i and all columns have the length of the destination.
+         * The evaluation of all rows shares one scratch array.
+         *
+         * @param columns values of the variables by index
+         * @param destination destination of the canonical values
+         * @return destination
+         * @throws NullPointerException when columns, one of the used columns or destination is null
+         * @throws IllegalArgumentException when columns has fewer than {@link #getVariableCount()} elements, the
+         *     lengths differ or a divisor is 0
+         * @throws ArithmeticException when a canonical value does not fit into long
+         */
+        public @NonNull LongRationalArray evaluate(
+                final @NonNull LongRationalArray @NonNull [] columns, final @NonNull LongRationalArray destination) {
+            Objects.requireNonNull(columns, "columns");
+            Objects.requireNonNull(destination, "destination");
+            requireBindings(columns.length);
+            for (var i = 0; i < variableCount; i++) {
+                final var column = Objects.requireNonNull(columns[i], "column");
+                if (column.length() != destination.length()) {
+                    throw new IllegalArgumentException(
+                            "Expected column.length=" + destination.length() + " but column.length=" + column.length());
+                }
+            }
+            final var values = new long[2 * kinds.length];
+            for (var row = 0; row < destination.length(); row++) {
+                for (var i = 0; i < kinds.length; i++) {
+                    if (kinds[i] == Kind.VARIABLE) {
+                        final var column = columns[(int) numerators[i]];
+                        values[2 * i] = column.getNumerator(row);
+                        values[2 * i + 1] = column.getDenominator(row);
+                    }
+                }
+                run(values);
+                destination.set(row, values[0], values[1]);
+            }
+            return destination;
+        }
+
+        @Override
+        public @NonNull String toString() {
+            return "Compiled{instructions=" + kinds.length + ", variableCount=" + variableCount + "}";
+        }
+
+        private void requireBindings(final int length) {
+            if (length < variableCount) {
+                throw new IllegalArgumentException(
+                        "Expected at least " + variableCount + " bindings but length=" + length);
+            }
+        }
+
+        /**
+         * Runs the program on the scratch array that holds numerator and denominator of every instruction with the
+         * variables already loaded and stores the canonical result in its first two elements
+         */
+        private void run(final long[] values) {
+            try {
+                runLong(values);
+                final var last = 2 * (kinds.length - 1);
+                final var n = values[last];
+                final var d = values[last + 1];
+                if (n != Long.MIN_VALUE) {
+                    final var gcd = Longs.gcd(n, d);
+                    values[0] = n / gcd;
+                    values[1] = d / gcd;
+                    return;
+                }
+            } catch (final ArithmeticException overflow) {
+                // evaluated again with BigInteger below
+            }
+            runBig(values);
+        }
+
+        private void runLong(final long[] values) {
+            for (var i = 0; i < kinds.length; i++) {
+                final var l = 2 * lefts[i];
+                final var r = 2 * rights[i];
+                final long n;
+                final long d;
+                switch (kinds[i]) {
+                    case CONSTANT -> {
+                        n = numerators[i];
+                        d = denominators[i];
+                    }
+                    case VARIABLE -> {
+                        n = values[2 * i];
+                        d = values[2 * i + 1];
+                    }
+                    case ADD, SUBTRACT -> {
+                        final var c = kinds[i] == Kind.ADD ? values[r] : Math.negateExact(values[r]);
+                        if (values[l + 1] == values[r + 1]) {
+                            n = Math.addExact(values[l], c);
+                            d = values[l + 1];
+                        } else {
+                            n = Math.addExact(
+                                    Math.multiplyExact(values[l], values[r + 1]), Math.multiplyExact(c, values[l + 1]));
+                            d = Math.multiplyExact(values[l + 1], values[r + 1]);
+                        }
+                    }
+                    case MULTIPLY -> {
+                        n = Math.multiplyExact(values[l], values[r]);
+                        d = Math.multiplyExact(values[l + 1], values[r + 1]);
+                    }
+                    case DIVIDE -> {
+                        final var c = values[r];
+                        requireInvertible(c);
+                        n = Math.multiplyExact(c < 0 ? Math.negateExact(values[l]) : values[l], values[r + 1]);
+                        d = Math.multiplyExact(values[l + 1], Math.absExact(c));
+                    }
+                    case NEGATE -> {
+                        n = Math.negateExact(values[l]);
+                        d = values[l + 1];
+                    }
+                    default -> throw new IllegalStateException("Unexpected kind " + kinds[i]);
+                }
+                values[2 * i] = n;
+                values[2 * i + 1] = d;
+            }
+        }
+
+        private void runBig(final long[] values) {
+            final var bigNumerators = new BigInteger[kinds.length];
+            final var bigDenominators = new BigInteger[kinds.length];
+            for (var i = 0; i < kinds.length; i++) {
+                final var l = lefts[i];
+                final var r = rights[i];
+                switch (kinds[i]) {
+                    case CONSTANT -> {
+                        bigNumerators[i] = BigInteger.valueOf(numerators[i]);
+                        bigDenominators[i] = BigInteger.valueOf(denominators[i]);
+                    }
+                    case VARIABLE -> {
+                        // the long evaluation overwrites only the slots of other instructions
+                        bigNumerators[i] = BigInteger.valueOf(values[2 * i]);
+                        bigDenominators[i] = BigInteger.valueOf(values[2 * i + 1]);
+                    }
+                    case ADD, SUBTRACT -> {
+                        final var c = kinds[i] == Kind.ADD ? bigNumerators[r] : bigNumerators[r].negate();
+                        if (bigDenominators[l].equals(bigDenominators[r])) {
+                            bigNumerators[i] = bigNumerators[l].add(c);
+                            bigDenominators[i] = bigDenominators[l];
+                        } else {
+                            bigNumerators[i] = bigNumerators[l]
+                                    .multiply(bigDenominators[r])
+                                    .add(c.multiply(bigDenominators[l]));
+                            bigDenominators[i] = bigDenominators[l].multiply(bigDenominators[r]);
+                        }
+                    }
+                    case MULTIPLY -> {
+                        bigNumerators[i] = bigNumerators[l].multiply(bigNumerators[r]);
+                        bigDenominators[i] = bigDenominators[l].multiply(bigDenominators[r]);
+                    }
+                    case DIVIDE -> {
+                        final var c = bigNumerators[r];
+                        requireInvertible(c.signum());
+                        final var a = c.signum() < 0 ? bigNumerators[l].negate() : bigNumerators[l];
+                        bigNumerators[i] = a.multiply(bigDenominators[r]);
+                        bigDenominators[i] = bigDenominators[l].multiply(c.abs());
+                    }
+                    case NEGATE -> {
+                        bigNumerators[i] = bigNumerators[l].negate();
+                        bigDenominators[i] = bigDenominators[l];
+                    }
+                    default -> throw new IllegalStateException("Unexpected kind " + kinds[i]);
+                }
+            }
+            final var last = kinds.length - 1;
+            final var gcd = bigNumerators[last].gcd(bigDenominators[last]);
+            final var n = bigNumerators[last].divide(gcd);
+            final var d = bigDenominators[last].divide(gcd);
+            if (n.abs().bitLength() >= Long.SIZE || d.bitLength() >= Long.SIZE) {
+                throw new ArithmeticException("Expected numerator and denominator in long but value=" + n + "/" + d);
+            }
+            values[0] = n.longValue();
+            values[1] = d.longValue();
+        }
+
+        private static void requireInvertible(final long signum) {
+            if (signum == 0) {
+                throw new IllegalArgumentException("Expected divisor != 0 but divisor=0");
+            }
+        }
+
+        private static @Nullable LongRationalExpression pendingOperand(
+                final LongRationalExpression node, final IdentityHashMap<LongRationalExpression, Integer> slots) {
+            if (node.left != null && !slots.containsKey(node.left)) {
+                return node.left;
+            }
+            if (node.right != null && !slots.containsKey(node.right)) {
+                return node.right;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package sliderule.core.number;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/** Allocation free formatting of rationals in the form {@code n/d} */
+final class LongRationalFormat {
+    private LongRationalFormat() {}
+
+    /**
+     * Returns the number of characters of {@code n/d}
+     *
+     * @param numerator numerator other than {@link Long#MIN_VALUE}
+     * @param denominator positive denominator
+     * @return length
+     */
+    static int length(final long numerator, final long denominator) {
+        return (numerator < 0 ? 1 : 0) + digits(Math.abs(numerator)) + 1 + digits(denominator);
+    }
+
+    /**
+     * Appends {@code n/d} character by character
+     *
+     * @param appendable appendable
+     * @param numerator numerator other than {@link Long#MIN_VALUE}
+     * @param denominator positive denominator
+     * @throws IOException when appending fails
+     */
+    static void append(final Appendable appendable, final long numerator, final long denominator) throws IOException {
+        if (numerator < 0) {
+            appendable.append('-');
+        }
+        appendDigits(appendable, Math.abs(numerator));
+        appendable.append('/');
+        appendDigits(appendable, denominator);
+    }
+
+    /**
+     * Puts {@code n/d} at the position of the destination, which must have {@link #length(long, long)} remaining chars
+     *
+     * @param destination destination
+     * @param numerator numerator other than {@link Long#MIN_VALUE}
+     * @param denominator positive denominator
+     */
+    static void put(final CharBuffer destination, final long numerator, final long denominator) {
+        final var start = destination.position();
+        final var end = start + length(numerator, denominator);
+        var index = putDigits(destination, end, denominator);
+        destination.put(--index, '/');
+        index = putDigits(destination, index, Math.abs(numerator));
+        if (numerator < 0) {
+            destination.put(--index, '-');
+        }
+        destination.position(end);
+    }
+
+    /**
+     * Puts {@code n/d} as ASCII at the position of the destination, which must have {@link #length(long, long)}
+     * remaining bytes
+     *
+     * @param destination destination
+     * @param numerator numerator other than {@link Long#MIN_VALUE}
+     * @param denominator positive denominator
+     */
+    static void put(final ByteBuffer destination, final long numerator, final long denominator) {
+        final var start = destination.position();
+        final var end = start + length(numerator, denominator);
+        var index = putDigits(destination, end, denominator);
+        destination.put(--index, (byte) '/');
+        index = putDigits(destination, index, Math.abs(numerator));
+        if (numerator < 0) {
+            destination.put(--index, (byte) '-');
+        }
+        destination.position(end);
+    }
+
+    private static int digits(final long value) {
+        var digits = 1;
+        for (var remaining = value / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void appendDigits(final Appendable appendable, final long value) throws IOException {
+        var divisor = 1L;
+        for (var remaining = value / 10; remaining != 0; remaining /= 10) {
+            divisor *= 10;
+        }
+        for (; divisor != 0; divisor /= 10) {
+            appendable.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /** Puts the digits of the non negative value backwards before end and returns the index of the first digit */
+    private static int putDigits(final CharBuffer destination, final int end, final long value) {
+        var index = end;
+        var remaining = value;
+        do {
+            destination.put(--index, (char) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        return index;
+    }
+
+    /** Puts the digits of the non negative value backwards before end and returns the index of the first digit */
+    private static int putDigits(final ByteBuffer destination, final int end, final long value) {
+        var index = end;
+        var remaining = value;
+        do {
+            destination.put(--index, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        return index;
+    }
+}
@@ -0,0 +1,227 @@
+package sliderule.core.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Groovy extension methods for {@link LongRational}
+ *
+ * <p>The methods are registered as extension module in {@code META-INF/groovy}, so Groovy finds them without any
+ * dependency of this library on Groovy. They add the operators +, -, * and / between {@link LongRational} and long or
+ * int in both orders. Without them Groovy would pick its own operators for {@link Number}, because {@link LongRational}
+ * is a {@link Number}, and compute with double or {@link BigDecimal}. Under {@code @CompileStatic} the operators
+ * compile to direct calls:
+ *
+ * <pre>{@code
+ * @CompileStatic
+ * LongRational total(LongRational price, long quantity) {
+ *     price * quantity + 1.5G.toLongRational()
+ * }
+ * }</pre>
+ *
+ * <p>The type checking extension {@code sliderule/core/number/LongRationalTypeChecking.groovy} compiles rule scripts
+ * statically by typing the variables of the script binding that are declared with {@link LongRationalBinding} as
+ * {@link LongRational}.
+ */
+public final class LongRationalGroovyMethods {
+    private LongRationalGroovyMethods() {}
+
+    /**
+     * Binary + operator for LongRational and long
+     *
+     * @param self augend
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when self is null
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public static @NonNull LongRational plus(final @NonNull LongRational self, final long summand) {
+        return self.add(LongRational.valueOf(summand));
+    }
+
+    /**
+     * Binary + operator for long and LongRational
+     *
+     * @param self augend
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when self or summand is null
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public static @NonNull LongRational plus(final @NonNull Long self, final @NonNull LongRational summand) {
+        return LongRational.valueOf(self).add(summand);
+    }
+
+    /**
+     * Binary + operator for int and LongRational
+     *
+     * @param self augend
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when self or summand is null
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public static @NonNull LongRational plus(final @NonNull Integer self, final @NonNull LongRational summand) {
+        return LongRational.valueOf(self).add(summand);
+    }
+
+    /**
+     * Binary - operator for LongRational and long
+     *
+     * @param self minuend
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when self is null
+     * @throws ArithmeticException when the canonical difference does not fit into long
+     */
+    public static @NonNull LongRational minus(final @NonNull LongRational self, final long subtrahend) {
+        return self.subtract(LongRational.valueOf(subtrahend));
+    }
+
+    /**
+     * Binary - operator for long and LongRational
+     *
+     * @param self minuend
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when self or subtrahend is null
+     * @throws ArithmeticException when the canonical difference does not fit into long
+     */
+    public static @NonNull LongRational minus(final @NonNull Long self, final @NonNull LongRational subtrahend) {
+        return LongRational.valueOf(self).subtract(subtrahend);
+    }
+
+    /**
+     * Binary - operator for int and LongRational
+     *
+     * @param self minuend
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when self or subtrahend is null
+     * @throws ArithmeticException when the canonical difference does not fit into long
+     */
+    public static @NonNull LongRational minus(final @NonNull Integer self, final @NonNull LongRational subtrahend) {
+        return LongRational.valueOf(self).subtract(subtrahend);
+    }
+
+    /**
+     * Binary * operator for LongRational and long
+     *
+     * @param self multiplicand
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when self is null
+     * @throws ArithmeticException when the canonical product does not fit into long
+     */
+    public static @NonNull LongRational multiply(final @NonNull LongRational self, final long multiplier) {
+        return self.multiply(LongRational.valueOf(multiplier));
+    }
+
+    /**
+     * Binary * operator for long and LongRational
+     *
+     * @param self multiplicand
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when self or multiplier is null
+     * @throws ArithmeticException when the canonical product does not fit into long
+     */
+    public static @NonNull LongRational multiply(final @NonNull Long self, final @NonNull LongRational multiplier) {
+        return LongRational.valueOf(self).multiply(multiplier);
+    }
+
+    /**
+     * Binary * operator for int and LongRational
+     *
+     * @param self multiplicand
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when self or multiplier is null
+     * @throws ArithmeticException when the canonical product does not fit into long
+     */
+    public static @NonNull LongRational multiply(final @NonNull Integer self, final @NonNull LongRational multiplier) {
+        return LongRational.valueOf(self).multiply(multiplier);
+    }
+
+    /**
+     * Binary / operator for LongRational and long
+     *
+     * @param self dividend
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when self is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when the canonical quotient does not fit into long
+     */
+    public static @NonNull LongRational div(final @NonNull LongRational self, final long divisor) {
+        return self.divide(LongRational.valueOf(divisor));
+    }
+
+    /**
+     * Binary / operator for long and LongRational
+     *
+     * @param self dividend
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when self or divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when the canonical quotient does not fit into long
+     */
+    public static @NonNull LongRational div(final @NonNull Long self, final @NonNull LongRational divisor) {
+        return LongRational.valueOf(self).divide(divisor);
+    }
+
+    /**
+     * Binary / operator for int and LongRational
+     *
+     * @param self dividend
+     * @param divisor divisor
+     * @return quotient
+     * @throws NullPointerException when self or divisor is null
+     * @throws IllegalArgumentException when divisor is 0
+     * @throws ArithmeticException when the canonical quotient does not fit into long
+     */
+    public static @NonNull LongRational div(final @NonNull Integer self, final @NonNull LongRational divisor) {
+        return LongRational.valueOf(self).divide(divisor);
+    }
+
+    /**
+     * Converts the long, e.g. {@code 3L.toLongRational()}
+     *
+     * @param self long
+     * @return LongRational
+     * @throws NullPointerException when self is null
+     */
+    public static @NonNull LongRational toLongRational(final @NonNull Long self) {
+        return LongRational.valueOf(self);
+    }
+
+    /**
+     * Converts the int, e.g. {@code 3.toLongRational()}
+     *
+     * @param self int
+     * @return LongRational
+     * @throws NullPointerException when self is null
+     */
+    public static @NonNull LongRational toLongRational(final @NonNull Integer self) {
+        return LongRational.valueOf(self);
+    }
+
+    /**
+     * Converts the decimal exactly, e.g. {@code 1.25G.toLongRational()}
+     *
+     * @param self decimal
+     * @return canonical LongRational
+     * @throws NullPointerException when self is null
+     * @throws ArithmeticException when the canonical value does not fit into long
+     */
+    public static @NonNull LongRational toLongRational(final @NonNull BigDecimal self) {
+        Objects.requireNonNull(self, "self");
+        final var scale = self.scale();
+        return scale <= 0
+                ? new BigRational(self.toBigIntegerExact(), BigInteger.ONE).toLongRational()
+                : new BigRational(self.unscaledValue(), BigInteger.TEN.pow(scale)).toLongRational();
+    }
+}
@@ -0,0 +1,234 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Counters of {@link LongRational} overflows, slow paths and result denominators per operation
+ *
+ * <p>Counting is enabled by the system property {@value #ENABLED_PROPERTY}. The property is read once, so the JIT
+ * removes the counting from the fast paths when it is not set. Independently of the property, overflows and slow paths
+ * are reported as JDK Flight Recorder events named {@code sliderule.LongRationalOverflow} and
+ * {@code sliderule.LongRationalSlowPath}, which only cost a check when no recording is running.
+ */
+public final class LongRationalMetrics {
+    /** Name of the system property that enables counting */
+    public static final @NonNull String ENABLED_PROPERTY = "sliderule.metrics";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private static final LongRationalMetrics GLOBAL = new LongRationalMetrics();
+
+    private final LongAdder[] overflows = adders(OPERATIONS.length);
+    private final LongAdder[] slowPaths = adders(OPERATIONS.length);
+    private final LongAdder[] denominatorBitLengths = adders(OPERATIONS.length * Long.SIZE);
+
+    /** Operations of {@link LongRational} */
+    public enum Operation {
+        /** {@link LongRational#add(LongRational)} */
+        ADD,
+        /** {@link LongRational#subtract(LongRational)} */
+        SUBTRACT,
+        /** {@link LongRational#multiply(LongRational)} */
+        MULTIPLY,
+        /** {@link LongRational#divide(LongRational)} */
+        DIVIDE,
+        /** {@link LongRational#power(int)} */
+        POWER,
+        /** {@link LongRational#toBigDecimal()} */
+        TO_BIG_DECIMAL,
+        /** {@link LongRational#floatValue()} */
+        FLOAT_VALUE,
+        /** {@link LongRational#doubleValue()} */
+        DOUBLE_VALUE
+    }
+
+    LongRationalMetrics() {}
+
+    /**
+     * Indicates if counting is enabled
+     *
+     * @return true when the system property {@value #ENABLED_PROPERTY} is true
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the counters of all operations of the JVM, which stay 0 when counting is disabled
+     *
+     * @return counters
+     */
+    public static @NonNull LongRationalMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the number of operations that threw because the result does not fit into long
+     *
+     * @param operation operation
+     * @return overflows
+     */
+    public long getOverflows(final @NonNull Operation operation) {
+        Objects.requireNonNull(operation, "operation");
+        return overflows[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of operations that took a {@link java.math.BigInteger} or {@link java.math.BigDecimal} path
+     *
+     * @param operation operation
+     * @return slow paths
+     */
+    public long getSlowPaths(final @NonNull Operation operation) {
+        Objects.requireNonNull(operation, "operation");
+        return slowPaths[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the histogram of the bit lengths of the result denominators, where index i counts denominators of bit
+     * length i
+     *
+     * @param operation operation
+     * @return histogram of length 64
+     */
+    public long @NonNull [] getDenominatorBitLengths(final @NonNull Operation operation) {
+        Objects.requireNonNull(operation, "operation");
+        final var offset = operation.ordinal() * Long.SIZE;
+        final var histogram = new long[Long.SIZE];
+        for (var i = 0; i < histogram.length; i++) {
+            histogram[i] = denominatorBitLengths[offset + i].sum();
+        }
+        return histogram;
+    }
+
+    /** Resets all counters to 0 */
+    public void reset() {
+        Arrays.stream(overflows).forEach(LongAdder::reset);
+        Arrays.stream(slowPaths).forEach(LongAdder::reset);
+        Arrays.stream(denominatorBitLengths).forEach(LongAdder::reset);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        final var builder = new StringBuilder("LongRationalMetrics{");
+        for (final var operation : OPERATIONS) {
+            if (operation.ordinal() > 0) {
+                builder.append(", ");
+            }
+            builder.append(operation)
+                    .append("={overflows=")
+                    .append(getOverflows(operation))
+                    .append(", slowPaths=")
+                    .append(getSlowPaths(operation))
+                    .append(", denominatorBitLengths=")
+                    .append(Arrays.toString(getDenominatorBitLengths(operation)))
+                    .append('}');
+        }
+        return builder.append('}').toString();
+    }
+
+    void recordOverflow(final Operation operation) {
+        overflows[operation.ordinal()].increment();
+    }
+
+    void recordSlowPath(final Operation operation) {
+        slowPaths[operation.ordinal()].increment();
+    }
+
+    void recordDenominator(final Operation operation, final long denominator) {
+        denominatorBitLengths[operation.ordinal() * Long.SIZE + Long.SIZE - Long.numberOfLeadingZeros(denominator)]
+                .increment();
+    }
+
+    /**
+     * Counts the result of an operation when counting is enabled
+     *
+     * @return result
+     */
+    static LongRational result(final Operation operation, final LongRational result) {
+        if (ENABLED) {
+            GLOBAL.recordDenominator(operation, result.getDenominator());
+        }
+        return result;
+    }
+
+    /**
+     * Reports an overflow
+     *
+     * @return overflow to rethrow
+     */
+    static ArithmeticException overflow(final Operation operation, final ArithmeticException overflow) {
+        if (ENABLED) {
+            GLOBAL.recordOverflow(operation);
+        }
+        final var event = new OverflowEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.message = overflow.getMessage();
+            event.commit();
+        }
+        return overflow;
+    }
+
+    /** Reports a slow path of an operation whose (left) operand is numerator / denominator */
+    static void slowPath(final Operation operation, final long numerator, final long denominator) {
+        if (ENABLED) {
+            GLOBAL.recordSlowPath(operation);
+        }
+        final var event = new SlowPathEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.numeratorBitLength = Long.SIZE - Long.numberOfLeadingZeros(Math.abs(numerator));
+            event.denominatorBitLength = Long.SIZE - Long.numberOfLeadingZeros(denominator);
+            event.commit();
+        }
+    }
+
+    private static LongAdder[] adders(final int length) {
+        final var adders = new LongAdder[length];
+        Arrays.setAll(adders, i -> new LongAdder());
+        return adders;
+    }
+
+    /** Operation that threw because its result does not fit into long */
+    @Name("sliderule.LongRationalOverflow")
+    @Label("LongRational Overflow")
+    @Category("sliderule")
+    @Description("LongRational operation whose result does not fit into long")
+    @StackTrace
+    static final class OverflowEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Message")
+        String message;
+    }
+
+    /** Operation that fell back to BigInteger or BigDecimal */
+    @Name("sliderule.LongRationalSlowPath")
+    @Label("LongRational Slow Path")
+    @Category("sliderule")
+    @Description("LongRational operation that fell back to BigInteger or BigDecimal")
+    @StackTrace
+    static final class SlowPathEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Numerator Bit Length")
+        int numeratorBitLength;
+
+        @Label("Denominator Bit Length")
+        int denominatorBitLength;
+    }
+}
@@ -0,0 +1,174 @@
+package sliderule.core.number;
+
+import sliderule.core.util.Longs;
+
+/**
+ * Incremental parser for rationals in the forms {@code n/d}, {@code n} and {@code i.f} with an optional leading sign
+ *
+ * <p>Characters are fed one by one, so a value may span several buffers. Trailing zeros of a fraction are dropped
+ * before they can overflow the denominator. The result is canonical and nothing is allocated but exceptions.
+ */
+final class LongRationalParser {
+    private static final int START = 0;
+    private static final int SIGN = 1;
+    private static final int INTEGER = 2;
+    private static final int POINT = 3;
+    private static final int FRACTION = 4;
+    private static final int SLASH = 5;
+    private static final int DENOMINATOR = 6;
+    private static final int MAX_SCALE = 18;
+
+    private int state = START;
+    private boolean negative;
+    private long magnitude;
+    private long divisor;
+    private int scale;
+    private int pendingZeros;
+    private long numerator;
+    private long denominator;
+
+    /**
+     * Indicates if characters of an incomplete value have been accepted
+     *
+     * @return boolean
+     */
+    boolean hasInput() {
+        return state != START;
+    }
+
+    /**
+     * Accepts the next character of the value
+     *
+     * @param c character
+     * @throws NumberFormatException when the character is not allowed or the value overflows
+     */
+    void accept(final char c) {
+        final var digit = c - '0';
+        final var isDigit = digit >= 0 && digit <= 9;
+        switch (state) {
+            case START -> {
+                if (c == '-' || c == '+') {
+                    negative = c == '-';
+                    state = SIGN;
+                } else {
+                    acceptIntegerDigit(c, isDigit, digit);
+                }
+            }
+            case SIGN -> acceptIntegerDigit(c, isDigit, digit);
+            case INTEGER -> {
+                if (c == '.') {
+                    state = POINT;
+                } else if (c == '/') {
+                    state = SLASH;
+                } else {
+                    acceptIntegerDigit(c, isDigit, digit);
+                }
+            }
+            case POINT, FRACTION -> acceptFractionDigit(c, isDigit, digit);
+            case SLASH, DENOMINATOR -> {
+                requireDigit(c, isDigit);
+                if (divisor > (Long.MAX_VALUE - digit) / 10) {
+                    throw fail("Denominator out of range");
+                }
+                divisor = divisor * 10 + digit;
+                state = DENOMINATOR;
+            }
+            default -> throw new IllegalStateException("Unexpected state=" + state);
+        }
+    }
+
+    /**
+     * Completes the value, so that {@link #numerator()} and {@link #denominator()} return its canonical representation,
+     * and resets this parser for the next value
+     *
+     * @throws NumberFormatException when the value is incomplete or its denominator is 0
+     */
+    void complete() {
+        final long completedDenominator;
+        switch (state) {
+            case INTEGER -> completedDenominator = 1;
+            case FRACTION -> completedDenominator = Longs.powExact(10, scale);
+            case DENOMINATOR -> {
+                if (divisor == 0) {
+                    throw fail("Expected denominator != 0 but denominator=" + 0);
+                }
+                completedDenominator = divisor;
+            }
+            default -> throw fail("Unexpected end of rational");
+        }
+        final var gcd = Longs.gcd(magnitude, completedDenominator);
+        numerator = negative ? -magnitude / gcd : magnitude / gcd;
+        denominator = completedDenominator / gcd;
+        reset();
+    }
+
+    /**
+     * Canonical numerator of the last completed value
+     *
+     * @return numerator
+     */
+    long numerator() {
+        return numerator;
+    }
+
+    /**
+     * Canonical denominator of the last completed value
+     *
+     * @return denominator
+     */
+    long denominator() {
+        return denominator;
+    }
+
+    /** Discards an incomplete value */
+    void reset() {
+        state = START;
+        negative = false;
+        magnitude = 0;
+        divisor = 0;
+        scale = 0;
+        pendingZeros = 0;
+    }
+
+    private void acceptIntegerDigit(final char c, final boolean isDigit, final int digit) {
+        requireDigit(c, isDigit);
+        magnitude = appendDigit(magnitude, digit);
+        state = INTEGER;
+    }
+
+    private void acceptFractionDigit(final char c, final boolean isDigit, final int digit) {
+        requireDigit(c, isDigit);
+        state = FRACTION;
+        if (digit == 0) {
+            pendingZeros++;
+            return;
+        }
+        if (scale + pendingZeros + 1 > MAX_SCALE) {
+            throw fail("Denominator out of range");
+        }
+        for (; pendingZeros > 0; pendingZeros--) {
+            magnitude = appendDigit(magnitude, 0);
+            scale++;
+        }
+        magnitude = appendDigit(magnitude, digit);
+        scale++;
+    }
+
+    private long appendDigit(final long value, final int digit) {
+        if (value > (Long.MAX_VALUE - digit) / 10) {
+            throw fail("Numerator out of range");
+        }
+        return value * 10 + digit;
+    }
+
+    private void requireDigit(final char c, final boolean isDigit) {
+        if (!isDigit) {
+            throw fail("Unexpected character '" + c + "'");
+        }
+    }
+
+    private NumberFormatException fail(final String message) {
+        reset();
+        return new NumberFormatException(message);
+    }
+}
@@ -0,0 +1,512 @@
+package sliderule.core.number;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import sliderule.core.util.Longs;
+
+/**
+ * Immutable polynomial in one variable with rational coefficients
+ *
+ * <p>Coefficients are stored canonically in two parallel long arrays, lowest degree first and without trailing zeros.
+ * When the least common multiple D of the coefficient denominators fits into long, the polynomial is also kept as
+ * integer polynomial K over D. A point a/b is then evaluated homogeneously as
+ *
+ * <pre>{@code
+ * p(a/b) = (K[n] a^n + K[n-1] a^(n-1) b + ... + K[0] b^n) / (D b^n)
+ * }</pre>
+ *
+ * <p>with one multiplication and one addition of longs per coefficient and a single reduction at the end. When an
+ * intermediate result does not fit into long, the point is evaluated again with {@link BigInteger}, so evaluation
+ * throws only when the canonical value does not fit.
+ */
+public final class LongRationalPolynomial {
+    /** Zero polynomial */
+    public static final @NonNull LongRationalPolynomial ZERO = new LongRationalPolynomial(new long[0], new long[0]);
+
+    private static final int KARATSUBA_THRESHOLD = 32;
+
+    private final long @NonNull [] numerators;
+    private final long @NonNull [] denominators;
+    private final long commonDenominator;
+    private final long @Nullable [] scaledNumerators;
+
+    /**
+     * Constructor
+     *
+     * @param coefficients coefficients, lowest degree first
+     * @throws NullPointerException when coefficients or one of its elements is null
+     */
+    public LongRationalPolynomial(final @NonNull LongRational @NonNull ... coefficients) {
+        this(new LongRationalArray(coefficients));
+    }
+
+    /**
+     * Constructor that copies the coefficients
+     *
+     * @param coefficients coefficients, lowest degree first
+     * @throws NullPointerException when coefficients is null
+     */
+    public LongRationalPolynomial(final @NonNull LongRationalArray coefficients) {
+        this(canonicalNumerators(coefficients), canonicalDenominators(coefficients));
+    }
+
+    /** Constructor that takes ownership of canonical coefficients */
+    private LongRationalPolynomial(final long[] numerators, final long[] denominators) {
+        var length = numerators.length;
+        while (length > 0 && numerators[length - 1] == 0) {
+            length--;
+        }
+        this.numerators = length == numerators.length ? numerators : Arrays.copyOf(numerators, length);
+        this.denominators = length == denominators.length ? denominators : Arrays.copyOf(denominators, length);
+        var lcm = 1L;
+        var scaled = new long[length];
+        try {
+            for (final var denominator : this.denominators) {
+                lcm = Longs.lcmExact(lcm, denominator);
+            }
+            for (var i = 0; i < length; i++) {
+                scaled[i] = Math.multiplyExact(this.numerators[i], lcm / this.denominators[i]);
+            }
+        } catch (final ArithmeticException overflow) {
+            lcm = 0;
+            scaled = null;
+        }
+        commonDenominator = lcm;
+        scaledNumerators = scaled;
+    }
+
+    /**
+     * Degree
+     *
+     * @return degree, -1 for the zero polynomial
+     */
+    public int degree() {
+        return numerators.length - 1;
+    }
+
+    /**
+     * Returns the coefficient of x^index
+     *
+     * @param index non negative index
+     * @return coefficient, 0 when index is greater than the degree
+     * @throws IllegalArgumentException when index is negative
+     */
+    public @NonNull LongRational getCoefficient(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Expected index >= 0 but index=" + index);
+        }
+        return index < numerators.length
+                ? LongRational.valueOfCanonical(numerators[index], denominators[index])
+                : LongRational.ZERO;
+    }
+
+    /**
+     * Returns the coefficients, lowest degree first
+     *
+     * @return new array of length {@link #degree()} + 1
+     */
+    public @NonNull LongRationalArray getCoefficients() {
+        return new LongRationalArray(numerators, denominators);
+    }
+
+    /**
+     * Evaluates the polynomial at the point
+     *
+     * @param point point
+     * @return canonical value
+     * @throws NullPointerException when point is null
+     * @throws ArithmeticException when the canonical value does not fit into long
+     */
+    public @NonNull LongRational evaluate(final @NonNull LongRational point) {
+        final var accumulator = evaluate(point, new MutableLongRational());
+        return LongRational.valueOfCanonical(accumulator.getNumerator(), accumulator.getDenominator());
+    }
+
+    /**
+     * Evaluates the polynomial at the point into the accumulator
+     *
+     * @param point point
+     * @param accumulator accumulator that is set to the canonical value
+     * @return accumulator
+     * @throws NullPointerException when point or accumulator is null
+     * @throws ArithmeticException when the canonical value does not fit into long
+     */
+    public @NonNull MutableLongRational evaluate(
+            final @NonNull LongRational point, final @NonNull MutableLongRational accumulator) {
+        Objects.requireNonNull(point, "point");
+        return evaluate(point.getNumerator(), point.getDenominator(), accumulator);
+    }
+
+    /**
+     * Evaluates the polynomial at the point given by numerator and denominator into the accumulator
+     *
+     * <p>Allocates only when an intermediate result does not fit into long.
+     *
+     * @param numerator numerator of the point
+     * @param denominator denominator of the point
+     * @param accumulator accumulator that is set to the canonical value
+     * @return accumulator
+     * @throws NullPointerException when accumulator is null
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when the canonical value does not fit into long
+     */
+    public @NonNull MutableLongRational evaluate(
+            final long numerator, final long denominator, final @NonNull MutableLongRational accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator");
+        if (denominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        final var a = denominator < 0 ? Math.negateExact(numerator) : numerator;
+        final var b = Math.absExact(denominator);
+        if (scaledNumerators != null) {
+            try {
+                var value = numerators.length == 0 ? 0 : scaledNumerators[numerators.length - 1];
+                var power = 1L;
+                for (var i = numerators.length - 2; i >= 0; i--) {
+                    power = Math.multiplyExact(power, b);
+                    value = Math.addExact(Math.multiplyExact(value, a), Math.multiplyExact(scaledNumerators[i], power));
+                }
+                final var valueDenominator = Math.multiplyExact(commonDenominator, power);
+                if (value != Long.MIN_VALUE) {
+                    return accumulator.set(value, valueDenominator).reduce();
+                }
+            } catch (final ArithmeticException overflow) {
+                // evaluated again with BigInteger below
+            }
+        }
+        return accumulator.set(evaluateBig(a, b));
+    }
+
+    /**
+     * Evaluates the polynomial at every point
+     *
+     * @param points points
+     * @return new array of canonical values
+     * @throws NullPointerException when points is null
+     * @throws ArithmeticException when a canonical value does not fit into long
+     */
+    public @NonNull LongRationalArray evaluate(final @NonNull LongRationalArray points) {
+        Objects.requireNonNull(points, "points");
+        return evaluate(points, new LongRationalArray(points.length()));
+    }
+
+    /**
+     * Evaluates the polynomial at every point into the destination
+     *
+     * <p>Consecutive points with equal denominator b share the coefficients K[i] b^(n-i) and the denominator D b^n, so
+     * each of them is evaluated with plain integer Horner steps. Points on a grid with a fixed step, e.g. hundredths,
+     * cost one multiplication and one addition of longs per coefficient and one reduction.
+     *
+     * @param points points
+     * @param destination destination of the canonical values, may be points
+     * @return destination
+     * @throws NullPointerException when points or destination is null
+     * @throws IllegalArgumentException when the lengths differ
+     * @throws ArithmeticException when a canonical value does not fit into long
+     */
+    public @NonNull LongRationalArray evaluate(
+            final @NonNull LongRationalArray points, final @NonNull LongRationalArray destination) {
+        Objects.requireNonNull(points, "points");
+        Objects.requireNonNull(destination, "destination");
+        if (points.length() != destination.length()) {
+            throw new IllegalArgumentException("Expected destination.length=" + points.length()
+                    + " but destination.length=" + destination.length());
+        }
+        final var shifted = new long[numerators.length];
+        var shiftedDenominator = 0L;
+        var shiftedFor = 0L;
+        for (var row = 0; row < points.length(); row++) {
+            final var a = points.getNumerator(row);
+            final var b = points.getDenominator(row);
+            if (b != shiftedFor && scaledNumerators != null) {
+                shiftedFor = b;
+                shiftedDenominator = shift(scaledNumerators, commonDenominator, b, shifted);
+            }
+            if (shiftedDenominator != 0) {
+                try {
+                    var value = numerators.length == 0 ? 0 : shifted[numerators.length - 1];
+                    for (var i = numerators.length - 2; i >= 0; i--) {
+                        value = Math.addExact(Math.multiplyExact(value, a), shifted[i]);
+                    }
+                    if (value != Long.MIN_VALUE) {
+                        final var gcd = Longs.gcd(value, shiftedDenominator);
+                        destination.set(row, value / gcd, shiftedDenominator / gcd);
+                        continue;
+                    }
+                } catch (final ArithmeticException overflow) {
+                    // evaluated again with BigInteger below
+                }
+            }
+            destination.set(row, evaluateBig(a, b));
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the sum
+     *
+     * @param summand summand
+     * @return sum
+     * @throws NullPointerException when summand is null
+     * @throws ArithmeticException when a canonical coefficient does not fit into long
+     */
+    public @NonNull LongRationalPolynomial add(final @NonNull LongRationalPolynomial summand) {
+        Objects.requireNonNull(summand, "summand");
+        final var length = Math.max(numerators.length, summand.numerators.length);
+        final var sumNumerators = new long[length];
+        final var sumDenominators = new long[length];
+        for (var i = 0; i < length; i++) {
+            final var sum = getCoefficient(i).add(summand.getCoefficient(i));
+            sumNumerators[i] = sum.getNumerator();
+            sumDenominators[i] = sum.getDenominator();
+        }
+        return new LongRationalPolynomial(sumNumerators, sumDenominators);
+    }
+
+    /**
+     * Returns the difference
+     *
+     * @param subtrahend subtrahend
+     * @return difference
+     * @throws NullPointerException when subtrahend is null
+     * @throws ArithmeticException when a canonical coefficient does not fit into long
+     */
+    public @NonNull LongRationalPolynomial subtract(final @NonNull LongRationalPolynomial subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        return add(subtrahend.negate());
+    }
+
+    /**
+     * Returns the negation
+     *
+     * @return negation
+     */
+    public @NonNull LongRationalPolynomial negate() {
+        final var negatedNumerators = new long[numerators.length];
+        for (var i = 0; i < numerators.length; i++) {
+            negatedNumerators[i] = -numerators[i];
+        }
+        return new LongRationalPolynomial(negatedNumerators, denominators.clone());
+    }
+
+    /**
+     * Returns the product
+     *
+     * <p>The integer polynomials are multiplied with the algorithm of Karatsuba once both degrees reach 32, which needs
+     * O(n^1.585) instead of O(n^2) multiplications of longs. When an intermediate result does not fit into long, the
+     * product is computed again with {@link BigInteger}.
+     *
+     * @param multiplier multiplier
+     * @return product
+     * @throws NullPointerException when multiplier is null
+     * @throws ArithmeticException when a canonical coefficient does not fit into long
+     */
+    public @NonNull LongRationalPolynomial multiply(final @NonNull LongRationalPolynomial multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        if (numerators.length == 0 || multiplier.numerators.length == 0) {
+            return ZERO;
+        }
+        if (scaledNumerators != null && multiplier.scaledNumerators != null) {
+            try {
+                final var productDenominator = Math.multiplyExact(commonDenominator, multiplier.commonDenominator);
+                final var productNumerators = karatsuba(scaledNumerators, multiplier.scaledNumerators);
+                final var denominators = new long[productNumerators.length];
+                for (var i = 0; i < productNumerators.length; i++) {
+                    final var gcd = Longs.gcd(productNumerators[i], productDenominator);
+                    productNumerators[i] /= gcd;
+                    denominators[i] = productDenominator / gcd;
+                }
+                return new LongRationalPolynomial(productNumerators, denominators);
+            } catch (final ArithmeticException overflow) {
+                // multiplied again with BigInteger below
+            }
+        }
+        final var left = bigScaledNumerators();
+        final var right = multiplier.bigScaledNumerators();
+        final var productDenominator = bigCommonDenominator().multiply(multiplier.bigCommonDenominator());
+        final var products = new BigInteger[left.length + right.length - 1];
+        Arrays.fill(products, BigInteger.ZERO);
+        for (var i = 0; i < left.length; i++) {
+            for (var j = 0; j < right.length; j++) {
+                products[i + j] = products[i + j].add(left[i].multiply(right[j]));
+            }
+        }
+        final var productNumerators = new long[products.length];
+        final var denominators = new long[products.length];
+        for (var i = 0; i < products.length; i++) {
+            final var product = new BigRational(products[i], productDenominator).toLongRational();
+            productNumerators[i] = product.getNumerator();
+            denominators[i] = product.getDenominator();
+        }
+        return new LongRationalPolynomial(productNumerators, denominators);
+    }
+
+    /**
+     * Returns the derivative
+     *
+     * @return derivative
+     * @throws ArithmeticException when a canonical coefficient does not fit into long
+     */
+    public @NonNull LongRationalPolynomial derivative() {
+        if (numerators.length <= 1) {
+            return ZERO;
+        }
+        final var derivativeNumerators = new long[numerators.length - 1];
+        final var derivativeDenominators = new long[numerators.length - 1];
+        for (var i = 1; i < numerators.length; i++) {
+            // i / gcd and denominator / gcd are coprime, so the coefficient stays canonical
+            final var gcd = Longs.gcd(i, denominators[i]);
+            derivativeNumerators[i - 1] = Math.multiplyExact(numerators[i], i / gcd);
+            derivativeDenominators[i - 1] = denominators[i] / gcd;
+        }
+        return new LongRationalPolynomial(derivativeNumerators, derivativeDenominators);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numerators) + Arrays.hashCode(denominators);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof final LongRationalPolynomial that)) {
+            return false;
+        }
+        return Arrays.equals(numerators, that.numerators) && Arrays.equals(denominators, that.denominators);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalPolynomial{numerators=" + Arrays.toString(numerators) + ", denominators="
+                + Arrays.toString(denominators) + '}';
+    }
+
+    private LongRational evaluateBig(final long a, final long b) {
+        if (numerators.length == 0) {
+            return LongRational.ZERO;
+        }
+        final var scaled = bigScaledNumerators();
+        final var bigA = BigInteger.valueOf(a);
+        final var bigB = BigInteger.valueOf(b);
+        var value = scaled[scaled.length - 1];
+        var power = BigInteger.ONE;
+        for (var i = scaled.length - 2; i >= 0; i--) {
+            power = power.multiply(bigB);
+            value = value.multiply(bigA).add(scaled[i].multiply(power));
+        }
+        return new BigRational(value, bigCommonDenominator().multiply(power)).toLongRational();
+    }
+
+    private BigInteger bigCommonDenominator() {
+        if (scaledNumerators != null) {
+            return BigInteger.valueOf(commonDenominator);
+        }
+        var lcm = BigInteger.ONE;
+        for (final var denominator : denominators) {
+            final var bigDenominator = BigInteger.valueOf(denominator);
+            lcm = lcm.divide(lcm.gcd(bigDenominator)).multiply(bigDenominator);
+        }
+        return lcm;
+    }
+
+    private BigInteger[] bigScaledNumerators() {
+        final var scaled = new BigInteger[numerators.length];
+        if (scaledNumerators != null) {
+            for (var i = 0; i < scaled.length; i++) {
+                scaled[i] = BigInteger.valueOf(scaledNumerators[i]);
+            }
+            return scaled;
+        }
+        final var lcm = bigCommonDenominator();
+        for (var i = 0; i < scaled.length; i++) {
+            scaled[i] = BigInteger.valueOf(numerators[i]).multiply(lcm.divide(BigInteger.valueOf(denominators[i])));
+        }
+        return scaled;
+    }
+
+    /** Writes K[i] b^(n-i) into shifted and returns D b^n, or 0 when one of them does not fit into long */
+    private static long shift(final long[] scaled, final long denominator, final long b, final long[] shifted) {
+        try {
+            var power = 1L;
+            for (var i = scaled.length - 1; i >= 0; i--) {
+                shifted[i] = Math.multiplyExact(scaled[i], power);
+                if (i > 0) {
+                    power = Math.multiplyExact(power, b);
+                }
+            }
+            return Math.multiplyExact(denominator, power);
+        } catch (final ArithmeticException overflow) {
+            return 0;
+        }
+    }
+
+    /**
+     * Multiplies integer polynomials by splitting x and y at m into x1 x^m + x0 and y1 x^m + y0 and using x0 y0, x1 y1
+     * and (x0 + x1)(y0 + y1) - x0 y0 - x1 y1 as the three partial products
+     */
+    private static long[] karatsuba(final long[] x, final long[] y) {
+        final var product = new long[x.length + y.length - 1];
+        if (Math.min(x.length, y.length) < KARATSUBA_THRESHOLD) {
+            for (var i = 0; i < x.length; i++) {
+                for (var j = 0; j < y.length; j++) {
+                    product[i + j] = Math.addExact(product[i + j], Math.multiplyExact(x[i], y[j]));
+                }
+            }
+            return product;
+        }
+        final var m = Math.min(x.length, y.length) / 2;
+        final var x0 = Arrays.copyOfRange(x, 0, m);
+        final var x1 = Arrays.copyOfRange(x, m, x.length);
+        final var y0 = Arrays.copyOfRange(y, 0, m);
+        final var y1 = Arrays.copyOfRange(y, m, y.length);
+        final var low = karatsuba(x0, y0);
+        final var high = karatsuba(x1, y1);
+        final var middle = karatsuba(sum(x1, x0), sum(y1, y0));
+        for (var i = 0; i < low.length; i++) {
+            product[i] = low[i];
+            middle[i] = Math.subtractExact(middle[i], low[i]);
+        }
+        for (var i = 0; i < high.length; i++) {
+            product[i + 2 * m] = Math.addExact(product[i + 2 * m], high[i]);
+            middle[i] = Math.subtractExact(middle[i], high[i]);
+        }
+        for (var i = 0; i < middle.length; i++) {
+            product[i + m] = Math.addExact(product[i + m], middle[i]);
+        }
+        return product;
+    }
+
+    /** Returns the sum of the integer polynomials, where longer is at least as long as shorter */
+    private static long[] sum(final long[] longer, final long[] shorter) {
+        final var sum = longer.clone();
+        for (var i = 0; i < shorter.length; i++) {
+            sum[i] = Math.addExact(sum[i], shorter[i]);
+        }
+        return sum;
+    }
+
+    private static long[] canonicalNumerators(final LongRationalArray coefficients) {
+        Objects.requireNonNull(coefficients, "coefficients");
+        final var canonical = new long[coefficients.length()];
+        for (var i = 0; i < canonical.length; i++) {
+            final var numerator = coefficients.getNumerator(i);
+            canonical[i] = numerator / Longs.gcd(numerator, coefficients.getDenominator(i));
+        }
+        return canonical;
+    }
+
+    private static long[] canonicalDenominators(final LongRationalArray coefficients) {
+        final var canonical = new long[coefficients.length()];
+        for (var i = 0; i < canonical.length; i++) {
+            final var denominator = coefficients.getDenominator(i);
+            canonical[i] = denominator / Longs.gcd(coefficients.getNumerator(i), denominator);
+        }
+        return canonical;
+    }
+}
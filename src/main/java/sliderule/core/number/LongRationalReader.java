@@ -0,0 +1,123 @@
+package sliderule.core.number;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Reader that parses delimited rationals from NIO buffers into a {@link LongRationalArray}
+ *
+ * <p>Values have the forms {@code n/d}, {@code n} and {@code i.f} with an optional leading sign and are separated by
+ * the delimiter or line breaks. Empty values are skipped. A value that is cut off at the end of a buffer is continued
+ * by the next call, so large inputs can be streamed through a fixed buffer, e.g. from a
+ * {@link java.nio.channels.FileChannel}. Byte buffers are read as ASCII or UTF-8. No object is allocated per value.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class LongRationalReader {
+    private final char delimiter;
+    private final LongRationalParser parser = new LongRationalParser();
+
+    /**
+     * Constructor
+     *
+     * @param delimiter delimiter between values in addition to line breaks
+     * @throws IllegalArgumentException when delimiter may be part of a value
+     */
+    public LongRationalReader(final char delimiter) {
+        if (delimiter >= '0' && delimiter <= '9'
+                || delimiter == '+'
+                || delimiter == '-'
+                || delimiter == '.'
+                || delimiter == '/') {
+            throw new IllegalArgumentException(
+                    "Expected delimiter that is not part of a value but delimiter=" + delimiter);
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads values from the source into the destination starting at offset
+     *
+     * <p>Stops when the source has no remaining chars or the destination is full. Then the source is positioned after
+     * the last consumed char.
+     *
+     * @param source source
+     * @param destination destination
+     * @param offset index of the first value in destination
+     * @param endOfInput if the source contains the end of the input, so that a trailing value without delimiter is
+     *     complete
+     * @return number of values read
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, destination.length()]
+     * @throws NumberFormatException when a value is malformed or overflows, which discards it
+     */
+    public int read(
+            final @NonNull CharBuffer source,
+            final @NonNull LongRationalArray destination,
+            final int offset,
+            final boolean endOfInput) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkIndex(offset, destination.length() + 1);
+        var index = offset;
+        while (source.hasRemaining() && (index < destination.length() || parser.hasInput())) {
+            index = accept(source.get(), destination, index);
+        }
+        return complete(destination, index, endOfInput && !source.hasRemaining()) - offset;
+    }
+
+    /**
+     * Reads values from the ASCII or UTF-8 source into the destination starting at offset
+     *
+     * <p>Stops when the source has no remaining bytes or the destination is full. Then the source is positioned after
+     * the last consumed byte.
+     *
+     * @param source source
+     * @param destination destination
+     * @param offset index of the first value in destination
+     * @param endOfInput if the source contains the end of the input, so that a trailing value without delimiter is
+     *     complete
+     * @return number of values read
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, destination.length()]
+     * @throws NumberFormatException when a value is malformed or overflows, which discards it
+     */
+    public int read(
+            final @NonNull ByteBuffer source,
+            final @NonNull LongRationalArray destination,
+            final int offset,
+            final boolean endOfInput) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkIndex(offset, destination.length() + 1);
+        var index = offset;
+        while (source.hasRemaining() && (index < destination.length() || parser.hasInput())) {
+            index = accept((char) (source.get() & 0xFF), destination, index);
+        }
+        return complete(destination, index, endOfInput && !source.hasRemaining()) - offset;
+    }
+
+    private int accept(final char c, final LongRationalArray destination, final int index) {
+        if (c != delimiter && c != '\n' && c != '\r') {
+            parser.accept(c);
+            return index;
+        }
+        if (!parser.hasInput()) {
+            return index;
+        }
+        parser.complete();
+        destination.set(index, parser.numerator(), parser.denominator());
+        return index + 1;
+    }
+
+    private int complete(final LongRationalArray destination, final int index, final boolean endOfInput) {
+        if (!endOfInput || !parser.hasInput()) {
+            return index;
+        }
+        parser.complete();
+        destination.set(index, parser.numerator(), parser.denominator());
+        return index + 1;
+    }
+}
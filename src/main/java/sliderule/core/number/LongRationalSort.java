@@ -0,0 +1,334 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import sliderule.core.util.Longs;
+
+/**
+ * Stable merge sort of rationals stored in parallel numerator and denominator arrays
+ *
+ * <p>Compares by 128-bit cross products, so it neither overflows nor boxes. Runs alternate between the arrays and a
+ * scratch copy of the sorted range, so every level of the recursion merges without copying back. Positions are indexes
+ * of the arrays, and every array comes with the offset of the position of its first element. Halves above a threshold
+ * are sorted and merged in parallel, where a parallel merge splits both runs at the median of the longer one.
+ */
+final class LongRationalSort {
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private LongRationalSort() {}
+
+    /**
+     * Sorts the rationals in [from, to) of the arrays, whose denominators must be positive
+     *
+     * @param numerators numerators
+     * @param denominators positive denominators
+     * @param from index of the first element
+     * @param to index after the last element
+     * @param pool pool for a parallel sort or null for a sequential sort
+     */
+    static void sort(
+            final long[] numerators, final long[] denominators, final int from, final int to, final ForkJoinPool pool) {
+        if (to - from < INSERTION_THRESHOLD) {
+            insertionSort(numerators, denominators, from, to);
+            return;
+        }
+        final var scratchNumerators = Arrays.copyOfRange(numerators, from, to);
+        final var scratchDenominators = Arrays.copyOfRange(denominators, from, to);
+        if (pool == null || to - from <= PARALLEL_THRESHOLD) {
+            mergeSort(scratchNumerators, scratchDenominators, from, numerators, denominators, 0, from, to);
+        } else {
+            pool.invoke(
+                    new SortTask(scratchNumerators, scratchDenominators, from, numerators, denominators, 0, from, to));
+        }
+    }
+
+    /** Indicates if a/b is less than c/d for positive b and d */
+    static boolean less(final long a, final long b, final long c, final long d) {
+        return Longs.compareProducts(a, d, c, b) < 0;
+    }
+
+    /**
+     * Sorts the positions [from, to) of the source into the destination, which both hold the same elements at these
+     * positions, and uses the source as scratch space
+     */
+    private static void mergeSort(
+            final long[] sourceNumerators,
+            final long[] sourceDenominators,
+            final int sourceOffset,
+            final long[] numerators,
+            final long[] denominators,
+            final int offset,
+            final int from,
+            final int to) {
+        if (to - from < INSERTION_THRESHOLD) {
+            insertionSort(numerators, denominators, from - offset, to - offset);
+            return;
+        }
+        final var middle = (from + to) >>> 1;
+        mergeSort(numerators, denominators, offset, sourceNumerators, sourceDenominators, sourceOffset, from, middle);
+        mergeSort(numerators, denominators, offset, sourceNumerators, sourceDenominators, sourceOffset, middle, to);
+        merge(
+                sourceNumerators,
+                sourceDenominators,
+                from - sourceOffset,
+                middle - sourceOffset,
+                middle - sourceOffset,
+                to - sourceOffset,
+                numerators,
+                denominators,
+                from - offset);
+    }
+
+    /** Sorts [from, to) of the arrays */
+    private static void insertionSort(
+            final long[] numerators, final long[] denominators, final int from, final int to) {
+        for (var i = from + 1; i < to; i++) {
+            final var numerator = numerators[i];
+            final var denominator = denominators[i];
+            var j = i - 1;
+            while (j >= from && less(numerator, denominator, numerators[j], denominators[j])) {
+                numerators[j + 1] = numerators[j];
+                denominators[j + 1] = denominators[j];
+                j--;
+            }
+            numerators[j + 1] = numerator;
+            denominators[j + 1] = denominator;
+        }
+    }
+
+    /** Merges the sorted runs [leftFrom, leftTo) and [rightFrom, rightTo) of the source into the target at index */
+    private static void merge(
+            final long[] sourceNumerators,
+            final long[] sourceDenominators,
+            final int leftFrom,
+            final int leftTo,
+            final int rightFrom,
+            final int rightTo,
+            final long[] numerators,
+            final long[] denominators,
+            final int index) {
+        var left = leftFrom;
+        var right = rightFrom;
+        var target = index;
+        while (left < leftTo && right < rightTo) {
+            // takes the left element on ties, which keeps the sort stable
+            if (less(
+                    sourceNumerators[right],
+                    sourceDenominators[right],
+                    sourceNumerators[left],
+                    sourceDenominators[left])) {
+                numerators[target] = sourceNumerators[right];
+                denominators[target++] = sourceDenominators[right++];
+            } else {
+                numerators[target] = sourceNumerators[left];
+                denominators[target++] = sourceDenominators[left++];
+            }
+        }
+        System.arraycopy(sourceNumerators, left, numerators, target, leftTo - left);
+        System.arraycopy(sourceDenominators, left, denominators, target, leftTo - left);
+        target += leftTo - left;
+        System.arraycopy(sourceNumerators, right, numerators, target, rightTo - right);
+        System.arraycopy(sourceDenominators, right, denominators, target, rightTo - right);
+    }
+
+    /** Returns the first index in [from, to) whose element is not less than a/b, or greater than a/b when upper */
+    private static int search(
+            final long[] numerators,
+            final long[] denominators,
+            final int from,
+            final int to,
+            final long a,
+            final long b,
+            final boolean upper) {
+        var low = from;
+        var high = to;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            final var before = upper
+                    ? !less(a, b, numerators[middle], denominators[middle])
+                    : less(numerators[middle], denominators[middle], a, b);
+            if (before) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Sorts [from, to) of the source into the target in parallel */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] sourceNumerators;
+        private final long[] sourceDenominators;
+        private final int sourceOffset;
+        private final long[] numerators;
+        private final long[] denominators;
+        private final int offset;
+        private final int from;
+        private final int to;
+
+        SortTask(
+                final long[] sourceNumerators,
+                final long[] sourceDenominators,
+                final int sourceOffset,
+                final long[] numerators,
+                final long[] denominators,
+                final int offset,
+                final int from,
+                final int to) {
+            this.sourceNumerators = sourceNumerators;
+            this.sourceDenominators = sourceDenominators;
+            this.sourceOffset = sourceOffset;
+            this.numerators = numerators;
+            this.denominators = denominators;
+            this.offset = offset;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(
+                        sourceNumerators, sourceDenominators, sourceOffset, numerators, denominators, offset, from, to);
+                return;
+            }
+            final var middle = (from + to) >>> 1;
+            invokeAll(
+                    new SortTask(
+                            numerators,
+                            denominators,
+                            offset,
+                            sourceNumerators,
+                            sourceDenominators,
+                            sourceOffset,
+                            from,
+                            middle),
+                    new SortTask(
+                            numerators,
+                            denominators,
+                            offset,
+                            sourceNumerators,
+                            sourceDenominators,
+                            sourceOffset,
+                            middle,
+                            to));
+            new MergeTask(
+                            sourceNumerators,
+                            sourceDenominators,
+                            from - sourceOffset,
+                            middle - sourceOffset,
+                            middle - sourceOffset,
+                            to - sourceOffset,
+                            numerators,
+                            denominators,
+                            from - offset)
+                    .compute();
+        }
+    }
+
+    /** Merges two sorted runs of the source into the target in parallel */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] sourceNumerators;
+        private final long[] sourceDenominators;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final long[] numerators;
+        private final long[] denominators;
+        private final int index;
+
+        MergeTask(
+                final long[] sourceNumerators,
+                final long[] sourceDenominators,
+                final int leftFrom,
+                final int leftTo,
+                final int rightFrom,
+                final int rightTo,
+                final long[] numerators,
+                final long[] denominators,
+                final int index) {
+            this.sourceNumerators = sourceNumerators;
+            this.sourceDenominators = sourceDenominators;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.numerators = numerators;
+            this.denominators = denominators;
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            final var leftLength = leftTo - leftFrom;
+            final var rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= PARALLEL_THRESHOLD) {
+                merge(
+                        sourceNumerators,
+                        sourceDenominators,
+                        leftFrom,
+                        leftTo,
+                        rightFrom,
+                        rightTo,
+                        numerators,
+                        denominators,
+                        index);
+                return;
+            }
+            final int leftMiddle;
+            final int rightMiddle;
+            if (leftLength >= rightLength) {
+                // right elements equal to the left median follow it, which keeps the merge stable
+                leftMiddle = (leftFrom + leftTo) >>> 1;
+                rightMiddle = search(
+                        sourceNumerators,
+                        sourceDenominators,
+                        rightFrom,
+                        rightTo,
+                        sourceNumerators[leftMiddle],
+                        sourceDenominators[leftMiddle],
+                        false);
+            } else {
+                // left elements equal to the right median precede it, which keeps the merge stable
+                rightMiddle = (rightFrom + rightTo) >>> 1;
+                leftMiddle = search(
+                        sourceNumerators,
+                        sourceDenominators,
+                        leftFrom,
+                        leftTo,
+                        sourceNumerators[rightMiddle],
+                        sourceDenominators[rightMiddle],
+                        true);
+            }
+            invokeAll(
+                    new MergeTask(
+                            sourceNumerators,
+                            sourceDenominators,
+                            leftFrom,
+                            leftMiddle,
+                            rightFrom,
+                            rightMiddle,
+                            numerators,
+                            denominators,
+                            index),
+                    new MergeTask(
+                            sourceNumerators,
+                            sourceDenominators,
+                            leftMiddle,
+                            leftTo,
+                            rightMiddle,
+                            rightTo,
+                            numerators,
+                            denominators,
+                            index + (leftMiddle - leftFrom) + (rightMiddle - rightFrom)));
+        }
+    }
+}
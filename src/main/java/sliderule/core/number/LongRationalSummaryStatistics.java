@@ -0,0 +1,109 @@
+package sliderule.core.number;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * State object for collecting exact statistics of rationals like {@link java.util.LongSummaryStatistics}
+ *
+ * <p>The sum is computed with the same exact summation as {@link LongRationalCollectors#summing()}, so intermediate
+ * sums that do not fit into long do not throw.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class LongRationalSummaryStatistics implements Consumer<LongRational> {
+    private final LongRationalSummation summation = new LongRationalSummation();
+    private @Nullable LongRational min;
+    private @Nullable LongRational max;
+
+    /** Constructor for empty statistics */
+    public LongRationalSummaryStatistics() {
+        // nothing to do
+    }
+
+    /**
+     * Records the rational
+     *
+     * @param rational rational
+     * @throws NullPointerException when rational is null
+     */
+    @Override
+    public void accept(final @NonNull LongRational rational) {
+        Objects.requireNonNull(rational, "rational");
+        summation.accept(rational);
+        min = min == null ? rational : min.min(rational);
+        max = max == null ? rational : max.max(rational);
+    }
+
+    /**
+     * Combines the state of the other statistics into this
+     *
+     * @param other other
+     * @throws NullPointerException when other is null
+     */
+    public void combine(final @NonNull LongRationalSummaryStatistics other) {
+        Objects.requireNonNull(other, "other");
+        summation.combine(other.summation);
+        if (other.min != null) {
+            min = min == null ? other.min : min.min(other.min);
+        }
+        if (other.max != null) {
+            max = max == null ? other.max : max.max(other.max);
+        }
+    }
+
+    /**
+     * Number of recorded rationals
+     *
+     * @return count
+     */
+    public long getCount() {
+        return summation.count();
+    }
+
+    /**
+     * Canonical sum of the recorded rationals, 0 when none have been recorded
+     *
+     * @return sum
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public @NonNull LongRational getSum() {
+        return summation.sum().toLongRational();
+    }
+
+    /**
+     * Minimum of the recorded rationals
+     *
+     * @return minimum, null when none have been recorded
+     */
+    public @Nullable LongRational getMin() {
+        return min;
+    }
+
+    /**
+     * Maximum of the recorded rationals
+     *
+     * @return maximum, null when none have been recorded
+     */
+    public @Nullable LongRational getMax() {
+        return max;
+    }
+
+    /**
+     * Canonical arithmetic mean of the recorded rationals, 0 when none have been recorded
+     *
+     * @return average
+     * @throws ArithmeticException when the canonical average does not fit into long
+     */
+    public @NonNull LongRational getAverage() {
+        return LongRationalCollectors.average(summation);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "LongRationalSummaryStatistics{count=" + getCount() + ", sum=" + summation.sum() + ", min=" + min
+                + ", max=" + max + '}';
+    }
+}
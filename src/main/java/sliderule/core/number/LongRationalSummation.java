@@ -0,0 +1,86 @@
+package sliderule.core.number;
+
+/**
+ * Exact summation of rationals that groups summands by common denominator
+ *
+ * <p>Summands with a common denominator are added by adding their numerators, so their denominators do not grow. A
+ * small open addressing table keeps one group per denominator. Groups whose numerator would overflow and all groups of
+ * a full table are handed over to a {@link PairwiseReduction}.
+ *
+ * <p>Instances are not thread safe.
+ */
+final class LongRationalSummation {
+    private static final int CAPACITY = 64;
+    private static final int MAX_GROUPS = CAPACITY / 2;
+
+    private final long[] denominators = new long[CAPACITY];
+    private final long[] numerators = new long[CAPACITY];
+    private final PairwiseReduction reduction = new PairwiseReduction(HybridRational::add, HybridRational.ZERO);
+    private int groups;
+    private long count;
+
+    void accept(final LongRational summand) {
+        final var canonical = summand.canonical();
+        add(canonical.getNumerator(), canonical.getDenominator());
+        count++;
+    }
+
+    void combine(final LongRationalSummation other) {
+        for (var i = 0; i < CAPACITY; i++) {
+            if (other.denominators[i] != 0) {
+                add(other.numerators[i], other.denominators[i]);
+            }
+        }
+        reduction.combine(other.reduction);
+        count += other.count;
+    }
+
+    HybridRational sum() {
+        flush();
+        return reduction.result();
+    }
+
+    long count() {
+        return count;
+    }
+
+    private void add(final long numerator, final long denominator) {
+        var index = index(denominator);
+        while (denominators[index] != 0 && denominators[index] != denominator) {
+            index = (index + 1) & (CAPACITY - 1);
+        }
+        if (denominators[index] == 0) {
+            if (groups == MAX_GROUPS) {
+                flush();
+                index = index(denominator);
+            }
+            denominators[index] = denominator;
+            numerators[index] = numerator;
+            groups++;
+            return;
+        }
+        final var sum = numerators[index] + numerator;
+        if (((numerators[index] ^ sum) & (numerator ^ sum)) < 0 || sum == Long.MIN_VALUE) {
+            reduction.accept(new HybridRational(numerators[index], denominator));
+            numerators[index] = numerator;
+        } else {
+            numerators[index] = sum;
+        }
+    }
+
+    private void flush() {
+        for (var i = 0; i < CAPACITY; i++) {
+            if (denominators[i] != 0) {
+                if (numerators[i] != 0) {
+                    reduction.accept(new HybridRational(numerators[i], denominators[i]));
+                }
+                denominators[i] = 0;
+            }
+        }
+        groups = 0;
+    }
+
+    private static int index(final long denominator) {
+        return (int) ((denominator * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - Integer.numberOfTrailingZeros(CAPACITY)));
+    }
+}
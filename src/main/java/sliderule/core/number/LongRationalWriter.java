@@ -0,0 +1,91 @@
+package sliderule.core.number;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Writer that formats the elements of a {@link LongRationalArray} as delimited text into NIO buffers
+ *
+ * <p>Each element is written in the form {@code n/d} followed by the delimiter, so the output can be read by
+ * {@link LongRationalReader}. Only complete values are written, so large arrays can be streamed through a fixed buffer,
+ * e.g. into a {@link java.nio.channels.FileChannel}. Byte buffers are written as ASCII. No object is allocated per
+ * value.
+ */
+public final class LongRationalWriter {
+    private final char delimiter;
+
+    /**
+     * Constructor
+     *
+     * @param delimiter delimiter written after each value
+     * @throws IllegalArgumentException when delimiter may be part of a value or is not ASCII
+     */
+    public LongRationalWriter(final char delimiter) {
+        if (delimiter >= '0' && delimiter <= '9'
+                || delimiter == '+'
+                || delimiter == '-'
+                || delimiter == '.'
+                || delimiter == '/'
+                || delimiter > 0x7F) {
+            throw new IllegalArgumentException(
+                    "Expected ASCII delimiter that is not part of a value but delimiter=" + delimiter);
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Writes the elements of the source starting at offset into the destination while they fit
+     *
+     * @param source source
+     * @param offset index of the first element to write
+     * @param destination destination
+     * @return index of the first element that was not written
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, source.length()]
+     */
+    public int write(final @NonNull LongRationalArray source, final int offset, final @NonNull CharBuffer destination) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkIndex(offset, source.length() + 1);
+        var index = offset;
+        for (; index < source.length(); index++) {
+            final var numerator = source.getNumerator(index);
+            final var denominator = source.getDenominator(index);
+            if (LongRationalFormat.length(numerator, denominator) >= destination.remaining()) {
+                break;
+            }
+            LongRationalFormat.put(destination, numerator, denominator);
+            destination.put(delimiter);
+        }
+        return index;
+    }
+
+    /**
+     * Writes the elements of the source starting at offset as ASCII into the destination while they fit
+     *
+     * @param source source
+     * @param offset index of the first element to write
+     * @param destination destination
+     * @return index of the first element that was not written
+     * @throws NullPointerException when source or destination is null
+     * @throws IndexOutOfBoundsException when offset is not in [0, source.length()]
+     */
+    public int write(final @NonNull LongRationalArray source, final int offset, final @NonNull ByteBuffer destination) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(destination, "destination");
+        Objects.checkIndex(offset, source.length() + 1);
+        var index = offset;
+        for (; index < source.length(); index++) {
+            final var numerator = source.getNumerator(index);
+            final var denominator = source.getDenominator(index);
+            if (LongRationalFormat.length(numerator, denominator) >= destination.remaining()) {
+                break;
+            }
+            LongRationalFormat.put(destination, numerator, denominator);
+            destination.put((byte) delimiter);
+        }
+        return index;
+    }
+}
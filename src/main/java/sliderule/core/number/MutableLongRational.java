@@ -0,0 +1,272 @@
+package sliderule.core.number;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import sliderule.core.util.Longs;
+
+/**
+ * Mutable rational number for allocation free accumulation
+ *
+ * <p>Operations multiply out numerators and denominators without reducing them. Only when an operation would overflow
+ * the value is reduced and the operation is repeated with the overflow resistant arithmetic of {@link LongRational},
+ * which throws {@link ArithmeticException} only when the canonical result does not fit into long. The value is left
+ * unchanged in that case.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class MutableLongRational {
+    private long numerator;
+    private long denominator;
+
+    /** Constructor for 0 */
+    public MutableLongRational() {
+        this(0, 1);
+    }
+
+    /**
+     * All arguments constructor
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when numerator or denominator is {@link Long#MIN_VALUE}
+     */
+    public MutableLongRational(final long numerator, final long denominator) {
+        set(numerator, denominator);
+    }
+
+    /**
+     * Constructor that copies the value of the rational
+     *
+     * @param rational rational
+     * @throws NullPointerException when rational is null
+     */
+    public MutableLongRational(final @NonNull LongRational rational) {
+        set(rational);
+    }
+
+    /**
+     * Sets the value
+     *
+     * @param numerator numerator
+     * @param denominator denominator
+     * @return this
+     * @throws IllegalArgumentException when denominator is 0
+     * @throws ArithmeticException when numerator or denominator is {@link Long#MIN_VALUE}
+     */
+    public @NonNull MutableLongRational set(final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        final var absNumerator = Math.absExact(numerator);
+        this.numerator = Long.signum(numerator) * Long.signum(denominator) < 0 ? -absNumerator : absNumerator;
+        this.denominator = Math.absExact(denominator);
+        return this;
+    }
+
+    /**
+     * Sets the value
+     *
+     * @param rational rational
+     * @return this
+     * @throws NullPointerException when rational is null
+     */
+    public @NonNull MutableLongRational set(final @NonNull LongRational rational) {
+        Objects.requireNonNull(rational, "rational");
+        numerator = rational.getNumerator();
+        denominator = rational.getDenominator();
+        return this;
+    }
+
+    /**
+     * Adds the summand to this
+     *
+     * @param summand summand
+     * @return this
+     * @throws NullPointerException when summand is null
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public @NonNull MutableLongRational addInPlace(final @NonNull LongRational summand) {
+        Objects.requireNonNull(summand, "summand");
+        return addInPlace(summand.getNumerator(), summand.getDenominator());
+    }
+
+    /**
+     * Adds the summand given by numerator and denominator to this
+     *
+     * @param summandNumerator numerator of the summand
+     * @param summandDenominator denominator of the summand
+     * @return this
+     * @throws IllegalArgumentException when summandDenominator is 0
+     * @throws ArithmeticException when the canonical sum does not fit into long
+     */
+    public @NonNull MutableLongRational addInPlace(final long summandNumerator, final long summandDenominator) {
+        if (summandDenominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        if (summandDenominator == denominator) {
+            final var sum = numerator + summandNumerator;
+            if (((numerator ^ sum) & (summandNumerator ^ sum)) >= 0) {
+                numerator = sum;
+                return this;
+            }
+        } else if (summandDenominator > 0) {
+            final var left = numerator * summandDenominator;
+            final var right = summandNumerator * denominator;
+            final var sum = left + right;
+            final var product = denominator * summandDenominator;
+            if (Longs.multiplyFits(numerator, summandDenominator)
+                    && Longs.multiplyFits(summandNumerator, denominator)
+                    && ((left ^ sum) & (right ^ sum)) >= 0
+                    && Longs.multiplyFits(denominator, summandDenominator)) {
+                numerator = sum;
+                denominator = product;
+                return this;
+            }
+        }
+        return set(toLongRational().add(new LongRational(summandNumerator, summandDenominator)));
+    }
+
+    /**
+     * Subtracts the subtrahend from this
+     *
+     * @param subtrahend subtrahend
+     * @return this
+     * @throws NullPointerException when subtrahend is null
+     * @throws ArithmeticException when the canonical difference does not fit into long
+     */
+    public @NonNull MutableLongRational subtractInPlace(final @NonNull LongRational subtrahend) {
+        Objects.requireNonNull(subtrahend, "subtrahend");
+        return addInPlace(-subtrahend.getNumerator(), subtrahend.getDenominator());
+    }
+
+    /**
+     * Multiplies this by the multiplier
+     *
+     * @param multiplier multiplier
+     * @return this
+     * @throws NullPointerException when multiplier is null
+     * @throws ArithmeticException when the canonical product does not fit into long
+     */
+    public @NonNull MutableLongRational multiplyInPlace(final @NonNull LongRational multiplier) {
+        Objects.requireNonNull(multiplier, "multiplier");
+        return multiplyInPlace(multiplier.getNumerator(), multiplier.getDenominator());
+    }
+
+    /**
+     * Multiplies this by the multiplier given by numerator and denominator
+     *
+     * @param multiplierNumerator numerator of the multiplier
+     * @param multiplierDenominator denominator of the multiplier
+     * @return this
+     * @throws IllegalArgumentException when multiplierDenominator is 0
+     * @throws ArithmeticException when the canonical product does not fit into long
+     */
+    public @NonNull MutableLongRational multiplyInPlace(
+            final long multiplierNumerator, final long multiplierDenominator) {
+        if (multiplierDenominator == 0) {
+            throw new IllegalArgumentException("Expected denominator != 0 but denominator=" + 0);
+        }
+        if (multiplierDenominator > 0) {
+            final var productNumerator = numerator * multiplierNumerator;
+            final var productDenominator = denominator * multiplierDenominator;
+            if (Longs.multiplyFits(numerator, multiplierNumerator)
+                    && Longs.multiplyFits(denominator, multiplierDenominator)) {
+                numerator = productNumerator;
+                denominator = productDenominator;
+                return this;
+            }
+        }
+        return set(toLongRational().multiply(new LongRational(multiplierNumerator, multiplierDenominator)));
+    }
+
+    /**
+     * Adds the product of the multiplicand and the multiplier to this
+     *
+     * @param multiplicand multiplicand
+     * @param multiplier multiplier
+     * @return this
+     * @throws NullPointerException when multiplicand or multiplier is null
+     * @throws ArithmeticException when the canonical result does not fit into long
+     */
+    public @NonNull MutableLongRational addProduct(
+            final @NonNull LongRational multiplicand, final @NonNull LongRational multiplier) {
+        Objects.requireNonNull(multiplicand, "multiplicand");
+        Objects.requireNonNull(multiplier, "multiplier");
+        return addProduct(
+                multiplicand.getNumerator(),
+                multiplicand.getDenominator(),
+                multiplier.getNumerator(),
+                multiplier.getDenominator());
+    }
+
+    /**
+     * Adds the product of the multiplicand and the multiplier given by numerators and positive denominators to this
+     *
+     * @param multiplicandNumerator numerator of the multiplicand
+     * @param multiplicandDenominator positive denominator of the multiplicand
+     * @param multiplierNumerator numerator of the multiplier
+     * @param multiplierDenominator positive denominator of the multiplier
+     * @return this
+     * @throws ArithmeticException when the canonical result does not fit into long
+     */
+    public @NonNull MutableLongRational addProduct(
+            final long multiplicandNumerator,
+            final long multiplicandDenominator,
+            final long multiplierNumerator,
+            final long multiplierDenominator) {
+        if (Longs.multiplyFits(multiplicandNumerator, multiplierNumerator)
+                && Longs.multiplyFits(multiplicandDenominator, multiplierDenominator)) {
+            return addInPlace(
+                    multiplicandNumerator * multiplierNumerator, multiplicandDenominator * multiplierDenominator);
+        }
+        final var product = new LongRational(multiplicandNumerator, multiplicandDenominator)
+                .multiply(new LongRational(multiplierNumerator, multiplierDenominator));
+        return addInPlace(product.getNumerator(), product.getDenominator());
+    }
+
+    /**
+     * Reduces this to its canonical representation
+     *
+     * @return this
+     */
+    public @NonNull MutableLongRational reduce() {
+        final var gcd = Longs.gcd(numerator, denominator);
+        numerator /= gcd;
+        denominator /= gcd;
+        return this;
+    }
+
+    /**
+     * Returns the canonical value as immutable {@link LongRational}
+     *
+     * @return LongRational
+     */
+    public @NonNull LongRational toLongRational() {
+        final var gcd = Longs.gcd(numerator, denominator);
+        return LongRational.valueOfCanonical(numerator / gcd, denominator / gcd);
+    }
+
+    /**
+     * Numerator
+     *
+     * @return numerator
+     */
+    public long getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * Denominator
+     *
+     * @return denominator
+     */
+    public long getDenominator() {
+        return denominator;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return "MutableLongRational{numerator=" + numerator + ", denominator=" + denominator + '}';
+    }
+}
@@ -0,0 +1,66 @@
+package sliderule.core.number;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+/**
+ * Balanced pairwise reduction of a sequence of rationals
+ *
+ * <p>Works like a binary counter: a partial result is combined with its left neighbour as soon as the neighbour does
+ * not reduce more operands. So every operand takes part in O(log n) operations and only O(log n) partial results are
+ * kept. Operands and partial results are {@link HybridRational}, so intermediate results that do not fit into long do
+ * not throw.
+ *
+ * <p>Instances are not thread safe.
+ */
+final class PairwiseReduction {
+    private final BinaryOperator<HybridRational> operator;
+    private final HybridRational identity;
+    private HybridRational[] partials = new HybridRational[16];
+    private long[] weights = new long[16];
+    private int size;
+
+    PairwiseReduction(final BinaryOperator<HybridRational> operator, final HybridRational identity) {
+        this.operator = operator;
+        this.identity = identity;
+    }
+
+    void accept(final HybridRational operand) {
+        push(operand, 1L);
+    }
+
+    void combine(final PairwiseReduction other) {
+        for (var i = 0; i < other.size; i++) {
+            push(other.partials[i], other.weights[i]);
+        }
+    }
+
+    HybridRational result() {
+        if (size == 0) {
+            return identity;
+        }
+        var result = partials[size - 1];
+        for (var i = size - 2; i >= 0; i--) {
+            result = operator.apply(partials[i], result);
+        }
+        return result;
+    }
+
+    private void push(final HybridRational operand, final long weight) {
+        var partial = operand;
+        var partialWeight = weight;
+        while (size > 0 && weights[size - 1] <= partialWeight) {
+            size--;
+            partial = operator.apply(partials[size], partial);
+            partialWeight += weights[size];
+            partials[size] = null;
+        }
+        if (size == partials.length) {
+            partials = Arrays.copyOf(partials, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        partials[size] = partial;
+        weights[size] = partialWeight;
+        size++;
+    }
+}
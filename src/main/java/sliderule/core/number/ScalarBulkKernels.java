@@ -0,0 +1,101 @@
+package sliderule.core.number;
+
+import sliderule.core.util.Longs;
+
+/** Scalar implementation of {@link BulkKernels} that is the reference for all other implementations */
+final class ScalarBulkKernels implements BulkKernels {
+    @Override
+    public void multiply(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final long[] numerators,
+            final long[] denominators,
+            final int from,
+            final int to) {
+        for (var i = from; i < to; i++) {
+            product(
+                    leftNumerators[i],
+                    leftDenominators[i],
+                    rightNumerators[i],
+                    rightDenominators[i],
+                    numerators,
+                    denominators,
+                    i);
+        }
+    }
+
+    @Override
+    public void canonicalize(
+            final long[] numerators,
+            final long[] denominators,
+            final long[] destinationNumerators,
+            final long[] destinationDenominators,
+            final int from,
+            final int to) {
+        for (var i = from; i < to; i++) {
+            final var gcd = Longs.gcd(numerators[i], denominators[i]);
+            destinationNumerators[i] = numerators[i] / gcd;
+            destinationDenominators[i] = denominators[i] / gcd;
+        }
+    }
+
+    @Override
+    public void lessThan(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to) {
+        for (var i = from; i < to; i++) {
+            destination[i] = Longs.compareProducts(
+                            leftNumerators[i], rightDenominators[i], rightNumerators[i], leftDenominators[i])
+                    < 0;
+        }
+    }
+
+    @Override
+    public void equalTo(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to) {
+        for (var i = from; i < to; i++) {
+            destination[i] = Longs.compareProducts(
+                            leftNumerators[i], rightDenominators[i], rightNumerators[i], leftDenominators[i])
+                    == 0;
+        }
+    }
+
+    /**
+     * Writes a/b * c/d into the arrays at the index
+     *
+     * <p>Reduces by the cross gcds gcd(a, d) and gcd(c, b) before multiplying as described by Knuth, TAOCP Vol. 2,
+     * 4.5.1.
+     */
+    static void product(
+            final long a,
+            final long b,
+            final long c,
+            final long d,
+            final long[] numerators,
+            final long[] denominators,
+            final int index) {
+        if (a == 0 || c == 0) {
+            numerators[index] = 0L;
+            denominators[index] = 1L;
+            return;
+        }
+        final var gcd1 = Longs.gcd(a, d);
+        final var gcd2 = Longs.gcd(c, b);
+        final var numerator = Math.multiplyExact(a / gcd1, c / gcd2);
+        denominators[index] = Math.multiplyExact(b / gcd2, d / gcd1);
+        numerators[index] = numerator;
+    }
+}
@@ -1,9 +1,14 @@
 package sliderule.core.util;
 
-import java.util.stream.IntStream;
-
-/** Utilities for long */
+/**
+ * Utilities for long
+ *
+ * <p>All methods are iterative and allocation free.
+ */
 public final class Longs {
+    private static final long[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+    private static final long[] MILLER_RABIN_BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
     private Longs() {}
 
     /**
@@ -21,24 +26,269 @@ public final class Longs {
         if (base == 1 || exponent == 0) {
             return 1;
         }
-        if (exponent == 1) {
-            return base;
+        if (exponent < 0) {
+            return 1.0D / Math.multiplyExact(powExact(base, -(exponent + 1)), base);
+        }
+        return powExact(base, exponent);
+    }
+
+    /**
+     * Calculates base to the power of exponent by square and multiply
+     *
+     * @param base base
+     * @param exponent non negative exponent
+     * @return power
+     * @throws IllegalArgumentException when exponent is negative
+     * @throws ArithmeticException when the power does not fit into long
+     */
+    public static long powExact(final long base, final int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Expected exponent >= 0 but exponent=" + exponent);
+        }
+        var power = 1L;
+        var square = base;
+        var remaining = exponent;
+        while (true) {
+            if ((remaining & 1) != 0) {
+                power = Math.multiplyExact(power, square);
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                return power;
+            }
+            square = Math.multiplyExact(square, square);
         }
-        final var power = IntStream.rangeClosed(1, Math.abs(exponent))
-                .mapToLong(i -> base)
-                .reduce(Math::multiplyExact)
-                .orElseThrow();
-        return exponent < 0 ? 1.0D / power : power;
     }
 
     /**
      * Returns the positive greatest common divisor
      *
+     * <p>Uses the binary algorithm of Stein, which replaces divisions by shifts and subtractions.
+     *
      * @param a a
      * @param b b
      * @return greatest common divisor
+     * @throws ArithmeticException when the greatest common divisor is 2^63, i.e. a and b are {@link Long#MIN_VALUE} or
+     *     0
      */
     public static long gcd(final long a, final long b) {
-        return b == 0 ? Math.absExact(a) : gcd(b, a % b);
+        // absolute values are unsigned, so Long.MIN_VALUE is 2^63
+        var x = Math.abs(a);
+        var y = Math.abs(b);
+        if (x == 0 || y == 0) {
+            return Math.absExact(x | y);
+        }
+        final var shift = Long.numberOfTrailingZeros(x | y);
+        x >>>= Long.numberOfTrailingZeros(x);
+        do {
+            y >>>= Long.numberOfTrailingZeros(y);
+            if (Long.compareUnsigned(x, y) > 0) {
+                final var t = x;
+                x = y;
+                y = t;
+            }
+            y -= x;
+        } while (y != 0);
+        return Math.absExact(x << shift);
+    }
+
+    /**
+     * Returns the positive least common multiple
+     *
+     * @param a a
+     * @param b b
+     * @return least common multiple, 0 when a or b is 0
+     * @throws ArithmeticException when the least common multiple does not fit into long
+     */
+    public static long lcmExact(final long a, final long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return Math.absExact(Math.multiplyExact(a / gcd(a, b), b));
+    }
+
+    /**
+     * Calculates base to the power of exponent modulo modulus
+     *
+     * @param base base
+     * @param exponent non negative exponent
+     * @param modulus positive modulus
+     * @return power in [0, modulus)
+     * @throws IllegalArgumentException when exponent is negative or modulus is not positive
+     */
+    public static long modPow(final long base, final long exponent, final long modulus) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Expected exponent >= 0 but exponent=" + exponent);
+        }
+        if (modulus <= 0) {
+            throw new IllegalArgumentException("Expected modulus > 0 but modulus=" + modulus);
+        }
+        var power = 1 % modulus;
+        var square = Math.floorMod(base, modulus);
+        var remaining = exponent;
+        while (remaining != 0) {
+            if ((remaining & 1) != 0) {
+                power = mulMod(power, square, modulus);
+            }
+            remaining >>>= 1;
+            if (remaining != 0) {
+                square = mulMod(square, square, modulus);
+            }
+        }
+        return power;
+    }
+
+    /**
+     * Calculates the product of two residues modulo modulus without overflow
+     *
+     * @param a residue in [0, modulus)
+     * @param b residue in [0, modulus)
+     * @param modulus positive modulus
+     * @return product in [0, modulus)
+     */
+    public static long mulMod(final long a, final long b, final long modulus) {
+        final var high = Math.multiplyHigh(a, b);
+        final var low = a * b;
+        if (high == 0 && low >= 0) {
+            return low % modulus;
+        }
+        // a * b < modulus^2 < 2^126, so high < modulus and the remainder stays below 2^64 while shifting in low
+        var remainder = high;
+        for (var bit = 63; bit >= 0; bit--) {
+            remainder = remainder << 1 | (low >>> bit & 1);
+            if (Long.compareUnsigned(remainder, modulus) >= 0) {
+                remainder -= modulus;
+            }
+        }
+        return remainder;
+    }
+
+    /**
+     * Returns the largest integer whose square is less than or equal to n
+     *
+     * @param n non negative n
+     * @return floor of the square root
+     * @throws IllegalArgumentException when n is negative
+     */
+    public static long isqrt(final long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Expected n >= 0 but n=" + n);
+        }
+        // the square root in double precision is off by at most one
+        var root = (long) Math.sqrt((double) n);
+        if (root * root > n) {
+            root--;
+        } else if (root + 1 <= n / (root + 1)) {
+            root++;
+        }
+        return root;
+    }
+
+    /**
+     * Indicates if n is prime
+     *
+     * <p>Uses the Miller-Rabin test with the bases of Jim Sinclair, which is deterministic for all longs.
+     *
+     * @param n n
+     * @return boolean
+     */
+    public static boolean isPrime(final long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (final long smallPrime : SMALL_PRIMES) {
+            if (n % smallPrime == 0) {
+                return n == smallPrime;
+            }
+        }
+        final var shift = Long.numberOfTrailingZeros(n - 1);
+        final var odd = (n - 1) >> shift;
+        for (final long base : MILLER_RABIN_BASES) {
+            if (!isStrongProbablePrime(n, base % n, odd, shift)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates if n is a power of base with non negative exponent
+     *
+     * @param n n
+     * @param base base
+     * @return boolean
+     */
+    public static boolean isPowerOf(final long n, final long base) {
+        if (n == 1) {
+            return true;
+        }
+        if (base >= -1 && base <= 1) {
+            return n == base;
+        }
+        if (base == 2) {
+            return n > 0 && (n & (n - 1)) == 0;
+        }
+        if (n == 0) {
+            return false;
+        }
+        var quotient = n;
+        while (quotient % base == 0) {
+            quotient /= base;
+        }
+        return quotient == 1;
+    }
+
+    /**
+     * Indicates if the product of x and y fits into long
+     *
+     * @param x x
+     * @param y y
+     * @return boolean
+     */
+    public static boolean multiplyFits(final long x, final long y) {
+        return Math.multiplyHigh(x, y) == (x * y) >> 63;
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128-bit product of x and y
+     *
+     * @param x unsigned x
+     * @param y unsigned y
+     * @return upper 64 bits
+     */
+    public static long unsignedMultiplyHigh(final long x, final long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Compares the signed 128-bit products a * b and c * d
+     *
+     * @param a a
+     * @param b b
+     * @param c c
+     * @param d d
+     * @return negative, zero or positive when a * b is less than, equal to or greater than c * d
+     */
+    public static int compareProducts(final long a, final long b, final long c, final long d) {
+        final var comparison = Long.compare(Math.multiplyHigh(a, b), Math.multiplyHigh(c, d));
+        return comparison != 0 ? comparison : Long.compareUnsigned(a * b, c * d);
+    }
+
+    /** Indicates if n = odd * 2^shift + 1 is a strong probable prime to the base */
+    private static boolean isStrongProbablePrime(final long n, final long base, final long odd, final int shift) {
+        if (base == 0) {
+            return true;
+        }
+        var x = modPow(base, odd, n);
+        if (x == 1 || x == n - 1) {
+            return true;
+        }
+        for (var i = 1; i < shift; i++) {
+            x = mulMod(x, x, n);
+            if (x == n - 1) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,22 @@
+package sliderule.core.number;
+
+/**
+ * Selects the {@link BulkKernels} implementation
+ *
+ * <p>This is the Java 21 version of the multi-release JAR. It selects {@link VectorBulkKernels} when the module
+ * {@code jdk.incubator.vector} is present, e.g. with {@code --add-modules jdk.incubator.vector}, and vectors hold more
+ * than one long. Otherwise it selects {@link ScalarBulkKernels}.
+ */
+final class BulkKernelsProvider {
+    private static final BulkKernels INSTANCE = isVectorSupported() ? new VectorBulkKernels() : new ScalarBulkKernels();
+
+    private BulkKernelsProvider() {}
+
+    static BulkKernels get() {
+        return INSTANCE;
+    }
+
+    private static boolean isVectorSupported() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && VectorBulkKernels.isSupported();
+    }
+}
@@ -0,0 +1,235 @@
+package sliderule.core.number;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link BulkKernels} with the Vector API
+ *
+ * <p>Every kernel processes as many rationals at once as the preferred vector shape holds. A chunk that contains
+ * {@link Long#MIN_VALUE} or products that may not fit into long is delegated to {@link ScalarBulkKernels}, which also
+ * processes the tail, so that the results are identical.
+ */
+final class VectorBulkKernels implements BulkKernels {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private final ScalarBulkKernels scalar = new ScalarBulkKernels();
+
+    static boolean isSupported() {
+        return SPECIES.length() > 1;
+    }
+
+    @Override
+    public void multiply(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final long[] numerators,
+            final long[] denominators,
+            final int from,
+            final int to) {
+        var i = from;
+        for (; i <= to - SPECIES.length(); i += SPECIES.length()) {
+            final var a = LongVector.fromArray(SPECIES, leftNumerators, i);
+            final var b = LongVector.fromArray(SPECIES, leftDenominators, i);
+            final var c = LongVector.fromArray(SPECIES, rightNumerators, i);
+            final var d = LongVector.fromArray(SPECIES, rightDenominators, i);
+            if (containsMinValue(a, c)) {
+                scalar.multiply(
+                        leftNumerators,
+                        leftDenominators,
+                        rightNumerators,
+                        rightDenominators,
+                        numerators,
+                        denominators,
+                        i,
+                        i + SPECIES.length());
+                continue;
+            }
+            final var gcd1 = gcd(a, d);
+            final var gcd2 = gcd(c, b);
+            final var numerator1 = a.div(gcd1);
+            final var numerator2 = c.div(gcd2);
+            final var denominator1 = b.div(gcd2);
+            final var denominator2 = d.div(gcd1);
+            if (!fits(numerator1, numerator2).and(fits(denominator1, denominator2)).allTrue()) {
+                scalar.multiply(
+                        leftNumerators,
+                        leftDenominators,
+                        rightNumerators,
+                        rightDenominators,
+                        numerators,
+                        denominators,
+                        i,
+                        i + SPECIES.length());
+                continue;
+            }
+            final var zero = a.eq(0L).or(c.eq(0L));
+            numerator1.mul(numerator2).blend(0L, zero).intoArray(numerators, i);
+            denominator1.mul(denominator2).blend(1L, zero).intoArray(denominators, i);
+        }
+        scalar.multiply(
+                leftNumerators, leftDenominators, rightNumerators, rightDenominators, numerators, denominators, i, to);
+    }
+
+    @Override
+    public void canonicalize(
+            final long[] numerators,
+            final long[] denominators,
+            final long[] destinationNumerators,
+            final long[] destinationDenominators,
+            final int from,
+            final int to) {
+        var i = from;
+        for (; i <= to - SPECIES.length(); i += SPECIES.length()) {
+            final var numerator = LongVector.fromArray(SPECIES, numerators, i);
+            final var denominator = LongVector.fromArray(SPECIES, denominators, i);
+            if (containsMinValue(numerator, denominator)) {
+                scalar.canonicalize(
+                        numerators,
+                        denominators,
+                        destinationNumerators,
+                        destinationDenominators,
+                        i,
+                        i + SPECIES.length());
+                continue;
+            }
+            final var gcd = gcd(numerator, denominator);
+            numerator.div(gcd).intoArray(destinationNumerators, i);
+            denominator.div(gcd).intoArray(destinationDenominators, i);
+        }
+        scalar.canonicalize(numerators, denominators, destinationNumerators, destinationDenominators, i, to);
+    }
+
+    @Override
+    public void lessThan(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to) {
+        compare(
+                leftNumerators,
+                leftDenominators,
+                rightNumerators,
+                rightDenominators,
+                destination,
+                from,
+                to,
+                VectorOperators.LT);
+    }
+
+    @Override
+    public void equalTo(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to) {
+        compare(
+                leftNumerators,
+                leftDenominators,
+                rightNumerators,
+                rightDenominators,
+                destination,
+                from,
+                to,
+                VectorOperators.EQ);
+    }
+
+    private void compare(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to,
+            final VectorOperators.Comparison comparison) {
+        var i = from;
+        for (; i <= to - SPECIES.length(); i += SPECIES.length()) {
+            final var a = LongVector.fromArray(SPECIES, leftNumerators, i);
+            final var b = LongVector.fromArray(SPECIES, leftDenominators, i);
+            final var c = LongVector.fromArray(SPECIES, rightNumerators, i);
+            final var d = LongVector.fromArray(SPECIES, rightDenominators, i);
+            if (containsMinValue(a, c) || !fits(a, d).and(fits(c, b)).allTrue()) {
+                compareScalar(
+                        leftNumerators,
+                        leftDenominators,
+                        rightNumerators,
+                        rightDenominators,
+                        destination,
+                        i,
+                        i + SPECIES.length(),
+                        comparison);
+                continue;
+            }
+            a.mul(d).compare(comparison, c.mul(b)).intoArray(destination, i);
+        }
+        compareScalar(
+                leftNumerators, leftDenominators, rightNumerators, rightDenominators, destination, i, to, comparison);
+    }
+
+    private void compareScalar(
+            final long[] leftNumerators,
+            final long[] leftDenominators,
+            final long[] rightNumerators,
+            final long[] rightDenominators,
+            final boolean[] destination,
+            final int from,
+            final int to,
+            final VectorOperators.Comparison comparison) {
+        if (comparison == VectorOperators.LT) {
+            scalar.lessThan(
+                    leftNumerators, leftDenominators, rightNumerators, rightDenominators, destination, from, to);
+        } else {
+            scalar.equalTo(leftNumerators, leftDenominators, rightNumerators, rightDenominators, destination, from, to);
+        }
+    }
+
+    private static boolean containsMinValue(final LongVector x, final LongVector y) {
+        return x.eq(Long.MIN_VALUE).or(y.eq(Long.MIN_VALUE)).anyTrue();
+    }
+
+    /** Returns the lanes whose product fits into long because the bit lengths of the factors add up to at most 63 */
+    private static VectorMask<Long> fits(final LongVector x, final LongVector y) {
+        return x.abs()
+                .lanewise(VectorOperators.LEADING_ZEROS_COUNT)
+                .add(y.abs().lanewise(VectorOperators.LEADING_ZEROS_COUNT))
+                .compare(VectorOperators.GE, 65L);
+    }
+
+    /**
+     * Returns the positive greatest common divisors with the binary algorithm of Stein
+     *
+     * <p>The operands must not contain {@link Long#MIN_VALUE}. Lanes whose gcd has been found are masked out until all
+     * lanes are done.
+     */
+    private static LongVector gcd(final LongVector a, final LongVector b) {
+        var x = a.abs();
+        var y = b.abs();
+        // gcd(x, 0) = gcd(0, x) = x, so such lanes are done from the start
+        final var zero = x.eq(0L).or(y.eq(0L));
+        x = x.blend(x.or(y), zero);
+        y = y.blend(0L, zero);
+        final var shift = x.or(y).lanewise(VectorOperators.TRAILING_ZEROS_COUNT);
+        x = x.lanewise(VectorOperators.LSHR, x.lanewise(VectorOperators.TRAILING_ZEROS_COUNT));
+        var active = y.compare(VectorOperators.NE, 0L);
+        while (active.anyTrue()) {
+            y = y.lanewise(VectorOperators.LSHR, y.lanewise(VectorOperators.TRAILING_ZEROS_COUNT), active);
+            final var min = x.min(y);
+            final var max = x.max(y);
+            x = x.blend(min, active);
+            y = y.blend(max.sub(min), active);
+            active = y.compare(VectorOperators.NE, 0L);
+        }
+        return x.lanewise(VectorOperators.LSHL, shift);
+    }
+}
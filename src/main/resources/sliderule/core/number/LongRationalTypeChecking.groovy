@@ -0,0 +1,203 @@
+import static org.codehaus.groovy.syntax.Types.ASSIGN
+import static org.codehaus.groovy.syntax.Types.DIVIDE
+import static org.codehaus.groovy.syntax.Types.DIVIDE_EQUAL
+import static org.codehaus.groovy.syntax.Types.MINUS
+import static org.codehaus.groovy.syntax.Types.MINUS_EQUAL
+import static org.codehaus.groovy.syntax.Types.MULTIPLY
+import static org.codehaus.groovy.syntax.Types.MULTIPLY_EQUAL
+import static org.codehaus.groovy.syntax.Types.PLUS
+import static org.codehaus.groovy.syntax.Types.PLUS_EQUAL
+import static org.codehaus.groovy.syntax.Types.POWER
+
+import java.lang.reflect.Modifier
+import org.codehaus.groovy.ast.ClassCodeExpressionTransformer
+import org.codehaus.groovy.ast.ClassNode
+import org.codehaus.groovy.ast.CodeVisitorSupport
+import org.codehaus.groovy.ast.DynamicVariable
+import org.codehaus.groovy.ast.expr.ArgumentListExpression
+import org.codehaus.groovy.ast.expr.BinaryExpression
+import org.codehaus.groovy.ast.expr.ClassExpression
+import org.codehaus.groovy.ast.expr.ClosureExpression
+import org.codehaus.groovy.ast.expr.ConstantExpression
+import org.codehaus.groovy.ast.expr.ConstructorCallExpression
+import org.codehaus.groovy.ast.expr.DeclarationExpression
+import org.codehaus.groovy.ast.expr.Expression
+import org.codehaus.groovy.ast.expr.ListExpression
+import org.codehaus.groovy.ast.expr.MethodCallExpression
+import org.codehaus.groovy.ast.expr.StaticMethodCallExpression
+import org.codehaus.groovy.ast.expr.UnaryMinusExpression
+import org.codehaus.groovy.ast.expr.UnaryPlusExpression
+import org.codehaus.groovy.ast.expr.VariableExpression
+import org.codehaus.groovy.control.SourceUnit
+import org.codehaus.groovy.syntax.Token
+import sliderule.core.number.LongRational
+import sliderule.core.number.LongRationalBinding
+
+/*
+ * Type checking extension for @CompileStatic code and scripts that compute with LongRational
+ *
+ * The static compiler treats +, -, *, / and ** between two Numbers as Groovy number math, which computes with
+ * BigDecimal, and never looks at the operator methods of LongRational because LongRational is a Number. Before a
+ * method is type checked, this extension therefore rewrites every such operator with a LongRational operand into a call
+ * of plus, minus, multiply, div or power. The calls are checked as usual and compile to invokevirtual on LongRational
+ * or to invokestatic on LongRationalGroovyMethods for long and int operands. Compound assignments like += on variables
+ * are rewritten the same way, and unary minus becomes a call of negate.
+ *
+ * Operands are LongRational when they are variables, parameters or fields declared as LongRational, local variables
+ * initialized with LongRational, declared variables of the script binding, conversions with toLongRational,
+ * constructor and factory calls of LongRational, methods of LongRational that return LongRational and the results of
+ * other rewritten operators. An operator whose operand is inferred as LongRational by other means, e.g. as return
+ * type of another method, is reported as error instead of silently compiling to number math.
+ *
+ * Variables of the script binding are unknown at compile time, so @CompileStatic rejects them. This extension types
+ * the variables named by @LongRationalBinding on the script class or its superclasses as LongRational and reads them
+ * from the binding at runtime. Other undeclared variables are still rejected:
+ *
+ *     @LongRationalBinding(['price', 'quantity'])
+ *     abstract class PricingScript extends Script {}
+ *
+ *     final configuration = new CompilerConfiguration(scriptBaseClass: PricingScript.name)
+ *     configuration.addCompilationCustomizers(new ASTTransformationCustomizer(
+ *             [extensions: ['sliderule/core/number/LongRationalTypeChecking.groovy']], CompileStatic))
+ *     new GroovyShell(binding, configuration).evaluate('price * quantity + 1')
+ */
+
+final rationalType = classNodeFor(LongRational)
+final operators = [(PLUS): 'plus', (MINUS): 'minus', (MULTIPLY): 'multiply', (DIVIDE): 'div', (POWER): 'power']
+final assignments = [(PLUS_EQUAL): PLUS, (MINUS_EQUAL): MINUS, (MULTIPLY_EQUAL): MULTIPLY, (DIVIDE_EQUAL): DIVIDE]
+final rationalMethods = LongRational.methods
+        .findAll { !Modifier.isStatic(it.modifiers) && LongRational.isAssignableFrom(it.returnType) }
+        .collect { it.name }
+        .toSet() + ['plus', 'minus', 'multiply', 'div', 'power', 'negative', 'positive', 'toLongRational']
+final rationalVariables = Collections.newSetFromMap(new IdentityHashMap())
+final bindingType = classNodeFor(LongRationalBinding)
+final bindingNames = new HashSet<String>()
+
+final declaredBindingNames = { ClassNode classNode ->
+    final names = new HashSet<String>()
+    for (def current = classNode; current != null; current = current.superClass) {
+        for (final annotation in current.getAnnotations(bindingType)) {
+            final value = annotation.getMember('value')
+            final expressions = value instanceof ListExpression ? value.expressions : [value]
+            names.addAll(expressions.findAll { it instanceof ConstantExpression }.collect { it.value as String })
+        }
+    }
+    names
+}
+
+Closure<Boolean> isRational
+isRational = { Expression expression ->
+    switch (expression) {
+        case VariableExpression:
+            final variable = expression.accessedVariable
+            return variable instanceof DynamicVariable && bindingNames.contains(variable.name)
+                    || variable?.originType == rationalType
+                    || rationalVariables.contains(variable)
+        case ConstructorCallExpression:
+            return expression.type == rationalType
+        case StaticMethodCallExpression:
+            return expression.ownerType == rationalType && expression.method != 'approximate'
+        case MethodCallExpression:
+            if (expression.objectExpression instanceof ClassExpression) {
+                return expression.objectExpression.type == rationalType && expression.methodAsString != 'approximate'
+            }
+            return expression.getNodeMetaData(LongRational) != null || expression.methodAsString == 'toLongRational'
+                    || rationalMethods.contains(expression.methodAsString) && isRational(expression.objectExpression)
+        case UnaryMinusExpression:
+        case UnaryPlusExpression:
+            return isRational(expression.expression)
+        default:
+            return false
+    }
+}
+
+final operatorCall = { Expression left, int operator, Expression right, Expression position ->
+    final call = new MethodCallExpression(left, operators[operator], new ArgumentListExpression(right))
+    call.implicitThis = false
+    call.sourcePosition = position
+    call.putNodeMetaData(LongRational, Token.newSymbol(operator, -1, -1).text)
+    call
+}
+
+final transformer = new ClassCodeExpressionTransformer() {
+    @Override
+    protected SourceUnit getSourceUnit() {
+        null
+    }
+
+    @Override
+    Expression transform(final Expression expression) {
+        if (expression instanceof ClosureExpression) {
+            expression.code.visit(this)
+            return expression
+        }
+        final transformed = expression?.transformExpression(this)
+        if (transformed instanceof UnaryMinusExpression && isRational(transformed.expression)) {
+            // negative() of AbstractNumber would be typed as its type parameter
+            final call = new MethodCallExpression(transformed.expression, 'negate', ArgumentListExpression.EMPTY_ARGUMENTS)
+            call.implicitThis = false
+            call.sourcePosition = transformed
+            return call
+        }
+        if (transformed instanceof DeclarationExpression) {
+            if (!transformed.multipleAssignmentDeclaration && transformed.variableExpression.dynamicTyped
+                    && isRational(transformed.rightExpression)) {
+                rationalVariables << transformed.variableExpression
+            }
+        } else if (transformed instanceof BinaryExpression) {
+            final operator = transformed.operation.type
+            final left = transformed.leftExpression
+            final right = transformed.rightExpression
+            if (operators.containsKey(operator) && (isRational(left) || isRational(right))) {
+                return operatorCall(left, operator, right, transformed)
+            }
+            if (assignments.containsKey(operator) && left instanceof VariableExpression && isRational(left)) {
+                final assignment = new BinaryExpression(left, Token.newSymbol(ASSIGN, -1, -1),
+                        operatorCall(left, assignments[operator], right, transformed))
+                assignment.sourcePosition = transformed
+                return assignment
+            }
+        }
+        transformed
+    }
+}
+
+unresolvedVariable { VariableExpression variable ->
+    if (bindingNames.contains(variable.name)) {
+        makeDynamic(variable, rationalType)
+    }
+}
+
+beforeVisitMethod { methodNode ->
+    bindingNames.clear()
+    bindingNames.addAll(declaredBindingNames(methodNode.declaringClass))
+    methodNode.code?.visit(transformer)
+    false
+}
+
+afterVisitMethod { methodNode ->
+    methodNode.code?.visit(new CodeVisitorSupport() {
+        @Override
+        void visitMethodCallExpression(final MethodCallExpression call) {
+            super.visitMethodCallExpression(call)
+            final operator = call.getNodeMetaData(LongRational)
+            if (operator != null && getType(call) != rationalType) {
+                addStaticTypeError("Expected LongRational operands for ${operator} but found "
+                        + "${getType(call.objectExpression).name} and "
+                        + "${getType(call.arguments.getExpression(0)).name}", call)
+            }
+        }
+
+        @Override
+        void visitBinaryExpression(final BinaryExpression expression) {
+            super.visitBinaryExpression(expression)
+            if ((operators.containsKey(expression.operation.type)
+                    || assignments.containsKey(expression.operation.type))
+                    && (getType(expression.leftExpression) == rationalType
+                    || getType(expression.rightExpression) == rationalType)) {
+                addStaticTypeError("Cannot compile ${expression.operation.text} with LongRational operand as number "
+                        + 'math, declare the operand as LongRational', expression)
+            }
+        }
+    })
+}
@@ -0,0 +1,101 @@
+package sliderule.core.number
+
+import groovy.transform.CompileStatic
+import org.codehaus.groovy.control.CompilerConfiguration
+import org.codehaus.groovy.control.MultipleCompilationErrorsException
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer
+import org.junit.jupiter.api.Test
+
+@CompileStatic(extensions = 'sliderule/core/number/LongRationalTypeChecking.groovy')
+final class LongRationalGroovyMethodsTest {
+    private static final String EXTENSION = 'sliderule/core/number/LongRationalTypeChecking.groovy'
+    private static final LongRational HALF = LongRational.valueOf(1, 2)
+
+    @Test
+    void operators_should_accept_long_and_int_operands() {
+        assert HALF + 1L == LongRational.valueOf(3, 2)
+        assert 1L - HALF == HALF
+        assert HALF * 3 == LongRational.valueOf(3, 2)
+        assert 3 * HALF == LongRational.valueOf(3, 2)
+        assert HALF / 2L == LongRational.valueOf(1, 4)
+        assert 1 / HALF == LongRational.valueOf(2)
+        assert 2 + HALF - 1 == LongRational.valueOf(3, 2)
+    }
+
+    @Test
+    void operators_should_compile_to_LongRational_calls() {
+        final third = LongRational.valueOf(1, 3)
+        final sum = HALF + third
+        var total = sum * 6
+        total += HALF ** 2
+
+        assert sum.getClass() == LongRational
+        assert sum == LongRational.valueOf(5, 6)
+        assert total == LongRational.valueOf(21, 4)
+        assert [1, 2].collect { final int i -> i * HALF } == [HALF, LongRational.ONE]
+    }
+
+    @Test
+    void operators_should_return_LongRational_in_dynamic_code() {
+        assert dynamicSum(HALF, 1L) == LongRational.valueOf(3, 2)
+        assert dynamicSum(1, HALF) instanceof LongRational
+    }
+
+    @Test
+    void toLongRational_should_convert_exactly() {
+        assert 3L.toLongRational() == LongRational.valueOf(3)
+        assert 3.toLongRational() == LongRational.valueOf(3)
+        assert 1.25G.toLongRational() == LongRational.valueOf(5, 4)
+        assert 1E+3G.toLongRational() == LongRational.valueOf(1000)
+    }
+
+    @Test
+    void script_should_compile_statically_with_type_checking_extension() {
+        final binding = new Binding(price: LongRational.valueOf(3, 2), quantity: LongRational.valueOf(4))
+
+        assert shell(binding).evaluate('price * quantity + 1') == LongRational.valueOf(7)
+        assert shell(binding).evaluate('-price / 3L') == LongRational.valueOf(-1, 2)
+        assert shell(binding).evaluate('final net = price - 1; net * net') == LongRational.valueOf(1, 4)
+    }
+
+    @Test
+    void script_should_fail_to_compile_when_variable_is_not_declared() {
+        assert compilationError('count + 1', new Binding(count: 3)).contains('The variable [count] is undeclared')
+        assert compilationError('prize * 2').contains('The variable [prize] is undeclared')
+    }
+
+    @Test
+    void script_should_fail_to_compile_when_method_does_not_exist() {
+        assert compilationError('price.noSuchMethod()').contains('noSuchMethod')
+    }
+
+    @Test
+    void script_should_fail_to_compile_when_operator_would_use_number_math() {
+        assert compilationError('[price][0] + 1').contains('Cannot compile + with LongRational operand as number math')
+        assert compilationError('price + 1.5').contains('Expected LongRational operands for +')
+    }
+
+    @CompileStatic(groovy.transform.TypeCheckingMode.SKIP)
+    private static Object dynamicSum(final Object augend, final Object summand) {
+        augend + summand
+    }
+
+    private static String compilationError(final String script, final Binding binding = new Binding(price: HALF)) {
+        try {
+            shell(binding).parse(script)
+        } catch (final MultipleCompilationErrorsException exception) {
+            return exception.message
+        }
+        throw new AssertionError('Expected compilation error')
+    }
+
+    private static GroovyShell shell(final Binding binding) {
+        final configuration = new CompilerConfiguration(scriptBaseClass: PricingScript.name)
+        configuration.addCompilationCustomizers(new ASTTransformationCustomizer([extensions: [EXTENSION]], CompileStatic))
+        new GroovyShell(binding, configuration)
+    }
+
+    @LongRationalBinding(['price', 'quantity'])
+    abstract static class PricingScript extends Script {
+    }
+}
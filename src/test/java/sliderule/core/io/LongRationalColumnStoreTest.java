@@ -0,0 +1,134 @@
+package sliderule.core.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sliderule.core.number.LongRational;
+import sliderule.core.number.LongRationalArray;
+
+final class LongRationalColumnStoreTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void append_and_get_should_succeed() throws IOException {
+        try (var store = LongRationalColumnStore.open(directory.resolve("store"))) {
+            store.append(new LongRational(1, 2));
+            store.append(new LongRational(-3, 4));
+
+            assertThat(store.size()).isEqualTo(2L);
+            assertThat(store.get(0)).isEqualTo(new LongRational(1, 2));
+            assertThat(store.get(1)).isEqualTo(new LongRational(-3, 4));
+        }
+    }
+
+    @Test
+    void get_should_throw_exception_when_index_is_out_of_bounds() throws IOException {
+        try (var store = LongRationalColumnStore.open(directory.resolve("store"))) {
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> store.get(0));
+        }
+    }
+
+    @Test
+    void open_should_read_persisted_rationals() throws IOException {
+        final var path = directory.resolve("store");
+        try (var store = LongRationalColumnStore.open(path)) {
+            store.appendAll(new LongRationalArray(new LongRational(1, 3), new LongRational(Long.MAX_VALUE, 7)));
+        }
+
+        try (var store = LongRationalColumnStore.openReadOnly(path)) {
+            assertThat(store.isReadOnly()).isTrue();
+            assertThat(store.stream()).containsExactly(new LongRational(1, 3), new LongRational(Long.MAX_VALUE, 7));
+        }
+    }
+
+    @Test
+    void open_should_append_to_persisted_rationals() throws IOException {
+        final var path = directory.resolve("store");
+        try (var store = LongRationalColumnStore.open(path)) {
+            store.append(LongRational.ONE);
+        }
+
+        try (var store = LongRationalColumnStore.open(path)) {
+            store.append(LongRational.ZERO);
+
+            assertThat(store.stream()).containsExactly(LongRational.ONE, LongRational.ZERO);
+        }
+    }
+
+    @Test
+    void open_should_throw_exception_when_file_is_not_a_store() throws IOException {
+        final var path = Files.writeString(directory.resolve("store"), "not a rational column store");
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> LongRationalColumnStore.openReadOnly(path))
+                .withMessage("Expected rational column store but is " + path);
+    }
+
+    @Test
+    void append_should_throw_exception_when_read_only() throws IOException {
+        final var path = directory.resolve("store");
+        LongRationalColumnStore.open(path).close();
+
+        try (var store = LongRationalColumnStore.openReadOnly(path)) {
+            assertThatIllegalStateException().isThrownBy(() -> store.append(LongRational.ONE));
+        }
+    }
+
+    @Test
+    void read_should_cross_segments() throws IOException {
+        final var path = directory.resolve("store");
+        try (var store = LongRationalColumnStore.open(path, false, 2)) {
+            for (var i = 1; i <= 11; i++) {
+                store.append(new LongRational(i, i + 1));
+            }
+        }
+
+        try (var store = LongRationalColumnStore.open(path, true, 2)) {
+            final var actual = store.read(2, 7);
+
+            assertThat(actual.toArray())
+                    .containsExactly(
+                            new LongRational(3, 4),
+                            new LongRational(4, 5),
+                            new LongRational(5, 6),
+                            new LongRational(6, 7),
+                            new LongRational(7, 8),
+                            new LongRational(8, 9),
+                            new LongRational(9, 10));
+        }
+    }
+
+    @Test
+    void read_should_throw_exception_when_range_is_out_of_bounds() throws IOException {
+        try (var store = LongRationalColumnStore.open(directory.resolve("store"))) {
+            store.append(LongRational.ONE);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> store.read(0, 2));
+        }
+    }
+
+    @Test
+    void set_should_overwrite() throws IOException {
+        try (var store = LongRationalColumnStore.open(directory.resolve("store"))) {
+            store.append(LongRational.ONE);
+            store.set(0, new LongRational(5, 8));
+
+            assertThat(store.get(0)).isEqualTo(new LongRational(5, 8));
+        }
+    }
+
+    @Test
+    void get_should_throw_exception_when_closed() throws IOException {
+        final var store = LongRationalColumnStore.open(directory.resolve("store"));
+        store.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> store.get(0));
+    }
+}
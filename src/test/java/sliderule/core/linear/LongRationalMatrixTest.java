@@ -0,0 +1,186 @@
+package sliderule.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import sliderule.core.number.BigRational;
+import sliderule.core.number.LongRational;
+import sliderule.core.number.LongRationalArray;
+
+final class LongRationalMatrixTest {
+    private final LongRationalMatrix matrix = new LongRationalMatrix(new LongRational[][] {
+        {new LongRational(1, 2), new LongRational(2, 3), new LongRational(-1, 1)},
+        {new LongRational(0, 1), new LongRational(3, 4), new LongRational(1, 6)}
+    });
+
+    @Test
+    void of_should_throw_exception_when_rows_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalMatrix(-1, 1))
+                .withMessage("Expected rows >= 0 but rows=-1")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_throw_exception_when_rows_have_different_lengths() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalMatrix(
+                        new LongRational[][] {{LongRational.ONE, LongRational.ONE}, {LongRational.ONE}}))
+                .withMessage("Expected entries[1].length=2 but entries[1].length=1")
+                .withNoCause();
+    }
+
+    @Test
+    void identity_should_succeed() {
+        final var actual = LongRationalMatrix.identity(2);
+
+        assertThat(actual.get(0, 0)).isEqualTo(LongRational.ONE);
+        assertThat(actual.get(0, 1)).isEqualTo(LongRational.ZERO);
+        assertThat(actual.get(1, 1)).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void get_should_throw_exception_when_column_is_out_of_bounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> matrix.get(0, 3));
+    }
+
+    @Test
+    void set_should_normalize_sign() {
+        final var actual = matrix.copy();
+
+        actual.set(1, 2, 1, -2);
+
+        assertThat(actual.get(1, 2)).isEqualTo(new LongRational(-1, 2));
+    }
+
+    @Test
+    void set_should_throw_exception_when_numerator_is_min_value() {
+        final var actual = matrix.copy();
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> actual.set(1, 2, Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    void transpose_should_succeed() {
+        final var actual = matrix.transpose();
+
+        assertThat(actual.rows()).isEqualTo(3);
+        assertThat(actual.columns()).isEqualTo(2);
+        assertThat(actual.get(2, 1)).isEqualTo(new LongRational(1, 6));
+        assertThat(actual.transpose()).isEqualTo(matrix);
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_multiplier_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> matrix.multiply((LongRationalMatrix) null))
+                .withMessage("multiplier")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_dimensions_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix.multiply(matrix))
+                .withMessage("Expected multiplier.rows=3 but multiplier.rows=2")
+                .withNoCause();
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        final var actual = matrix.multiply(matrix.transpose());
+
+        assertThat(actual.get(0, 0)).isEqualTo(new LongRational(61, 36));
+        assertThat(actual.get(0, 1)).isEqualTo(new LongRational(1, 3));
+        assertThat(actual.get(1, 0)).isEqualTo(new LongRational(1, 3));
+        assertThat(actual.get(1, 1)).isEqualTo(new LongRational(85, 144));
+    }
+
+    @Test
+    void multiply_should_return_this_when_multiplier_is_identity() {
+        assertThat(matrix.multiply(LongRationalMatrix.identity(3))).isEqualTo(matrix);
+    }
+
+    @Test
+    void multiply_should_equal_naive_product_when_larger_than_block() {
+        final var random = new SplittableRandom(42);
+        final var left = randomMatrix(random, 70, 130);
+        final var right = randomMatrix(random, 130, 67);
+
+        final var actual = left.multiply(right, new ForkJoinPool(4));
+
+        for (var i = 0; i < left.rows(); i += 23) {
+            for (var j = 0; j < right.columns(); j += 11) {
+                var expected = BigRational.ZERO;
+                for (var k = 0; k < left.columns(); k++) {
+                    expected = expected.add(left.get(i, k)
+                            .toBigRational()
+                            .multiply(right.get(k, j).toBigRational()));
+                }
+                assertThat(actual.get(i, j)).isEqualTo(expected.toLongRational());
+            }
+        }
+    }
+
+    @Test
+    void multiply_should_succeed_when_partial_sum_overflows() {
+        final var max = new LongRational(Long.MAX_VALUE, 1);
+        final var left = new LongRationalMatrix(new LongRational[][] {{max, max, max.negate()}});
+        final var ones = new LongRationalMatrix(
+                new LongRational[][] {{LongRational.ONE}, {LongRational.ONE}, {LongRational.ONE}});
+
+        assertThat(left.multiply(ones).get(0, 0)).isEqualTo(max);
+        assertThat(left.multiply(new LongRationalArray(LongRational.ONE, LongRational.ONE, LongRational.ONE)))
+                .isEqualTo(new LongRationalArray(max));
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_entry_overflows() {
+        final var left = new LongRationalMatrix(new LongRational[][] {{new LongRational(Long.MAX_VALUE, 1)}});
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> left.multiply(left));
+    }
+
+    @Test
+    void multiply_vector_should_succeed() {
+        final var vector = new LongRationalArray(LongRational.ONE, new LongRational(3, 2), new LongRational(1, 2));
+
+        assertThat(matrix.multiply(vector))
+                .isEqualTo(new LongRationalArray(new LongRational(1, 1), new LongRational(29, 24)));
+    }
+
+    @Test
+    void multiply_vector_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> matrix.multiply(new LongRationalArray(2)))
+                .withMessage("Expected vector.length=3 but vector.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        EqualsVerifier.forClass(LongRationalMatrix.class).verify();
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new LongRationalMatrix(1, 2))
+                .hasToString("LongRationalMatrix{rows=1, columns=2, numerators=[0, 0], denominators=[1, 1]}");
+    }
+
+    private static LongRationalMatrix randomMatrix(final SplittableRandom random, final int rows, final int columns) {
+        final var matrix = new LongRationalMatrix(rows, columns);
+        for (var i = 0; i < rows; i++) {
+            for (var j = 0; j < columns; j++) {
+                matrix.set(i, j, random.nextLong(-100, 100), random.nextLong(1, 13));
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,169 @@
+package sliderule.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import sliderule.core.number.BigRational;
+import sliderule.core.number.LongRational;
+import sliderule.core.number.LongRationalArray;
+import sliderule.core.util.Longs;
+
+final class MultiModularSolverTest {
+    @Test
+    void solve_should_succeed() {
+        final var matrix = new LongRationalMatrix(new LongRational[][] {
+            {new LongRational(2, 1), new LongRational(1, 1), new LongRational(-1, 1)},
+            {new LongRational(-3, 1), new LongRational(-1, 1), new LongRational(2, 1)},
+            {new LongRational(-2, 1), new LongRational(1, 1), new LongRational(2, 1)}
+        });
+        final var vector =
+                new LongRationalArray(LongRational.valueOf(8), LongRational.valueOf(-11), LongRational.valueOf(-3));
+
+        final var actual = MultiModularSolver.solve(matrix, vector);
+
+        assertThat(actual).containsExactly(new BigRational(2, 1), new BigRational(3, 1), new BigRational(-1, 1));
+    }
+
+    @Test
+    void solve_should_satisfy_random_system_with_rational_entries() {
+        final var random = new SplittableRandom(42);
+        final var size = 40;
+        final var matrix = new LongRationalMatrix(size, size);
+        final var vector = new LongRationalArray(size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                matrix.set(i, j, random.nextLong(-1000, 1000), random.nextLong(1, 100));
+            }
+            vector.set(i, random.nextLong(-1000, 1000), random.nextLong(1, 100));
+        }
+
+        final var actual = MultiModularSolver.solve(matrix, vector, ForkJoinPool.commonPool());
+
+        assertThat(actual).hasSize(size);
+        for (var i = 0; i < size; i++) {
+            var sum = BigRational.ZERO;
+            for (var j = 0; j < size; j++) {
+                sum = sum.add(matrix.get(i, j).toBigRational().multiply(actual[j]));
+            }
+            assertThat(sum.canonical()).isEqualTo(vector.get(i).toBigRational().canonical());
+        }
+    }
+
+    @Test
+    void solve_should_equal_bareiss_for_hilbert_matrix() {
+        final var size = 12;
+        final var matrix = new LongRationalMatrix(size, size);
+        final var vector = new LongRationalArray(size);
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                matrix.set(i, j, 1, i + j + 1);
+            }
+            vector.set(i, 1, 1);
+        }
+
+        final var actual = MultiModularSolver.solve(matrix, vector);
+
+        assertThat(actual).containsExactly(MultiModularSolver.bareiss(matrix, vector));
+        assertThat(actual[0]).isEqualTo(new BigRational(-12, 1));
+    }
+
+    @Test
+    void solve_should_throw_exception_when_matrix_is_singular() {
+        final var matrix = new LongRationalMatrix(new LongRational[][] {
+            {new LongRational(1, 2), new LongRational(1, 3)},
+            {new LongRational(3, 2), new LongRational(1, 1)}
+        });
+        final var vector = new LongRationalArray(LongRational.ONE, LongRational.ONE);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MultiModularSolver.solve(matrix, vector))
+                .withMessage("Expected non-singular matrix");
+    }
+
+    @Test
+    void solve_should_throw_exception_when_matrix_is_not_square() {
+        final var matrix = new LongRationalMatrix(2, 3);
+        final var vector = new LongRationalArray(2);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MultiModularSolver.solve(matrix, vector))
+                .withMessage("Expected square matrix but rows=2 and columns=3");
+    }
+
+    @Test
+    void solve_should_throw_exception_when_vector_length_differs() {
+        final var matrix = LongRationalMatrix.identity(2);
+        final var vector = new LongRationalArray(3);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MultiModularSolver.solve(matrix, vector))
+                .withMessage("Expected vector.length=2 but vector.length=3");
+    }
+
+    @Test
+    void solve_should_throw_exception_when_pool_is_null() {
+        final var matrix = LongRationalMatrix.identity(2);
+        final var vector = new LongRationalArray(2);
+
+        assertThatNullPointerException()
+                .isThrownBy(() -> MultiModularSolver.solve(matrix, vector, null))
+                .withMessage("pool");
+    }
+
+    @Test
+    void solve_should_skip_prime_that_divides_denominator() {
+        final var prime = MultiModularSolver.prime(0);
+        final var matrix = new LongRationalMatrix(new LongRational[][] {{new LongRational(1, prime)}});
+        final var vector = new LongRationalArray(LongRational.ONE);
+
+        assertThat(MultiModularSolver.solve(matrix, vector)).containsExactly(new BigRational(prime, 1));
+    }
+
+    @Test
+    void prime_should_return_largest_primes_below_2_to_63() {
+        assertThat(MultiModularSolver.prime(0)).isEqualTo(Long.MAX_VALUE - 24);
+        assertThat(MultiModularSolver.prime(1)).isLessThan(MultiModularSolver.prime(0));
+        assertThat(BigInteger.valueOf(MultiModularSolver.prime(5)).isProbablePrime(50))
+                .isTrue();
+    }
+
+    @Test
+    void montgomery_should_equal_mulMod() {
+        final var random = new SplittableRandom(42);
+        final var prime = MultiModularSolver.prime(3);
+        final var montgomery = new Montgomery(prime);
+        for (var i = 0; i < 10_000; i++) {
+            final var a = random.nextLong(prime);
+            final var b = random.nextLong(prime);
+            final var product = montgomery.multiply(montgomery.residue(a), montgomery.residue(b));
+
+            assertThat(montgomery.value(product)).isEqualTo(Longs.mulMod(a, b, prime));
+            if (a != 0) {
+                final var inverse = montgomery.inverse(montgomery.residue(a));
+                assertThat(montgomery.value(montgomery.multiply(inverse, montgomery.residue(a))))
+                        .isOne();
+            }
+        }
+        assertThat(montgomery.value(montgomery.residue(-1))).isEqualTo(prime - 1);
+    }
+
+    @Test
+    void matrix_solve_should_return_long_rationals() {
+        final var matrix = new LongRationalMatrix(new LongRational[][] {
+            {new LongRational(1, 2), new LongRational(1, 3)},
+            {new LongRational(1, 4), new LongRational(1, 5)}
+        });
+        final var vector = new LongRationalArray(LongRational.ONE, LongRational.ZERO);
+
+        final var actual = matrix.solve(vector);
+
+        assertThat(actual.get(0)).isEqualTo(LongRational.valueOf(12));
+        assertThat(actual.get(1)).isEqualTo(LongRational.valueOf(-15));
+        assertThat(matrix.multiply(actual).get(0)).isEqualTo(LongRational.ONE);
+    }
+}
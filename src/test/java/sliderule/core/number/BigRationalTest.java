@@ -0,0 +1,198 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class BigRationalTest {
+    private final BigRational rational1 = new BigRational(2, 3);
+    private final BigRational rational2 = new BigRational(4, 5);
+
+    @Test
+    void of_should_throw_exception_when_denominator_is_zero() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BigRational(BigInteger.ONE, BigInteger.ZERO))
+                .withMessage("Expected denominator != 0 but denominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_normalize_sign() {
+        final var actual = new BigRational(1, -2);
+
+        assertThat(actual.getNumerator()).isEqualTo(BigInteger.valueOf(-1));
+        assertThat(actual.getDenominator()).isEqualTo(BigInteger.TWO);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {3, 5, 6, 7, 9})
+    void isDyadic_should_return_false_when_denominator_is_not_power_of_two(final long denominator) {
+        assertThat(new BigRational(1, denominator).isDyadic()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 4, 8})
+    void isDyadic_should_return_true_when_denominator_is_power_of_two(final long denominator) {
+        assertThat(new BigRational(1, denominator).isDyadic()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {2, 3, 4, 5, 6, 7, 8, 9, 20})
+    void isDecimal_should_return_false_when_denominator_is_not_power_of_ten(final long denominator) {
+        assertThat(new BigRational(1, denominator).isDecimal()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000})
+    void isDecimal_should_return_true_when_denominator_is_power_of_ten(final long denominator) {
+        assertThat(new BigRational(1, denominator).isDecimal()).isTrue();
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> rational1.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        assertThat(rational1.add(rational2)).isEqualTo(new BigRational(22, 15));
+    }
+
+    @Test
+    void add_should_not_overflow() {
+        final var rational = new BigRational(Long.MAX_VALUE, 1);
+
+        assertThat(rational.add(BigRational.ONE).getNumerator())
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(rational1.subtract(rational2)).isEqualTo(new BigRational(-2, 15));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(rational1.multiply(rational2)).isEqualTo(new BigRational(8, 15));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> rational1.divide(BigRational.ZERO))
+                .withMessage("divisor must be invertible but is BigRational{numerator=0, denominator=1}")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(rational1.divide(rational2)).isEqualTo(new BigRational(5, 6));
+    }
+
+    @Test
+    void invert_should_throw_exception_when_this_is_not_invertible() {
+        assertThatIllegalStateException()
+                .isThrownBy(BigRational.ZERO::invert)
+                .withMessage("must be invertible but is BigRational{numerator=0, denominator=1}")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(rational1.invert()).isEqualTo(new BigRational(3, 2));
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(rational1.power(2)).isEqualTo(new BigRational(4, 9));
+    }
+
+    @Test
+    void power_should_succeed_when_exponent_is_negative() {
+        assertThat(rational1.power(-2)).isEqualTo(new BigRational(9, 4));
+    }
+
+    @Test
+    void canonical_should_succeed() {
+        assertThat(new BigRational(4, 6).canonical()).isEqualTo(rational1);
+    }
+
+    @Test
+    void compareTo_should_succeed() {
+        assertThat(rational1).isLessThan(rational2);
+    }
+
+    @Test
+    void toBigDecimal_should_succeed() {
+        assertThat(new BigRational(1, 4).toBigDecimal()).isEqualByComparingTo(new BigDecimal("0.25"));
+    }
+
+    @Test
+    void toLongRational_should_return_canonical_representation() {
+        final var rational =
+                new BigRational(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), BigInteger.TWO.shiftLeft(1));
+
+        assertThat(rational.toLongRational()).isEqualTo(new LongRational(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void toLongRational_should_throw_exception_when_numerator_does_not_fit() {
+        final var rational = new BigRational(BigInteger.ONE.shiftLeft(Long.SIZE), BigInteger.ONE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(rational::toLongRational);
+    }
+
+    @Test
+    void fitsLongRational_should_return_false_when_numerator_is_min_value() {
+        assertThat(new BigRational(Long.MIN_VALUE, 1).fitsLongRational()).isFalse();
+    }
+
+    @Test
+    void fitsLongRational_should_return_true_when_canonical_representation_fits() {
+        final var rational = new BigRational(BigInteger.ONE.shiftLeft(Long.SIZE), BigInteger.ONE.shiftLeft(Long.SIZE));
+
+        assertThat(rational.fitsLongRational()).isTrue();
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        final var equal = new BigRational(-4, -6);
+
+        assertThat(rational1)
+                .isEqualTo(rational1)
+                .isEqualTo(equal)
+                .isNotEqualTo(rational2)
+                .isNotEqualTo(null);
+        assertThat(rational1).isNotEqualTo(rational1.toLongRational()).hasSameHashCodeAs(equal);
+        assertThat(equal).isEqualTo(rational1);
+    }
+
+    @Test
+    void equals_should_compare_values() {
+        final var half = new BigRational(1, 2);
+        final var zero = new BigRational(0, 5);
+
+        assertThat(new BigRational(2, 4))
+                .isEqualTo(half)
+                .hasSameHashCodeAs(half)
+                .isEqualByComparingTo(half);
+        assertThat(new BigRational(-3, 6)).isEqualTo(new BigRational(1, -2));
+        assertThat(zero).isEqualTo(BigRational.ZERO).hasSameHashCodeAs(BigRational.ZERO);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(rational1).hasToString("BigRational{numerator=2, denominator=3}");
+    }
+}
@@ -0,0 +1,145 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class BulkKernelsTest {
+    private static final int LENGTH = 1_003;
+
+    private final BulkKernels scalar = new ScalarBulkKernels();
+    private final long[] leftNumerators = new long[LENGTH];
+    private final long[] leftDenominators = new long[LENGTH];
+    private final long[] rightNumerators = new long[LENGTH];
+    private final long[] rightDenominators = new long[LENGTH];
+    private BulkKernels vector;
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        assumeTrue(Runtime.version().feature() >= 21, "Vector kernels need Java 21");
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "jdk.incubator.vector");
+        vector = (BulkKernels) Class.forName("sliderule.core.number.VectorBulkKernels")
+                .getDeclaredConstructor()
+                .newInstance();
+        final var random = new SplittableRandom(42);
+        for (var i = 0; i < LENGTH; i++) {
+            // small, large and extreme operands so that vector chunks and scalar fallbacks are both exercised
+            final var bound = i % 7 == 0 ? Long.MAX_VALUE : i % 3 == 0 ? 1L << 40 : 1L << 12;
+            leftNumerators[i] = i % 11 == 0 ? 0 : random.nextLong(-bound, bound);
+            leftDenominators[i] = random.nextLong(1, bound);
+            rightNumerators[i] = i % 13 == 0 ? Long.MIN_VALUE : random.nextLong(-bound, bound);
+            rightDenominators[i] = random.nextLong(1, bound);
+        }
+    }
+
+    @Test
+    void provider_should_select_vector_kernels() throws ReflectiveOperationException {
+        final var isSupported = vector.getClass().getDeclaredMethod("isSupported");
+        isSupported.setAccessible(true);
+        assumeTrue((boolean) isSupported.invoke(null), "Vectors hold more than one long");
+
+        assertThat(BulkKernelsProvider.get()).isExactlyInstanceOf(vector.getClass());
+    }
+
+    @Test
+    void canonicalize_should_equal_scalar() {
+        final var expectedNumerators = new long[LENGTH];
+        final var expectedDenominators = new long[LENGTH];
+        final var actualNumerators = new long[LENGTH];
+        final var actualDenominators = new long[LENGTH];
+
+        scalar.canonicalize(leftNumerators, leftDenominators, expectedNumerators, expectedDenominators, 0, LENGTH);
+        vector.canonicalize(leftNumerators, leftDenominators, actualNumerators, actualDenominators, 0, LENGTH);
+
+        assertThat(actualNumerators).containsExactly(expectedNumerators);
+        assertThat(actualDenominators).containsExactly(expectedDenominators);
+    }
+
+    @Test
+    void multiply_should_equal_scalar() {
+        final var random = new SplittableRandom(7);
+        for (var i = 0; i < LENGTH; i++) {
+            // products fit, but some chunks contain Long.MIN_VALUE and are delegated to the scalar kernels
+            leftNumerators[i] = i % 13 == 0 ? 0 : random.nextLong(-(1L << 40), 1L << 40);
+            leftDenominators[i] = random.nextLong(1, 1L << 20);
+            rightNumerators[i] = i % 13 == 0 ? Long.MIN_VALUE : random.nextLong(-(1L << 12), 1L << 12);
+            rightDenominators[i] = random.nextLong(1, 1L << 20);
+        }
+        final var expectedNumerators = new long[LENGTH];
+        final var expectedDenominators = new long[LENGTH];
+        final var actualNumerators = new long[LENGTH];
+        final var actualDenominators = new long[LENGTH];
+
+        scalar.multiply(
+                leftNumerators,
+                leftDenominators,
+                rightNumerators,
+                rightDenominators,
+                expectedNumerators,
+                expectedDenominators,
+                0,
+                LENGTH);
+        vector.multiply(
+                leftNumerators,
+                leftDenominators,
+                rightNumerators,
+                rightDenominators,
+                actualNumerators,
+                actualDenominators,
+                0,
+                LENGTH);
+
+        assertThat(actualNumerators).containsExactly(expectedNumerators);
+        assertThat(actualDenominators).containsExactly(expectedDenominators);
+    }
+
+    @Test
+    void multiply_should_throw_exception_when_product_overflows() {
+        final var numerators = new long[8];
+        final var denominators = new long[8];
+        Arrays.fill(numerators, 1L << 32);
+        Arrays.fill(denominators, 1L);
+
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> vector.multiply(
+                        numerators, denominators, numerators, denominators, new long[8], new long[8], 0, 8));
+    }
+
+    @Test
+    void lessThan_should_equal_scalar() {
+        final var expected = new boolean[LENGTH];
+        final var actual = new boolean[LENGTH];
+
+        scalar.lessThan(leftNumerators, leftDenominators, rightNumerators, rightDenominators, expected, 0, LENGTH);
+        vector.lessThan(leftNumerators, leftDenominators, rightNumerators, rightDenominators, actual, 0, LENGTH);
+
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    void equalTo_should_equal_scalar() {
+        final var random = new SplittableRandom(11);
+        for (var i = 0; i < LENGTH; i += 3) {
+            // equal values, which are non canonical on one side, e.g. 2/4 and 1/2
+            final var numerator = random.nextLong(-(1L << 20), 1L << 20);
+            final var denominator = random.nextLong(1, 1L << 20);
+            final var factor = random.nextLong(1, 1L << 20);
+            leftNumerators[i] = numerator * factor;
+            leftDenominators[i] = denominator * factor;
+            rightNumerators[i] = numerator;
+            rightDenominators[i] = denominator;
+        }
+        final var expected = new boolean[LENGTH];
+        final var actual = new boolean[LENGTH];
+
+        scalar.equalTo(leftNumerators, leftDenominators, rightNumerators, rightDenominators, expected, 0, LENGTH);
+        vector.equalTo(leftNumerators, leftDenominators, rightNumerators, rightDenominators, actual, 0, LENGTH);
+
+        assertThat(actual).containsExactly(expected).contains(true, false);
+    }
+}
@@ -0,0 +1,163 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ComplexArrayTest {
+    @Test
+    void of_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ComplexArray(new double[1], new double[2]))
+                .withMessage("Expected equal lengths but reals.length=1 and imaginaries.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_interleave_parts() {
+        final var actual = new ComplexArray(new double[] {1, 2}, new double[] {3, 4});
+
+        assertThat(actual.toArray()).containsExactly(new DoubleComplex(1, 3), new DoubleComplex(2, 4));
+    }
+
+    @Test
+    void multiplyInPlace_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ComplexArray(1).multiplyInPlace(new ComplexArray(2)))
+                .withMessage("Expected multipliers.length=1 but multipliers.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void multiplyInPlace_should_succeed() {
+        final var actual = new ComplexArray(new DoubleComplex(1, 2), DoubleComplex.I);
+
+        actual.multiplyInPlace(new ComplexArray(new DoubleComplex(3, -4), DoubleComplex.I));
+
+        assertThat(actual.toArray()).containsExactly(new DoubleComplex(11, 2), new DoubleComplex(-1, 0));
+    }
+
+    @Test
+    void addInPlace_scaleInPlace_and_conjugateInPlace_should_succeed() {
+        final var actual = new ComplexArray(new DoubleComplex(1, 2));
+
+        actual.addInPlace(new ComplexArray(new DoubleComplex(1, 1)))
+                .scaleInPlace(2)
+                .conjugateInPlace();
+
+        assertThat(actual.get(0)).isEqualTo(new DoubleComplex(4, -6));
+    }
+
+    @Test
+    void fft_should_transform_impulse_to_constant() {
+        final var actual = new ComplexArray(4);
+        actual.set(0, DoubleComplex.ONE);
+
+        actual.fft();
+
+        assertThat(actual.toArray()).containsOnly(DoubleComplex.ONE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 8, 12, 15, 30, 49, 64, 97, 360, 1024})
+    void fft_should_equal_naive_transform(final int length) {
+        final var array = random(length);
+        final var expected = naive(array, -1);
+
+        array.fft();
+
+        assertClose(array, expected, length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 6, 16, 35, 128})
+    void inverseFft_should_equal_scaled_naive_transform(final int length) {
+        final var array = random(length);
+        final var expected = naive(array, 1).scaleInPlace(1.0 / length);
+
+        array.inverseFft();
+
+        assertClose(array, expected, length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 256, 1000, 4096})
+    void inverseFft_should_revert_fft(final int length) {
+        final var array = random(length);
+        final var expected = array.copy();
+
+        array.fft().inverseFft();
+
+        assertClose(array, expected, 1);
+    }
+
+    @Test
+    void fft_should_convolve_when_multiplied() {
+        final var x = new ComplexArray(new double[] {1, 2, 0, 0}, new double[4]);
+        final var y = new ComplexArray(new double[] {3, 4, 0, 0}, new double[4]);
+
+        final var actual = x.fft().multiplyInPlace(y.fft()).inverseFft();
+
+        final var expected = new double[] {3, 10, 8, 0};
+        for (var i = 0; i < expected.length; i++) {
+            assertThat(actual.getReal(i)).isCloseTo(expected[i], within(1e-12));
+            assertThat(actual.getImaginary(i)).isCloseTo(0, within(1e-12));
+        }
+    }
+
+    @Test
+    void copy_should_return_equal_array() {
+        final var array = new ComplexArray(new DoubleComplex(1, 2));
+
+        assertThat(array.copy()).isEqualTo(array).isNotSameAs(array);
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        EqualsVerifier.forClass(ComplexArray.class).verify();
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new ComplexArray(new DoubleComplex(1, 2))).hasToString("ComplexArray{data=[1.0, 2.0]}");
+    }
+
+    private static ComplexArray random(final int length) {
+        final var random = new Random(length);
+        final var array = new ComplexArray(length);
+        for (var i = 0; i < length; i++) {
+            array.set(i, random.nextGaussian(), random.nextGaussian());
+        }
+        return array;
+    }
+
+    private static ComplexArray naive(final ComplexArray array, final int sign) {
+        final var length = array.length();
+        final var result = new ComplexArray(length);
+        for (var k = 0; k < length; k++) {
+            var real = 0.0;
+            var imaginary = 0.0;
+            for (var j = 0; j < length; j++) {
+                final var angle = sign * 2 * Math.PI * ((long) j * k % length) / length;
+                real += array.getReal(j) * Math.cos(angle) - array.getImaginary(j) * Math.sin(angle);
+                imaginary += array.getReal(j) * Math.sin(angle) + array.getImaginary(j) * Math.cos(angle);
+            }
+            result.set(k, real, imaginary);
+        }
+        return result;
+    }
+
+    private static void assertClose(final ComplexArray actual, final ComplexArray expected, final int scale) {
+        final var tolerance = within(1e-12 * scale);
+        for (var i = 0; i < expected.length(); i++) {
+            assertThat(actual.getReal(i)).isCloseTo(expected.getReal(i), tolerance);
+            assertThat(actual.getImaginary(i)).isCloseTo(expected.getImaginary(i), tolerance);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+final class DoubleComplexTest {
+    private final DoubleComplex a = new DoubleComplex(1, 2);
+    private final DoubleComplex b = new DoubleComplex(3, -4);
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> a.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        assertThat(a.add(b)).isEqualTo(new DoubleComplex(4, -2));
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(a.subtract(b)).isEqualTo(new DoubleComplex(-2, 6));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        assertThat(a.multiply(b)).isEqualTo(new DoubleComplex(11, 2));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_zero() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> a.divide(DoubleComplex.ZERO))
+                .withMessage("divisor must be invertible but is DoubleComplex{real=0.0, imaginary=0.0}")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(new DoubleComplex(11, 2).divide(b)).isEqualTo(a);
+        assertThat(new DoubleComplex(11, 2).divide(a)).isEqualTo(b);
+    }
+
+    @Test
+    void divide_should_not_overflow_when_parts_are_large() {
+        final var large = new DoubleComplex(1e300, 1e300);
+
+        assertThat(large.divide(large)).isEqualTo(DoubleComplex.ONE);
+    }
+
+    @Test
+    void invert_should_throw_exception_when_zero() {
+        assertThatIllegalStateException()
+                .isThrownBy(DoubleComplex.ZERO::invert)
+                .withMessage("must be invertible but is DoubleComplex{real=0.0, imaginary=0.0}")
+                .withNoCause();
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(DoubleComplex.I.invert()).isEqualTo(new DoubleComplex(0, -1));
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(DoubleComplex.I.power(0)).isEqualTo(DoubleComplex.ONE);
+        assertThat(DoubleComplex.I.power(2)).isEqualTo(new DoubleComplex(-1, 0));
+        assertThat(a.power(3)).isEqualTo(a.multiply(a).multiply(a));
+        assertThat(DoubleComplex.I.power(-1)).isEqualTo(new DoubleComplex(0, -1));
+    }
+
+    @Test
+    void conjugate_should_succeed() {
+        assertThat(a.conjugate()).isEqualTo(new DoubleComplex(1, -2));
+    }
+
+    @Test
+    void abs_and_argument_should_succeed() {
+        assertThat(b.abs()).isEqualTo(5);
+        assertThat(DoubleComplex.I.argument()).isEqualTo(Math.PI / 2);
+    }
+
+    @Test
+    void polar_should_succeed() {
+        final var actual = DoubleComplex.polar(2, Math.PI / 2);
+
+        assertThat(actual.getReal()).isCloseTo(0, within(1e-15));
+        assertThat(actual.getImaginary()).isEqualTo(2);
+    }
+
+    @Test
+    void toBigDecimal_should_throw_exception_when_imaginary_is_not_zero() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(a::toBigDecimal)
+                .withMessage("Expected imaginary == 0 but imaginary=2.0")
+                .withNoCause();
+    }
+
+    @Test
+    void toBigDecimal_should_succeed() {
+        assertThat(new DoubleComplex(0.5, 0).toBigDecimal()).isEqualTo(new BigDecimal("0.5"));
+    }
+
+    @Test
+    void doubleValue_should_return_real_part() {
+        assertThat(b.doubleValue()).isEqualTo(3);
+        assertThat(b.longValue()).isEqualTo(3);
+    }
+
+    @Test
+    void compareTo_should_order_by_real_then_imaginary() {
+        assertThat(a).isLessThan(b).isGreaterThan(new DoubleComplex(1, 1));
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        EqualsVerifier.forClass(DoubleComplex.class).verify();
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(a).hasToString("DoubleComplex{real=1.0, imaginary=2.0}");
+    }
+}
@@ -0,0 +1,118 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigInteger;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+final class HybridRationalTest {
+    private final HybridRational max = new HybridRational(Long.MAX_VALUE, 1);
+
+    @Test
+    void of_should_be_canonical() {
+        assertThat(new HybridRational(2, 4)).isEqualTo(new HybridRational(1, 2));
+    }
+
+    @Test
+    void of_should_demote_when_canonical_representation_fits() {
+        final var rational = new HybridRational(
+                new BigRational(BigInteger.ONE.shiftLeft(Long.SIZE), BigInteger.ONE.shiftLeft(Long.SIZE)));
+
+        assertThat(rational.isLongRational()).isTrue();
+        assertThat(rational.toLongRational()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> max.add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_stay_long_when_sum_fits() {
+        final var actual = new HybridRational(2, 3).add(new HybridRational(4, 5));
+
+        assertThat(actual.isLongRational()).isTrue();
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(22, 15));
+    }
+
+    @Test
+    void add_should_promote_when_sum_overflows() {
+        final var actual = max.add(HybridRational.ONE);
+
+        assertThat(actual.isLongRational()).isFalse();
+        assertThat(actual.toBigRational())
+                .isEqualTo(new BigRational(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), BigInteger.ONE));
+    }
+
+    @Test
+    void subtract_should_demote_when_difference_fits() {
+        final var actual = max.add(HybridRational.ONE).subtract(HybridRational.ONE);
+
+        assertThat(actual.isLongRational()).isTrue();
+        assertThat(actual).isEqualTo(max);
+    }
+
+    @Test
+    void multiply_should_promote_when_product_overflows() {
+        final var actual = max.multiply(max);
+
+        assertThat(actual.isLongRational()).isFalse();
+        assertThat(actual.divide(max)).isEqualTo(max);
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> max.divide(HybridRational.ZERO))
+                .withMessage("divisor must be invertible but is HybridRational{value=LongRational{numerator=0, "
+                        + "denominator=1}}")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_succeed() {
+        assertThat(new HybridRational(2, 3).divide(new HybridRational(4, 5))).isEqualTo(new HybridRational(5, 6));
+    }
+
+    @Test
+    void power_should_promote_when_power_overflows() {
+        final var actual = new HybridRational(2, 3).power(64);
+
+        assertThat(actual.isLongRational()).isFalse();
+        assertThat(actual.toBigRational())
+                .isEqualTo(new BigRational(
+                        BigInteger.ONE.shiftLeft(64), BigInteger.valueOf(3).pow(64)));
+    }
+
+    @Test
+    void toLongRational_should_throw_exception_when_promoted() {
+        final var actual = max.add(HybridRational.ONE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(actual::toLongRational);
+    }
+
+    @Test
+    void compareTo_should_succeed_when_promoted() {
+        assertThat(max.add(HybridRational.ONE)).isGreaterThan(max);
+    }
+
+    @Test
+    void negate_should_succeed() {
+        assertThat(new HybridRational(1, 2).negate()).isEqualTo(new HybridRational(-1, 2));
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        EqualsVerifier.forClass(HybridRational.class)
+                .withPrefabValues(LongRational.class, new LongRational(1, 2), new LongRational(1, 3))
+                .withPrefabValues(BigRational.class, new BigRational(1, 2), new BigRational(1, 3))
+                .verify();
+    }
+}
@@ -0,0 +1,265 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class LongDecimalTest {
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 19})
+    void constructor_should_throw_exception_when_scale_is_out_of_range(final int scale) {
+        assertThatThrownBy(() -> new LongDecimal(1, scale))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected scale in [0, 18] but scale=" + scale);
+    }
+
+    @Test
+    void add_should_keep_scale_when_scales_are_equal() {
+        final var actual = new LongDecimal(1999, 2).add(new LongDecimal(1, 2));
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(2000);
+        assertThat(actual.getScale()).isEqualTo(2);
+    }
+
+    @Test
+    void add_should_rescale_to_larger_scale() {
+        final var actual = new LongDecimal(15, 1).add(new LongDecimal(-125, 3));
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(1375);
+        assertThat(actual.getScale()).isEqualTo(3);
+    }
+
+    @Test
+    void add_should_throw_exception_when_sum_overflows() {
+        final var max = new LongDecimal(Long.MAX_VALUE, 2);
+        final var cent = new LongDecimal(1, 2);
+
+        assertThatThrownBy(() -> max.add(cent)).isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void subtract_should_succeed() {
+        assertThat(new LongDecimal(1, 0).subtract(new LongDecimal(1, 2))).isEqualTo(new LongDecimal(99, 2));
+        assertThat(new LongDecimal(5, 2).subtract(new LongDecimal(7, 2))).isEqualTo(new LongDecimal(-2, 2));
+    }
+
+    @Test
+    void multiply_should_add_scales() {
+        final var actual = new LongDecimal(15, 1).multiply(new LongDecimal(25, 2));
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(375);
+        assertThat(actual.getScale()).isEqualTo(3);
+    }
+
+    @Test
+    void multiply_should_strip_trailing_zeros_when_scale_exceeds_maximum() {
+        final var actual = new LongDecimal(20, 10).multiply(new LongDecimal(50, 10));
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(10);
+        assertThat(actual.getScale()).isEqualTo(18);
+        assertThatThrownBy(() -> new LongDecimal(1, 10).multiply(new LongDecimal(1, 10)))
+                .isExactlyInstanceOf(ArithmeticException.class)
+                .hasMessage("Expected scale <= 18 but scale=20");
+    }
+
+    @Test
+    void divide_should_return_exact_quotient() {
+        assertThat(new LongDecimal(1, 0).divide(new LongDecimal(8, 0))).isEqualTo(new LongDecimal(125, 3));
+        assertThat(new LongDecimal(1, 0).divide(new LongDecimal(8, 0)).getScale())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void divide_should_throw_exception_when_quotient_is_not_decimal() {
+        final var one = LongDecimal.ONE;
+        final var three = LongDecimal.valueOf(3);
+
+        assertThatThrownBy(() -> one.divide(three))
+                .isExactlyInstanceOf(ArithmeticException.class)
+                .hasMessageStartingWith("Expected decimal denominator but rational=");
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_zero() {
+        final var one = LongDecimal.ONE;
+
+        assertThatThrownBy(() -> one.divide(LongDecimal.ZERO)).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void divide_should_round_to_scale() {
+        final var actual = LongDecimal.ONE.divide(LongDecimal.valueOf(3), 4, RoundingMode.HALF_EVEN);
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(3333);
+        assertThat(actual.getScale()).isEqualTo(4);
+    }
+
+    @Test
+    void invert_should_succeed() {
+        assertThat(new LongDecimal(25, 2).invert()).isEqualTo(LongDecimal.valueOf(4));
+        assertThatThrownBy(LongDecimal.ZERO::invert).isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void power_should_succeed() {
+        assertThat(new LongDecimal(15, 1).power(3)).isEqualTo(new LongDecimal(3375, 3));
+        assertThat(new LongDecimal(5, 1).power(-2)).isEqualTo(LongDecimal.valueOf(4));
+        assertThat(new LongDecimal(10, 1).power(20)).isEqualTo(LongDecimal.ONE);
+        assertThat(new LongDecimal(7, 3).power(0)).isEqualTo(LongDecimal.ONE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RoundingMode.class)
+    void setScale_should_round_like_BigDecimal(final RoundingMode roundingMode) {
+        final var random = new SplittableRandom(42);
+        for (var i = 0; i < 1000; i++) {
+            final var decimal = new LongDecimal(random.nextLong(-100_000, 100_000), random.nextInt(1, 6));
+            final var newScale = random.nextInt(decimal.getScale());
+            final BigDecimal expected;
+            try {
+                expected = decimal.toBigDecimal().setScale(newScale, roundingMode);
+            } catch (final ArithmeticException exception) {
+                assertThatThrownBy(() -> decimal.setScale(newScale, roundingMode))
+                        .isExactlyInstanceOf(ArithmeticException.class)
+                        .hasMessage("Rounding necessary");
+                continue;
+            }
+
+            final var actual = decimal.setScale(newScale, roundingMode);
+
+            assertThat(actual.toBigDecimal()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void setScale_should_rescale_up_without_rounding() {
+        final var actual = new LongDecimal(15, 1).setScale(4);
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(15000);
+        assertThat(actual.getScale()).isEqualTo(4);
+        assertThatThrownBy(() -> new LongDecimal(15, 1).setScale(0))
+                .isExactlyInstanceOf(ArithmeticException.class)
+                .hasMessage("Rounding necessary");
+    }
+
+    @Test
+    void stripTrailingZeros_should_succeed() {
+        final var actual = new LongDecimal(12300, 4).stripTrailingZeros();
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(123);
+        assertThat(actual.getScale()).isEqualTo(2);
+        assertThat(new LongDecimal(1000, 0).stripTrailingZeros().getUnscaledValue())
+                .isEqualTo(1000);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3, 8, 375, 3", "-7, 20, -35, 2", "5, 1, 5, 0", "1, 1048576, 95367431640625, 20"})
+    void valueOf_should_convert_rational_exactly(
+            final long numerator, final long denominator, final long unscaledValue, final int scale) {
+        final var rational = LongRational.valueOf(numerator, denominator);
+
+        if (scale > LongDecimal.MAX_SCALE) {
+            assertThatThrownBy(() -> LongDecimal.valueOf(rational))
+                    .isExactlyInstanceOf(ArithmeticException.class)
+                    .hasMessage("Expected scale <= 18 but scale=" + scale);
+            return;
+        }
+        final var actual = LongDecimal.valueOf(rational);
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(unscaledValue);
+        assertThat(actual.getScale()).isEqualTo(scale);
+        assertThat(actual.toLongRational()).isEqualTo(rational);
+    }
+
+    @Test
+    void valueOf_should_throw_exception_when_rational_is_not_decimal() {
+        final var third = LongRational.valueOf(1, 3);
+
+        assertThatThrownBy(() -> LongDecimal.valueOf(third))
+                .isExactlyInstanceOf(ArithmeticException.class)
+                .hasMessage("Expected decimal denominator but rational=" + third);
+    }
+
+    @Test
+    void valueOf_should_convert_BigDecimal_exactly() {
+        assertThat(LongDecimal.valueOf(new BigDecimal("-12.345")).toString())
+                .isEqualTo("LongDecimal{unscaledValue=-12345, scale=3}");
+        assertThat(LongDecimal.valueOf(new BigDecimal("1E+3"))).isEqualTo(LongDecimal.valueOf(1000));
+        final var tooPrecise = new BigDecimal("1E-19");
+        assertThatThrownBy(() -> LongDecimal.valueOf(tooPrecise)).isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void toLongRational_should_return_canonical_rational() {
+        final var actual = new LongDecimal(250, 3).toLongRational();
+
+        assertThat(actual.getNumerator()).isOne();
+        assertThat(actual.getDenominator()).isEqualTo(4);
+    }
+
+    @Test
+    void conversions_should_succeed() {
+        final var decimal = new LongDecimal(-12345, 2);
+
+        assertThat(decimal.longValue()).isEqualTo(-123);
+        assertThat(decimal.intValue()).isEqualTo(-123);
+        assertThat(decimal.doubleValue()).isEqualTo(-123.45);
+        assertThat(decimal.floatValue()).isEqualTo(-123.45F);
+        assertThat(decimal.toPlainString()).isEqualTo("-123.45");
+        assertThat(new LongDecimal(Long.MAX_VALUE, 18).doubleValue())
+                .isEqualTo(new BigDecimal("9.223372036854775807").doubleValue());
+        assertThat(new LongDecimal(300, 2).longValueExact()).isEqualTo(3);
+        assertThatThrownBy(decimal::longValueExact).isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void compareTo_should_compare_values_across_scales() {
+        assertThat(new LongDecimal(10, 1)).isEqualByComparingTo(LongDecimal.ONE);
+        assertThat(new LongDecimal(Long.MAX_VALUE, 18)).isLessThan(new LongDecimal(10, 0));
+        assertThat(new LongDecimal(-1, 18)).isGreaterThan(new LongDecimal(Long.MIN_VALUE, 0));
+    }
+
+    @Test
+    void hashCode_and_equals_should_ignore_scale() {
+        final var one = new LongDecimal(1, 0);
+        final var oneHundredths = new LongDecimal(100, 2);
+
+        assertThat(one).isEqualTo(oneHundredths).hasSameHashCodeAs(oneHundredths);
+        assertThat(one).isNotEqualTo(new LongDecimal(1, 2)).isNotEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void summing_should_add_with_largest_scale() {
+        final var actual = Stream.of(new LongDecimal(199, 2), new LongDecimal(5, 1), new LongDecimal(1, 3))
+                .collect(LongDecimal.summing());
+
+        assertThat(actual.getUnscaledValue()).isEqualTo(2491);
+        assertThat(actual.getScale()).isEqualTo(3);
+        assertThat(Stream.<LongDecimal>empty().collect(LongDecimal.summing())).isEqualTo(LongDecimal.ZERO);
+    }
+
+    @Test
+    void summing_should_equal_sequential_sum_in_parallel() {
+        final var random = new SplittableRandom(42);
+        final var decimals = random.longs(100_000, -1_000_000, 1_000_000)
+                .mapToObj(unscaledValue -> new LongDecimal(unscaledValue, 2))
+                .toList();
+        final var expected = decimals.stream().reduce(LongDecimal.ZERO, LongDecimal::add);
+
+        assertThat(decimals.parallelStream().collect(LongDecimal.summing())).isEqualTo(expected);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new LongDecimal(12345, 2)).hasToString("LongDecimal{unscaledValue=12345, scale=2}");
+    }
+}
@@ -0,0 +1,71 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalAdderTest {
+    @Test
+    void add_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new LongRationalAdder().add(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void sum_should_return_zero_initially() {
+        assertThat(new LongRationalAdder().sum()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void sum_should_be_exact_when_threads_add_concurrently() {
+        final var adder = new LongRationalAdder();
+
+        IntStream.range(0, 64_000).parallel().forEach(i -> adder.add(new LongRational(1, 2L + i % 4)));
+
+        assertThat(adder.sum()).isEqualTo(new LongRational(61_600, 3));
+    }
+
+    @Test
+    void reset_should_succeed() {
+        final var adder = new LongRationalAdder();
+        adder.add(new LongRational(1, 3));
+
+        adder.reset();
+
+        assertThat(adder.sum()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void sumThenReset_should_succeed() {
+        final var adder = new LongRationalAdder();
+        adder.add(new LongRational(1, 3));
+        adder.add(new LongRational(1, 6));
+
+        assertThat(adder.sumThenReset()).isEqualTo(new LongRational(1, 2));
+        assertThat(adder.sum()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void sumThenReset_should_keep_sum_when_sum_overflows() {
+        final var adder = new LongRationalAdder(LongRational.valueOf(Long.MAX_VALUE), LongRational.ONE);
+
+        assertThatThrownBy(adder::sumThenReset).isExactlyInstanceOf(ArithmeticException.class);
+        adder.add(LongRational.valueOf(-1));
+        assertThat(adder.sum()).isEqualTo(LongRational.valueOf(Long.MAX_VALUE));
+        assertThat(adder.sumThenReset()).isEqualTo(LongRational.valueOf(Long.MAX_VALUE));
+        assertThat(adder.sum()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        final var adder = new LongRationalAdder();
+        adder.add(new LongRational(2, 4));
+
+        assertThat(adder).hasToString("LongRationalAdder{sum=LongRational{numerator=1, denominator=2}}");
+    }
+}
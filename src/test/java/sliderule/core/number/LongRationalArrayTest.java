@@ -0,0 +1,266 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalArrayTest {
+    private final LongRationalArray array1 =
+            new LongRationalArray(new LongRational(1, 2), new LongRational(2, 3), new LongRational(-3, 4));
+    private final LongRationalArray array2 =
+            new LongRationalArray(new LongRational(1, 3), new LongRational(1, 6), new LongRational(4, 5));
+
+    @Test
+    void of_should_throw_exception_when_length_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalArray(-1))
+                .withMessage("Expected length >= 0 but length=-1")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_return_zeros() {
+        final var actual = new LongRationalArray(2);
+
+        assertThat(actual.toArray()).containsExactly(LongRational.ZERO, LongRational.ZERO);
+    }
+
+    @Test
+    void of_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalArray(new long[1], new long[2]))
+                .withMessage("Expected equal lengths but numerators.length=1 and denominators.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_copy_and_normalize_sign() {
+        final var numerators = new long[] {1, 2};
+        final var actual = new LongRationalArray(numerators, new long[] {-2, 3});
+        numerators[0] = 5;
+
+        assertThat(actual.getNumerator(0)).isEqualTo(-1L);
+        assertThat(actual.getDenominator(0)).isEqualTo(2L);
+    }
+
+    @Test
+    void set_should_throw_exception_when_denominator_is_zero() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.set(0, 1, 0))
+                .withMessage("Expected denominator != 0 but denominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void set_should_throw_exception_when_numerator_is_min_value() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> array1.set(0, Long.MIN_VALUE, 1));
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> array1.set(0, Long.MIN_VALUE, -1));
+    }
+
+    @Test
+    void add_should_throw_exception_when_summands_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> array1.addInPlace(null))
+                .withMessage("summands")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.addInPlace(new LongRationalArray(2)))
+                .withMessage("Expected summands.length=3 but summands.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void add_should_succeed() {
+        final var destination = new LongRationalArray(3);
+
+        assertThat(array1.add(array2, destination).toArray())
+                .containsExactly(new LongRational(5, 6), new LongRational(5, 6), new LongRational(1, 20));
+    }
+
+    @Test
+    void addInPlace_should_succeed() {
+        assertThat(array1.addInPlace(array2)).isSameAs(array1);
+        assertThat(array1.toArray())
+                .containsExactly(new LongRational(5, 6), new LongRational(5, 6), new LongRational(1, 20));
+    }
+
+    @Test
+    void addInPlace_should_reduce_before_multiplying() {
+        final var array = new LongRationalArray(new LongRational(1, 1L << 62));
+
+        assertThat(array.addInPlace(array).get(0)).isEqualTo(new LongRational(1, 1L << 61));
+    }
+
+    @Test
+    void multiplyInPlace_should_succeed() {
+        assertThat(array1.multiplyInPlace(array2).toArray())
+                .containsExactly(new LongRational(1, 6), new LongRational(1, 9), new LongRational(-3, 5));
+    }
+
+    @Test
+    void divide_should_throw_exception_when_divisor_is_not_invertible() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.divideInPlace(new LongRationalArray(3)))
+                .withMessage("divisor must be invertible but is LongRational{numerator=0, denominator=1}")
+                .withNoCause();
+    }
+
+    @Test
+    void divide_should_write_into_divisors() {
+        assertThat(array1.divide(array2, array2).toArray())
+                .containsExactly(new LongRational(3, 2), new LongRational(4, 1), new LongRational(-15, 16));
+    }
+
+    @Test
+    void scaleInPlace_should_succeed() {
+        assertThat(array1.scaleInPlace(new LongRational(-4, 6)).toArray())
+                .containsExactly(new LongRational(-1, 3), new LongRational(-4, 9), new LongRational(1, 2));
+    }
+
+    @Test
+    void scaleInPlace_should_throw_exception_when_product_overflows() {
+        final var array = new LongRationalArray(new LongRational(Long.MAX_VALUE, 1));
+
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> array.scaleInPlace(new LongRational(2, 1)));
+        assertThat(array.get(0)).isEqualTo(new LongRational(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void canonicalizeInPlace_should_succeed() {
+        final var array = new LongRationalArray(new long[] {2, 0, -6}, new long[] {4, 5, 9});
+
+        assertThat(array.canonicalizeInPlace().toArray())
+                .containsExactly(new LongRational(1, 2), LongRational.ZERO, new LongRational(-2, 3));
+    }
+
+    @Test
+    void lessThan_should_throw_exception_when_lengths_differ() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> array1.lessThan(array2, new boolean[2]))
+                .withMessage("Expected destination.length=3 but destination.length=2")
+                .withNoCause();
+    }
+
+    @Test
+    void lessThan_should_succeed() {
+        assertThat(array1.lessThan(array2, new boolean[3])).containsExactly(false, false, true);
+    }
+
+    @Test
+    void lessThan_should_succeed_when_products_overflow() {
+        final var left = new LongRationalArray(new LongRational(Long.MAX_VALUE - 1, Long.MAX_VALUE));
+        final var right = new LongRationalArray(new LongRational(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1));
+
+        assertThat(right.lessThan(left, new boolean[1])).containsExactly(true);
+    }
+
+    @Test
+    void equalTo_should_compare_values() {
+        final var other = new LongRationalArray(new long[] {2, 4, 3}, new long[] {4, 6, 4});
+
+        assertThat(array1.equalTo(other, new boolean[3])).containsExactly(true, true, false);
+    }
+
+    @Test
+    void dot_should_succeed() {
+        assertThat(array1.dot(array2)).isEqualTo(new LongRational(-29, 90));
+    }
+
+    @Test
+    void sortInPlace_should_sort_stably_by_value() {
+        final var actual = new LongRationalArray(
+                new LongRational(2, 4), new LongRational(-1, 3), new LongRational(1, 2), new LongRational(0, 7));
+
+        actual.sortInPlace();
+
+        assertThat(actual.getNumerator(0)).isEqualTo(-1);
+        assertThat(actual.getNumerator(1)).isZero();
+        assertThat(actual.getNumerator(2)).isEqualTo(2);
+        assertThat(actual.getNumerator(3)).isOne();
+    }
+
+    @Test
+    void parallelSortInPlace_should_equal_sort_of_objects() {
+        final var random = new SplittableRandom(42);
+        final var actual = new LongRationalArray(100_000);
+        for (var i = 0; i < actual.length(); i++) {
+            actual.set(i, random.nextLong(-Long.MAX_VALUE, Long.MAX_VALUE), random.nextLong(1, Long.MAX_VALUE));
+        }
+        final var expected = actual.toArray();
+        Arrays.sort(expected);
+
+        actual.parallelSortInPlace();
+
+        final var elements = actual.toArray();
+        for (var i = 0; i < expected.length; i++) {
+            assertThat(elements[i].getNumerator()).isEqualTo(expected[i].getNumerator());
+            assertThat(elements[i].getDenominator()).isEqualTo(expected[i].getDenominator());
+        }
+    }
+
+    @Test
+    void parallelSortInPlace_should_sort_stably() {
+        final var actual = new LongRationalArray(50_000);
+        for (var i = 0; i < actual.length(); i++) {
+            actual.set(i, i % 7, i % 7 == 0 ? i + 1L : 1);
+        }
+
+        actual.parallelSortInPlace();
+
+        for (var i = 1; i < actual.length(); i++) {
+            final var comparison = actual.get(i - 1).compareTo(actual.get(i));
+            assertThat(comparison).isLessThanOrEqualTo(0);
+            if (comparison == 0 && actual.getNumerator(i) == 0) {
+                assertThat(actual.getDenominator(i - 1)).isLessThan(actual.getDenominator(i));
+            }
+        }
+    }
+
+    @Test
+    void sort_should_sort_range_only() {
+        final var random = new SplittableRandom(42);
+        final var numerators = random.longs(30_000, -1_000, 1_000).toArray();
+        final var denominators = random.longs(30_000, 1, 1_000).toArray();
+        final var parallelNumerators = numerators.clone();
+        final var parallelDenominators = denominators.clone();
+        final var expected = new LongRationalArray(numerators, denominators).toArray();
+        Arrays.sort(expected, 5_000, 25_000);
+
+        LongRationalSort.sort(numerators, denominators, 5_000, 25_000, null);
+        LongRationalSort.sort(parallelNumerators, parallelDenominators, 5_000, 25_000, ForkJoinPool.commonPool());
+
+        assertThat(new LongRationalArray(numerators, denominators).toArray()).containsExactly(expected);
+        assertThat(parallelNumerators).containsExactly(numerators);
+        assertThat(parallelDenominators).containsExactly(denominators);
+    }
+
+    @Test
+    void copy_should_return_equal_array() {
+        final var copy = array1.copy();
+
+        assertThat(copy).isEqualTo(array1).isNotSameAs(array1);
+    }
+
+    @Test
+    void hashCode_and_equals_should_succeed() {
+        EqualsVerifier.forClass(LongRationalArray.class).verify();
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new LongRationalArray(new LongRational(1, 2)))
+                .hasToString("LongRationalArray{numerators=[1], denominators=[2]}");
+    }
+}
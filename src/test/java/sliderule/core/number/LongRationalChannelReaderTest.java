@@ -0,0 +1,69 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class LongRationalChannelReaderTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void of_should_throw_exception_when_buffer_is_smaller_than_block() {
+        final var channel = Channels.newChannel(new ByteArrayInputStream(new byte[0]));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalChannelReader(channel, 16))
+                .withMessage("Expected bufferSize >= 5124 but bufferSize=16")
+                .withNoCause();
+    }
+
+    @Test
+    void read_should_revert_write_through_file_channel() throws IOException {
+        final var source = new LongRationalArray(100_000);
+        for (var i = 0; i < source.length(); i++) {
+            source.set(i, i - 50_000L, i % 7 == 0 ? i + 1L : 1_000L);
+        }
+        final var file = directory.resolve("rationals.bin");
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final var writer = new LongRationalChannelWriter(channel);
+            writer.write(source, 0, 60_000);
+            writer.write(source, 60_000, source.length());
+            writer.flush();
+        }
+        final var destination = new LongRationalArray(source.length());
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var reader = new LongRationalChannelReader(channel, LongRationalCodec.MAX_BLOCK_BYTES);
+            var offset = 0;
+            for (var count = reader.read(destination, offset); count > 0; count = reader.read(destination, offset)) {
+                offset += count;
+            }
+            assertThat(offset).isEqualTo(source.length());
+            assertThat(reader.read(destination, offset)).isZero();
+            assertThat(reader.read(new LongRationalArray(1), 0)).isEqualTo(-1);
+        }
+        assertThat(destination).isEqualTo(source);
+    }
+
+    @Test
+    void read_should_throw_exception_when_stream_ends_within_block() {
+        final var channel = Channels.newChannel(new ByteArrayInputStream(new byte[] {2, 2, 2}));
+        final var reader = new LongRationalChannelReader(channel);
+
+        assertThatExceptionOfType(EOFException.class)
+                .isThrownBy(() -> reader.read(new LongRationalArray(1), 0))
+                .withMessage("Expected complete block but stream ended after 3 bytes of a block")
+                .withNoCause();
+    }
+}
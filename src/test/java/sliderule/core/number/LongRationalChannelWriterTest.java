@@ -0,0 +1,34 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalChannelWriterTest {
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void of_should_throw_exception_when_buffer_is_smaller_than_block() {
+        final var channel = Channels.newChannel(output);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalChannelWriter(channel, 16))
+                .withMessage("Expected bufferSize >= 5124 but bufferSize=16")
+                .withNoCause();
+    }
+
+    @Test
+    void write_should_buffer_until_flush() throws IOException {
+        final var writer = new LongRationalChannelWriter(Channels.newChannel(output));
+
+        writer.write(new LongRationalArray(new LongRational(1, 2)));
+
+        assertThat(output.toByteArray()).isEmpty();
+        writer.flush();
+        assertThat(output.toByteArray()).containsExactly(2, 2, 2, 2);
+    }
+}
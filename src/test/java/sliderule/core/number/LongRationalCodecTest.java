@@ -0,0 +1,139 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class LongRationalCodecTest {
+    @Test
+    void encode_should_write_zigzag_varints() {
+        final var destination = ByteBuffer.allocate(16);
+
+        LongRationalCodec.encode(new LongRational(-1, 1), destination);
+        LongRationalCodec.encode(new LongRational(64, 300), destination);
+
+        assertThat(destination.flip()).isEqualTo(ByteBuffer.wrap(new byte[] {1, 1, (byte) 0x80, 1, (byte) 0xAC, 2}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, Long.MAX_VALUE, -Long.MAX_VALUE})
+    void decode_should_revert_encode(final long numerator) {
+        final var value = new LongRational(numerator, Long.MAX_VALUE);
+        final var buffer = ByteBuffer.allocate(LongRationalCodec.encodedLength(value));
+
+        LongRationalCodec.encode(value, buffer);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(LongRationalCodec.decode(buffer.flip())).isEqualTo(value);
+    }
+
+    @Test
+    void encode_should_throw_exception_and_leave_destination_unchanged_when_value_does_not_fit() {
+        final var destination = ByteBuffer.allocate(2);
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> LongRationalCodec.encode(new LongRational(1, 1_000), destination));
+        assertThat(destination.position()).isZero();
+    }
+
+    @Test
+    void decode_should_throw_exception_when_denominator_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRationalCodec.decode(ByteBuffer.wrap(new byte[] {2, 0})))
+                .withMessage("Expected denominator > 0 but denominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void encode_should_share_denominator_of_runs() {
+        final var source = new LongRationalArray(
+                new LongRational(1, 100), new LongRational(2, 100), new LongRational(3, 100), new LongRational(1, 3));
+        final var destination = ByteBuffer.allocate(64);
+
+        final var actual = LongRationalCodec.encode(source, 0, source.length(), destination);
+
+        assertThat(actual).isEqualTo(4);
+        assertThat(destination.flip()).isEqualTo(ByteBuffer.wrap(new byte[] {7, 4, 100, 2, 4, 6, 2, 2, 2, 3}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void decode_should_revert_encode_of_sequence(final int seed) {
+        final var random = new SplittableRandom(seed);
+        final var source = new LongRationalArray(1_000);
+        for (var i = 0; i < source.length(); i++) {
+            final var denominator = random.nextBoolean() ? 1_000L : random.nextLong(1, Long.MAX_VALUE);
+            source.set(i, random.nextLong(-Long.MAX_VALUE, Long.MAX_VALUE), denominator);
+        }
+        final var buffer = ByteBuffer.allocate(LongRationalCodec.MAX_BLOCK_BYTES * 8);
+        final var destination = new LongRationalArray(source.length());
+
+        final var encoded = LongRationalCodec.encode(source, 0, source.length(), buffer);
+        final var decoded = LongRationalCodec.decode(buffer.flip(), destination, 0);
+
+        assertThat(encoded).isEqualTo(source.length());
+        assertThat(decoded).isEqualTo(source.length());
+        assertThat(destination).isEqualTo(source);
+    }
+
+    @Test
+    void encode_should_shorten_last_block_when_destination_is_small() {
+        final var source =
+                new LongRationalArray(new LongRational(1, 2), new LongRational(1, 3), new LongRational(1, 4));
+        final var destination = ByteBuffer.allocate(8);
+
+        final var actual = LongRationalCodec.encode(source, 0, source.length(), destination);
+
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void decode_should_stop_before_incomplete_block() {
+        final var source = new LongRationalArray(new LongRational(1, 2), new LongRational(1, 3));
+        final var buffer = ByteBuffer.allocate(16);
+        LongRationalCodec.encode(source, 0, source.length(), buffer);
+        final var destination = new LongRationalArray(2);
+
+        final var actual = LongRationalCodec.decode(buffer.flip().limit(buffer.limit() - 1), destination, 0);
+
+        assertThat(actual).isZero();
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void decode_should_stop_before_block_that_does_not_fit() {
+        final var source = new LongRationalArray(new LongRational(1, 2), new LongRational(1, 2));
+        final var buffer = ByteBuffer.allocate(16);
+        LongRationalCodec.encode(source, 0, source.length(), buffer);
+
+        final var actual = LongRationalCodec.decode(buffer.flip(), new LongRationalArray(1), 0);
+
+        assertThat(actual).isZero();
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void decode_should_throw_exception_when_block_length_is_invalid() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(
+                        () -> LongRationalCodec.decode(ByteBuffer.wrap(new byte[] {0, 0}), new LongRationalArray(1), 0))
+                .withMessage("Expected block length in [1, 256] but length=0")
+                .withNoCause();
+    }
+
+    @Test
+    void decode_should_throw_exception_when_payload_length_is_wrong() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRationalCodec.decode(
+                        ByteBuffer.wrap(new byte[] {2, 3, 2, 2, 0}), new LongRationalArray(1), 0))
+                .withMessage("Expected payloadBytes=3 but payloadBytes=2")
+                .withNoCause();
+    }
+}
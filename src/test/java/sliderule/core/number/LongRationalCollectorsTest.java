@@ -0,0 +1,141 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalCollectorsTest {
+    private static final LongRational HUGE_DENOMINATOR = new LongRational(1, (1L << 62) + 1);
+
+    @Test
+    void summing_should_throw_exception_when_mapper_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRationalCollectors.summing(null))
+                .withMessage("mapper")
+                .withNoCause();
+    }
+
+    @Test
+    void summing_should_succeed() {
+        final var actual = Stream.of(new LongRational(1, 2), new LongRational(1, 3), new LongRational(1, 6))
+                .collect(LongRationalCollectors.summing());
+
+        assertThat(actual).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void summing_should_return_zero_when_empty() {
+        assertThat(Stream.<LongRational>empty().collect(LongRationalCollectors.summing()))
+                .isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void summing_should_succeed_when_left_fold_overflows() {
+        final var actual = Stream.of(HUGE_DENOMINATOR, new LongRational(1, 3), HUGE_DENOMINATOR.negate())
+                .collect(LongRationalCollectors.summing());
+
+        assertThat(actual).isEqualTo(new LongRational(1, 3));
+    }
+
+    @Test
+    void summing_should_succeed_when_numerators_of_common_denominator_overflow() {
+        final var actual = Stream.of(
+                        new LongRational(Long.MAX_VALUE, 3),
+                        new LongRational(Long.MAX_VALUE, 3),
+                        new LongRational(-Long.MAX_VALUE, 3),
+                        new LongRational(-Long.MAX_VALUE + 1, 3))
+                .collect(LongRationalCollectors.summing());
+
+        assertThat(actual).isEqualTo(new LongRational(1, 3));
+    }
+
+    @Test
+    void summing_should_throw_exception_when_sum_overflows() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> Stream.of(new LongRational(Long.MAX_VALUE, 1), LongRational.ONE)
+                        .collect(LongRationalCollectors.summing()));
+    }
+
+    @Test
+    void summing_should_equal_sequential_sum_when_parallel() {
+        final var random = new SplittableRandom(42);
+        final long[] denominators = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 16};
+        final var rationals = IntStream.range(0, 100_000)
+                .mapToObj(i -> new LongRational(
+                        random.nextLong(-1_000, 1_000), denominators[random.nextInt(denominators.length)]))
+                .toList();
+        final var expected = rationals.stream()
+                .map(LongRational::toBigRational)
+                .reduce(BigRational.ZERO, BigRational::add)
+                .toLongRational();
+
+        assertThat(rationals.parallelStream().collect(LongRationalCollectors.summing()))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void summing_should_map_elements() {
+        final var actual = Stream.of("1", "2")
+                .collect(LongRationalCollectors.summing(s -> new LongRational(1, Long.parseLong(s))));
+
+        assertThat(actual).isEqualTo(new LongRational(3, 2));
+    }
+
+    @Test
+    void averaging_should_succeed() {
+        final var actual =
+                Stream.of(new LongRational(1, 2), new LongRational(1, 3)).collect(LongRationalCollectors.averaging());
+
+        assertThat(actual).isEqualTo(new LongRational(5, 12));
+    }
+
+    @Test
+    void averaging_should_return_zero_when_empty() {
+        assertThat(Stream.<LongRational>empty().collect(LongRationalCollectors.averaging()))
+                .isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void product_should_succeed() {
+        final var actual = Stream.of(new LongRational(2, 3), new LongRational(3, 4), new LongRational(4, 5))
+                .collect(LongRationalCollectors.product());
+
+        assertThat(actual).isEqualTo(new LongRational(2, 5));
+    }
+
+    @Test
+    void product_should_return_one_when_empty() {
+        assertThat(Stream.<LongRational>empty().collect(LongRationalCollectors.product()))
+                .isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void product_should_succeed_when_intermediate_product_overflows() {
+        final var actual = Stream.of(
+                        new LongRational(1L << 40, 1),
+                        new LongRational(1L << 40, 1),
+                        new LongRational(1, 1L << 40),
+                        new LongRational(1, 1L << 40))
+                .collect(LongRationalCollectors.product());
+
+        assertThat(actual).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void summarizing_should_succeed() {
+        final var actual = Stream.of(new LongRational(1, 2), new LongRational(-1, 3), new LongRational(5, 6))
+                .parallel()
+                .collect(LongRationalCollectors.summarizing());
+
+        assertThat(actual.getCount()).isEqualTo(3);
+        assertThat(actual.getSum()).isEqualTo(LongRational.ONE);
+        assertThat(actual.getMin()).isEqualTo(new LongRational(-1, 3));
+        assertThat(actual.getMax()).isEqualTo(new LongRational(5, 6));
+        assertThat(actual.getAverage()).isEqualTo(new LongRational(1, 3));
+    }
+}
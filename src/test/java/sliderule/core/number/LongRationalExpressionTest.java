@@ -0,0 +1,148 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalExpressionTest {
+    private static final LongRationalExpression A = LongRationalExpression.variable(0);
+    private static final LongRationalExpression B = LongRationalExpression.variable(1);
+    private static final LongRationalExpression C = LongRationalExpression.variable(2);
+    private static final LongRationalExpression D = LongRationalExpression.variable(3);
+    private static final LongRationalExpression E = LongRationalExpression.variable(4);
+
+    @Test
+    void evaluate_should_equal_eager_arithmetic() {
+        final var compiled = A.multiply(B).add(C.multiply(D)).subtract(E).compile();
+        final var random = new SplittableRandom(42);
+
+        for (var i = 0; i < 1000; i++) {
+            final var bindings = new LongRational[5];
+            for (var j = 0; j < bindings.length; j++) {
+                bindings[j] = new LongRational(random.nextLong(-1000, 1000), random.nextLong(1, 1000));
+            }
+            final var expected = bindings[0]
+                    .multiply(bindings[1])
+                    .add(bindings[2].multiply(bindings[3]))
+                    .subtract(bindings[4]);
+
+            final var actual = compiled.evaluate(bindings);
+
+            assertThat(actual.getNumerator()).isEqualTo(expected.getNumerator());
+            assertThat(actual.getDenominator()).isEqualTo(expected.getDenominator());
+        }
+    }
+
+    @Test
+    void evaluate_should_succeed_with_constants_division_and_negation() {
+        final var expression = A.divide(B.add(LongRational.ONE))
+                .negate()
+                .multiply(LongRational.valueOf(3, 2))
+                .divide(LongRational.valueOf(-1, 4));
+
+        final var actual = expression.evaluate(LongRational.valueOf(2, 3), LongRational.valueOf(-3, 5));
+
+        assertThat(actual).isEqualTo(LongRational.valueOf(10));
+        assertThat(actual.getDenominator()).isOne();
+    }
+
+    @Test
+    void evaluate_should_succeed_when_intermediate_result_overflows() {
+        final var large = LongRational.valueOf(Long.MAX_VALUE / 2);
+        final var expression = A.multiply(B).divide(B);
+
+        assertThatThrownBy(() -> large.multiply(LongRational.valueOf(4)))
+                .isExactlyInstanceOf(ArithmeticException.class);
+        assertThat(expression.evaluate(large, LongRational.valueOf(4))).isEqualTo(large);
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_result_overflows() {
+        final var compiled = A.multiply(A).compile();
+
+        assertThatThrownBy(() -> compiled.evaluate(LongRational.valueOf(Long.MAX_VALUE)))
+                .isExactlyInstanceOf(ArithmeticException.class)
+                .hasMessageStartingWith("Expected numerator and denominator in long but value=");
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_divisor_is_zero() {
+        final var compiled = A.divide(B.subtract(B)).compile();
+
+        assertThatThrownBy(() -> compiled.evaluate(LongRational.ONE, LongRational.ONE))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected divisor != 0 but divisor=0");
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_bindings_are_missing() {
+        final var compiled = A.add(C).compile();
+
+        assertThat(compiled.getVariableCount()).isEqualTo(3);
+        assertThatThrownBy(() -> compiled.evaluate(LongRational.ONE, LongRational.ONE))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected at least 3 bindings but length=2");
+    }
+
+    @Test
+    void compile_should_share_common_subexpressions() {
+        final var shared = A.add(B);
+        final var compiled = shared.multiply(shared).subtract(shared).compile();
+
+        assertThat(compiled).hasToString("Compiled{instructions=5, variableCount=2}");
+        assertThat(compiled.evaluate(LongRational.ONE, LongRational.valueOf(1, 2)))
+                .isEqualTo(LongRational.valueOf(3, 4));
+    }
+
+    @Test
+    void compile_should_succeed_when_expression_is_deep() {
+        var expression = A;
+        for (var i = 0; i < 100_000; i++) {
+            expression = expression.add(LongRational.valueOf(1, 3));
+        }
+
+        assertThat(expression.compile().evaluate(LongRational.ZERO)).isEqualTo(LongRational.valueOf(100_000, 3));
+    }
+
+    @Test
+    void evaluate_should_write_rows_of_columns() {
+        final var compiled = A.multiply(B).add(LongRational.valueOf(1, 2)).compile();
+        final var prices = new LongRationalArray(LongRational.valueOf(3, 2), LongRational.valueOf(1, 3));
+        final var quantities = new LongRationalArray(LongRational.valueOf(4), LongRational.valueOf(3, 4));
+        final var destination = new LongRationalArray(2);
+
+        final var actual = compiled.evaluate(new LongRationalArray[] {prices, quantities}, destination);
+
+        assertThat(actual).isSameAs(destination);
+        assertThat(actual.get(0)).isEqualTo(LongRational.valueOf(13, 2));
+        assertThat(actual.get(1)).isEqualTo(LongRational.valueOf(3, 4));
+        assertThat(actual.getDenominator(1)).isEqualTo(4);
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_column_lengths_differ() {
+        final var compiled = A.add(B).compile();
+        final var columns = new LongRationalArray[] {new LongRationalArray(2), new LongRationalArray(3)};
+        final var destination = new LongRationalArray(2);
+
+        assertThatThrownBy(() -> compiled.evaluate(columns, destination))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected column.length=2 but column.length=3");
+    }
+
+    @Test
+    void variable_should_throw_exception_when_index_is_negative() {
+        assertThatThrownBy(() -> LongRationalExpression.variable(-1))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected index >= 0 but index=-1");
+    }
+
+    @Test
+    void toString_should_succeed() {
+        final var expression = A.multiply(B).add(LongRational.valueOf(1, 2)).negate();
+
+        assertThat(expression).hasToString("LongRationalExpression{expression=-((x0 * x1) + 1/2)}");
+    }
+}
@@ -0,0 +1,111 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sliderule.core.number.LongRationalMetrics.Operation;
+
+final class LongRationalMetricsTest {
+    @Test
+    void record_should_count_per_operation() {
+        final var metrics = new LongRationalMetrics();
+
+        metrics.recordOverflow(Operation.ADD);
+        metrics.recordOverflow(Operation.ADD);
+        metrics.recordSlowPath(Operation.DOUBLE_VALUE);
+        metrics.recordDenominator(Operation.MULTIPLY, 1);
+        metrics.recordDenominator(Operation.MULTIPLY, 6);
+        metrics.recordDenominator(Operation.MULTIPLY, Long.MAX_VALUE);
+
+        assertThat(metrics.getOverflows(Operation.ADD)).isEqualTo(2);
+        assertThat(metrics.getOverflows(Operation.SUBTRACT)).isZero();
+        assertThat(metrics.getSlowPaths(Operation.DOUBLE_VALUE)).isOne();
+        final var histogram = metrics.getDenominatorBitLengths(Operation.MULTIPLY);
+        assertThat(histogram).hasSize(Long.SIZE);
+        assertThat(histogram[1]).isOne();
+        assertThat(histogram[3]).isOne();
+        assertThat(histogram[63]).isOne();
+        assertThat(metrics.getDenominatorBitLengths(Operation.DIVIDE)).containsOnly(0);
+    }
+
+    @Test
+    void reset_should_clear_counters() {
+        final var metrics = new LongRationalMetrics();
+        metrics.recordOverflow(Operation.POWER);
+        metrics.recordSlowPath(Operation.TO_BIG_DECIMAL);
+        metrics.recordDenominator(Operation.POWER, 2);
+
+        metrics.reset();
+
+        assertThat(metrics.getOverflows(Operation.POWER)).isZero();
+        assertThat(metrics.getSlowPaths(Operation.TO_BIG_DECIMAL)).isZero();
+        assertThat(metrics.getDenominatorBitLengths(Operation.POWER)).containsOnly(0);
+    }
+
+    @Test
+    void getOverflows_should_throw_exception_when_operation_is_null() {
+        final var metrics = new LongRationalMetrics();
+
+        assertThatNullPointerException()
+                .isThrownBy(() -> metrics.getOverflows(null))
+                .withMessage("operation")
+                .withNoCause();
+    }
+
+    @Test
+    void global_should_not_count_when_disabled() {
+        assertThat(LongRationalMetrics.isEnabled()).isFalse();
+
+        LongRational.ONE.add(LongRational.ONE);
+
+        assertThat(LongRationalMetrics.global().getDenominatorBitLengths(Operation.ADD))
+                .containsOnly(0);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        final var metrics = new LongRationalMetrics();
+        metrics.recordOverflow(Operation.ADD);
+
+        assertThat(metrics.toString())
+                .startsWith("LongRationalMetrics{ADD={overflows=1, slowPaths=0, denominatorBitLengths=[0, ")
+                .contains("DOUBLE_VALUE={overflows=0");
+    }
+
+    @Test
+    void operations_should_emit_flight_recorder_events(@TempDir final Path directory) throws IOException {
+        final var file = directory.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("sliderule.LongRationalOverflow");
+            recording.enable("sliderule.LongRationalSlowPath");
+            recording.start();
+
+            final var max = new LongRational(Long.MAX_VALUE, 1);
+            assertThatThrownBy(() -> max.add(LongRational.ONE)).isExactlyInstanceOf(ArithmeticException.class);
+            assertThat(new LongRational(Long.MAX_VALUE - 1, Long.MAX_VALUE).doubleValue())
+                    .isEqualTo(1.0);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final var events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("sliderule.LongRationalOverflow");
+                    assertThat(event.getString("operation")).isEqualTo("ADD");
+                })
+                .anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("sliderule.LongRationalSlowPath");
+                    assertThat(event.getString("operation")).isEqualTo("DOUBLE_VALUE");
+                    assertThat(event.getInt("denominatorBitLength")).isEqualTo(63);
+                });
+    }
+}
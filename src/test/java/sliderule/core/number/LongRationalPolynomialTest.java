@@ -0,0 +1,182 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalPolynomialTest {
+    // 1/2 - 3x + 2/3 x^2
+    private static final LongRationalPolynomial P = new LongRationalPolynomial(
+            LongRational.valueOf(1, 2), LongRational.valueOf(-3), LongRational.valueOf(2, 3));
+
+    @Test
+    void constructor_should_canonicalize_and_trim_coefficients() {
+        final var polynomial =
+                new LongRationalPolynomial(new LongRationalArray(new long[] {2, 0, 0}, new long[] {-4, 1, 7}));
+
+        assertThat(polynomial.degree()).isZero();
+        assertThat(polynomial.getCoefficient(0)).isEqualTo(LongRational.valueOf(-1, 2));
+        assertThat(polynomial.getCoefficient(5)).isEqualTo(LongRational.ZERO);
+        assertThat(new LongRationalPolynomial(LongRational.ZERO)).isEqualTo(LongRationalPolynomial.ZERO);
+        assertThat(LongRationalPolynomial.ZERO.degree()).isEqualTo(-1);
+        assertThatThrownBy(() -> P.getCoefficient(-1))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected index >= 0 but index=-1");
+    }
+
+    @Test
+    void evaluate_should_succeed() {
+        assertThat(P.evaluate(LongRational.ZERO)).isEqualTo(LongRational.valueOf(1, 2));
+        assertThat(P.evaluate(LongRational.valueOf(3, 2))).isEqualTo(LongRational.valueOf(-5, 2));
+        assertThat(P.evaluate(LongRational.valueOf(-1))).isEqualTo(LongRational.valueOf(25, 6));
+        assertThat(LongRationalPolynomial.ZERO.evaluate(LongRational.valueOf(7)))
+                .isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void evaluate_should_set_accumulator_to_canonical_value() {
+        final var accumulator = new MutableLongRational(5, 7);
+
+        final var actual = P.evaluate(3, -2, accumulator);
+
+        assertThat(actual).isSameAs(accumulator);
+        assertThat(actual.getNumerator()).isEqualTo(13);
+        assertThat(actual.getDenominator()).isEqualTo(2);
+        assertThatThrownBy(() -> P.evaluate(1, 0, accumulator))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected denominator != 0 but denominator=0");
+    }
+
+    @Test
+    void evaluate_should_succeed_when_intermediate_result_overflows() {
+        final var square = new LongRationalPolynomial(LongRational.ZERO, LongRational.ZERO, LongRational.ONE);
+        final var points = new LongRationalArray(new long[] {1L << 40}, new long[] {1L << 40});
+        final var large = new LongRationalPolynomial(LongRational.valueOf(Long.MAX_VALUE), LongRational.ONE);
+
+        // b^2 = 2^80 does not fit, although the value 1 does
+        assertThat(square.evaluate(1L << 40, 1L << 40, new MutableLongRational())
+                        .toLongRational())
+                .isEqualTo(LongRational.ONE);
+        assertThat(square.evaluate(points).get(0)).isEqualTo(LongRational.ONE);
+        assertThatThrownBy(() -> large.evaluate(LongRational.ONE)).isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void evaluate_should_equal_boxed_horner_for_batches() {
+        final var random = new SplittableRandom(42);
+        final var coefficients = new LongRational[5];
+        for (var i = 0; i < coefficients.length; i++) {
+            coefficients[i] = LongRational.valueOf(random.nextLong(-100, 100), random.nextLong(1, 10));
+        }
+        final var polynomial = new LongRationalPolynomial(coefficients);
+        final var points = new LongRationalArray(1000);
+        for (var i = 0; i < points.length(); i++) {
+            // runs of equal denominators share the shifted coefficients
+            points.set(i, random.nextLong(-1000, 1000), i < 500 ? 100 : random.nextLong(1, 100));
+        }
+
+        final var actual = polynomial.evaluate(points);
+
+        for (var i = 0; i < points.length(); i++) {
+            var expected = LongRational.ZERO;
+            for (var j = coefficients.length - 1; j >= 0; j--) {
+                expected = expected.multiply(points.get(i)).add(coefficients[j]);
+            }
+            assertThat(actual.get(i)).isEqualTo(expected);
+            assertThat(actual.getDenominator(i)).isEqualTo(expected.getDenominator());
+        }
+        assertThat(polynomial.evaluate(points, points)).isEqualTo(actual);
+    }
+
+    @Test
+    void evaluate_should_throw_exception_when_destination_length_differs() {
+        final var points = new LongRationalArray(2);
+        final var destination = new LongRationalArray(3);
+
+        assertThatThrownBy(() -> P.evaluate(points, destination))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected destination.length=2 but destination.length=3");
+    }
+
+    @Test
+    void add_and_subtract_should_succeed() {
+        final var other = new LongRationalPolynomial(LongRational.ONE, LongRational.ZERO, LongRational.valueOf(-2, 3));
+
+        assertThat(P.add(other))
+                .isEqualTo(new LongRationalPolynomial(LongRational.valueOf(3, 2), LongRational.valueOf(-3)));
+        assertThat(P.subtract(P)).isEqualTo(LongRationalPolynomial.ZERO);
+        assertThat(P.negate().getCoefficient(1)).isEqualTo(LongRational.valueOf(3));
+    }
+
+    @Test
+    void multiply_should_succeed() {
+        final var actual = P.multiply(new LongRationalPolynomial(LongRational.valueOf(-1, 2), LongRational.ONE));
+
+        assertThat(actual)
+                .isEqualTo(new LongRationalPolynomial(
+                        LongRational.valueOf(-1, 4),
+                        LongRational.valueOf(2),
+                        LongRational.valueOf(-10, 3),
+                        LongRational.valueOf(2, 3)));
+        assertThat(P.multiply(LongRationalPolynomial.ZERO)).isEqualTo(LongRationalPolynomial.ZERO);
+    }
+
+    @Test
+    void multiply_should_equal_schoolbook_product_for_high_degrees() {
+        final var random = new SplittableRandom(42);
+        final var left = randomPolynomial(random, 100);
+        final var right = randomPolynomial(random, 70);
+
+        final var actual = left.multiply(right);
+
+        assertThat(actual.degree()).isEqualTo(170);
+        for (var k = 0; k <= actual.degree(); k++) {
+            var expected = LongRational.ZERO;
+            for (var i = Math.max(0, k - right.degree()); i <= Math.min(k, left.degree()); i++) {
+                expected = expected.add(left.getCoefficient(i).multiply(right.getCoefficient(k - i)));
+            }
+            assertThat(actual.getCoefficient(k)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void multiply_should_succeed_when_intermediate_result_overflows() {
+        // 2^40 x (x / 2^40 + 1/3) multiplies the integer polynomials 2^40 x and 3 x + 2^40 over 1 and 3 * 2^40
+        final var left = new LongRationalPolynomial(LongRational.ZERO, LongRational.valueOf(1L << 40));
+        final var right = new LongRationalPolynomial(LongRational.valueOf(1, 3), LongRational.valueOf(1, 1L << 40));
+
+        final var actual = left.multiply(right);
+
+        assertThat(actual)
+                .isEqualTo(new LongRationalPolynomial(
+                        LongRational.ZERO, LongRational.valueOf(1L << 40, 3), LongRational.ONE));
+    }
+
+    @Test
+    void derivative_should_succeed() {
+        assertThat(P.derivative())
+                .isEqualTo(new LongRationalPolynomial(LongRational.valueOf(-3), LongRational.valueOf(4, 3)));
+        assertThat(P.derivative().derivative().derivative()).isEqualTo(LongRationalPolynomial.ZERO);
+        assertThat(new LongRationalPolynomial(
+                                LongRational.ZERO, LongRational.ZERO, LongRational.ZERO, LongRational.valueOf(1, 6))
+                        .derivative()
+                        .getCoefficient(2))
+                .isEqualTo(LongRational.valueOf(1, 2));
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(P).hasToString("LongRationalPolynomial{numerators=[1, -3, 2], denominators=[2, 1, 3]}");
+    }
+
+    private static LongRationalPolynomial randomPolynomial(final SplittableRandom random, final int degree) {
+        final var coefficients = new LongRational[degree + 1];
+        for (var i = 0; i <= degree; i++) {
+            coefficients[i] = LongRational.valueOf(random.nextLong(-1000, 1000), random.nextLong(1, 10));
+        }
+        coefficients[degree] = LongRational.ONE;
+        return new LongRationalPolynomial(coefficients);
+    }
+}
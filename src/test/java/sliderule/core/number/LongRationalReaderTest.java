@@ -0,0 +1,102 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalReaderTest {
+    private final LongRationalReader reader = new LongRationalReader(',');
+
+    @Test
+    void of_should_throw_exception_when_delimiter_is_part_of_value() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalReader('/'))
+                .withMessage("Expected delimiter that is not part of a value but delimiter=/")
+                .withNoCause();
+    }
+
+    @Test
+    void read_should_parse_delimited_values_and_skip_empty_ones() {
+        final var destination = new LongRationalArray(5);
+
+        final var actual = reader.read(CharBuffer.wrap("1/2,-0.75\r\n\r\n4,,6/8"), destination, 1, true);
+
+        assertThat(actual).isEqualTo(4);
+        assertThat(destination.toArray())
+                .containsExactly(
+                        LongRational.ZERO,
+                        new LongRational(1, 2),
+                        new LongRational(-3, 4),
+                        LongRational.valueOf(4),
+                        new LongRational(3, 4));
+    }
+
+    @Test
+    void read_should_continue_value_that_is_cut_off() {
+        final var destination = new LongRationalArray(2);
+
+        final var first = reader.read(CharBuffer.wrap("12/3"), destination, 0, false);
+        final var second = reader.read(CharBuffer.wrap("4,5"), destination, first, false);
+        final var third = reader.read(CharBuffer.wrap(""), destination, first + second, true);
+
+        assertThat(new int[] {first, second, third}).containsExactly(0, 1, 1);
+        assertThat(destination.toArray()).containsExactly(new LongRational(6, 17), LongRational.valueOf(5));
+    }
+
+    @Test
+    void read_should_stop_when_destination_is_full() {
+        final var destination = new LongRationalArray(1);
+        final var source = CharBuffer.wrap("1,2,3");
+
+        final var actual = reader.read(source, destination, 0, true);
+
+        assertThat(actual).isOne();
+        assertThat(source.position()).isEqualTo(2);
+        assertThat(destination.get(0)).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void read_should_parse_ascii_bytes() {
+        final var destination = new LongRationalArray(2);
+        final var source = ByteBuffer.wrap("-5/10\n2.5\n".getBytes(StandardCharsets.US_ASCII));
+
+        final var actual = reader.read(source, destination, 0, true);
+
+        assertThat(actual).isEqualTo(2);
+        assertThat(destination.toArray()).containsExactly(new LongRational(-1, 2), new LongRational(5, 2));
+    }
+
+    @Test
+    void read_should_throw_exception_and_discard_value_when_value_is_malformed() {
+        final var destination = new LongRationalArray(2);
+
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> reader.read(CharBuffer.wrap("1;"), destination, 0, false))
+                .withMessage("Unexpected character ';'")
+                .withNoCause();
+        assertThat(reader.read(CharBuffer.wrap("7"), destination, 0, true)).isOne();
+        assertThat(destination.get(0)).isEqualTo(LongRational.valueOf(7));
+    }
+
+    @Test
+    void read_should_throw_exception_when_numerator_is_out_of_range() {
+        final var destination = new LongRationalArray(1);
+
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> reader.read(CharBuffer.wrap("9223372036854775808,"), destination, 0, true))
+                .withMessage("Numerator out of range")
+                .withNoCause();
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> reader.read(CharBuffer.wrap("-9223372036854775808,"), destination, 0, true))
+                .withMessage("Numerator out of range")
+                .withNoCause();
+        assertThat(reader.read(CharBuffer.wrap("-9223372036854775807"), destination, 0, true))
+                .isOne();
+        assertThat(destination.get(0)).isEqualTo(LongRational.valueOf(-Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,57 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+
+final class LongRationalSummaryStatisticsTest {
+    @Test
+    void accept_should_throw_exception_when_rational_is_null() {
+        final var statistics = new LongRationalSummaryStatistics();
+
+        assertThatNullPointerException()
+                .isThrownBy(() -> statistics.accept(null))
+                .withMessage("rational")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_return_empty_statistics() {
+        final var actual = new LongRationalSummaryStatistics();
+
+        assertThat(actual.getCount()).isZero();
+        assertThat(actual.getSum()).isEqualTo(LongRational.ZERO);
+        assertThat(actual.getMin()).isNull();
+        assertThat(actual.getMax()).isNull();
+        assertThat(actual.getAverage()).isEqualTo(LongRational.ZERO);
+    }
+
+    @Test
+    void combine_should_succeed() {
+        final var left = new LongRationalSummaryStatistics();
+        left.accept(new LongRational(1, 2));
+        final var right = new LongRationalSummaryStatistics();
+        right.accept(new LongRational(1, 4));
+        right.accept(new LongRational(3, 4));
+
+        left.combine(right);
+
+        assertThat(left.getCount()).isEqualTo(3);
+        assertThat(left.getSum()).isEqualTo(new LongRational(3, 2));
+        assertThat(left.getMin()).isEqualTo(new LongRational(1, 4));
+        assertThat(left.getMax()).isEqualTo(new LongRational(3, 4));
+        assertThat(left.getAverage()).isEqualTo(new LongRational(1, 2));
+    }
+
+    @Test
+    void toString_should_succeed() {
+        final var statistics = new LongRationalSummaryStatistics();
+        statistics.accept(new LongRational(1, 2));
+
+        assertThat(statistics)
+                .hasToString("LongRationalSummaryStatistics{count=1, sum=HybridRational{value=LongRational{numerator=1,"
+                        + " denominator=2}}, min=LongRational{numerator=1, denominator=2}, max=LongRational{numerator=1,"
+                        + " denominator=2}}");
+    }
+}
@@ -1,13 +1,20 @@
 package sliderule.core.number;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
-import nl.jqno.equalsverifier.EqualsVerifier;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 final class LongRationalTest {
@@ -38,6 +45,142 @@ final class LongRationalTest {
         assertThat(actual.getDenominator()).isOne();
     }
 
+    @Test
+    void valueOf_should_throw_exception_when_denominator_is_zero() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.valueOf(1, 0))
+                .withMessage("Expected denominator != 0 but denominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void valueOf_should_return_canonical_rational() {
+        final var actual = LongRational.valueOf(6, -4);
+
+        assertThat(actual.getNumerator()).isEqualTo(-3L);
+        assertThat(actual.getDenominator()).isEqualTo(2L);
+    }
+
+    @Test
+    void valueOf_should_return_shared_instance_when_small() {
+        assertThat(LongRational.valueOf(2, 4)).isSameAs(LongRational.valueOf(1, 2));
+        assertThat(LongRational.valueOf(0, 5)).isSameAs(LongRational.ZERO);
+        assertThat(LongRational.valueOf(1)).isSameAs(LongRational.ONE);
+    }
+
+    @Test
+    void valueOf_should_return_new_instance_when_large() {
+        assertThat(LongRational.valueOf(1_000, 3)).isNotSameAs(LongRational.valueOf(1_000, 3));
+    }
+
+    @Test
+    void valueOf_should_throw_exception_when_canonical_numerator_is_min_value() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> LongRational.valueOf(Long.MIN_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void fromDouble_should_throw_exception_when_value_is_not_finite(final double value) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.fromDouble(value))
+                .withMessage("Expected finite value but value=" + value)
+                .withNoCause();
+    }
+
+    @Test
+    void fromDouble_should_return_exact_value() {
+        assertThat(LongRational.fromDouble(0.0)).isSameAs(LongRational.ZERO);
+        assertThat(LongRational.fromDouble(-0.0)).isSameAs(LongRational.ZERO);
+        assertThat(LongRational.fromDouble(-0.75)).isEqualTo(new LongRational(-3, 4));
+        assertThat(LongRational.fromDouble(0x1p62)).isEqualTo(new LongRational(1L << 62, 1));
+        assertThat(LongRational.fromDouble(0x1p-62)).isEqualTo(new LongRational(1, 1L << 62));
+        assertThat(LongRational.fromDouble(0.1)).isEqualTo(new LongRational(3602879701896397L, 1L << 55));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0x1p63, 0x1p-63, Double.MIN_VALUE, Double.MAX_VALUE})
+    void fromDouble_should_throw_exception_when_value_does_not_fit(final double value) {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> LongRational.fromDouble(value))
+                .withMessage("Expected numerator and denominator in long but value=" + value)
+                .withNoCause();
+    }
+
+    @Test
+    void approximate_should_throw_exception_when_max_denominator_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> LongRational.approximate(0.5, 0))
+                .withMessage("Expected maxDenominator > 0 but maxDenominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void approximate_should_return_best_approximation() {
+        assertThat(LongRational.approximate(Math.PI, 10)).isEqualTo(new LongRational(22, 7));
+        assertThat(LongRational.approximate(Math.PI, 100)).isEqualTo(new LongRational(311, 99));
+        assertThat(LongRational.approximate(Math.PI, 1_000)).isEqualTo(new LongRational(355, 113));
+        assertThat(LongRational.approximate(-Math.E, 1_000)).isEqualTo(new LongRational(-1457, 536));
+        assertThat(LongRational.approximate(0.1, 1_000_000)).isEqualTo(new LongRational(1, 10));
+        assertThat(LongRational.approximate(0.75, 2)).isEqualTo(LongRational.ONE);
+        assertThat(LongRational.approximate(1e18, 5)).isEqualTo(LongRational.valueOf(1_000_000_000_000_000_000L));
+    }
+
+    @Test
+    void approximate_should_succeed_when_value_is_tiny() {
+        assertThat(LongRational.approximate(1e-4, 1_000_000_000)).isEqualTo(new LongRational(1, 10_000));
+        assertThat(LongRational.approximate(-1.5e-7, 1_000_000_000)).isEqualTo(new LongRational(-3, 20_000_000));
+        assertThat(LongRational.approximate(1e-10, 1_000)).isSameAs(LongRational.ZERO);
+        assertThat(LongRational.approximate(Double.MIN_VALUE, Long.MAX_VALUE)).isSameAs(LongRational.ZERO);
+        assertThat(LongRational.approximate(1e-10, 6_000_000_000L)).isEqualTo(new LongRational(1, 6_000_000_000L));
+        assertThat(LongRational.approximate(0x1p-63, Long.MAX_VALUE)).isEqualTo(new LongRational(1, Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8})
+    void approximate_should_be_at_least_as_close_as_all_fractions_with_smaller_denominator(final int seed) {
+        final var random = new Random(seed);
+        for (var i = 0; i < 100; i++) {
+            final var value = random.nextGaussian() * Math.pow(10, random.nextInt(-3, 3));
+            final var maxDenominator = random.nextInt(1, 200);
+            final var exact = exact(value);
+
+            final var actual = LongRational.approximate(value, maxDenominator);
+
+            assertThat(actual.getDenominator()).isLessThanOrEqualTo(maxDenominator);
+            final var distance = distance(actual.toBigRational(), exact);
+            for (var q = 1; q <= maxDenominator; q++) {
+                final var p = Math.round(value * q);
+                for (var candidate = p - 1; candidate <= p + 1; candidate++) {
+                    assertThat(distance(new BigRational(candidate, q), exact)).isGreaterThanOrEqualTo(distance);
+                }
+            }
+        }
+    }
+
+    @Test
+    void approximate_should_throw_exception_when_value_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> LongRational.approximate(null, 1))
+                .withMessage("value")
+                .withNoCause();
+    }
+
+    @Test
+    void approximate_should_return_best_approximation_of_decimal() {
+        assertThat(LongRational.approximate(new BigDecimal("0.125"), 10)).isEqualTo(new LongRational(1, 8));
+        assertThat(LongRational.approximate(new BigDecimal("-0.333"), 10)).isEqualTo(new LongRational(-1, 3));
+        assertThat(LongRational.approximate(new BigDecimal("1.5E+3"), 10)).isEqualTo(LongRational.valueOf(1_500));
+        assertThat(LongRational.approximate(new BigDecimal("0.00"), 10)).isSameAs(LongRational.ZERO);
+    }
+
+    @Test
+    void approximate_should_return_best_approximation_of_long_decimal() {
+        final var pi = new BigDecimal("3.14159265358979323846264338327950288419716939937510");
+
+        assertThat(LongRational.approximate(pi, 1_000)).isEqualTo(new LongRational(355, 113));
+        assertThat(LongRational.approximate(pi, 364_913)).isEqualTo(new LongRational(1_146_408, 364_913));
+    }
+
     @ParameterizedTest
     @ValueSource(longs = {2, 3, 4, 5, 6, 7, 8, 9})
     void isUnit_should_return_false_when_numerator_is_greater_than_one(final long numerator) {
@@ -145,6 +288,37 @@ final class LongRationalTest {
         assertThat(rational1.add(rational2)).isEqualTo(new LongRational(22, 15));
     }
 
+    @Test
+    void add_should_return_canonical_sum() {
+        assertThat(new LongRational(1, 6).add(new LongRational(2, 6))).isEqualTo(new LongRational(1, 2));
+    }
+
+    @Test
+    void add_should_return_shared_instance_when_sum_is_small() {
+        assertThat(new LongRational(1, 4).add(new LongRational(1, 4))).isSameAs(LongRational.valueOf(1, 2));
+    }
+
+    @Test
+    void add_should_reduce_before_multiplying() {
+        final var rational = new LongRational(1, 1L << 62);
+
+        assertThat(rational.add(rational)).isEqualTo(new LongRational(1, 1L << 61));
+    }
+
+    @Test
+    void add_should_succeed_when_intermediate_sum_overflows() {
+        final var rational = new LongRational((1L << 62) + 1, 2);
+
+        assertThat(rational.add(rational)).isEqualTo(new LongRational((1L << 62) + 1, 1));
+    }
+
+    @Test
+    void add_should_throw_exception_when_sum_overflows() {
+        final var rational = new LongRational(Long.MAX_VALUE, 1);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> rational.add(LongRational.ONE));
+    }
+
     @Test
     void subtract_should_throw_exception_when_subtrahend_is_null() {
         assertThatNullPointerException()
@@ -158,6 +332,12 @@ final class LongRationalTest {
         assertThat(rational1.subtract(rational2)).isEqualTo(new LongRational(-2, 15));
     }
 
+    @Test
+    void subtract_should_return_zero_when_operands_are_equal() {
+        assertThat(new LongRational(3, 1L << 61).subtract(new LongRational(6, 1L << 62)))
+                .isEqualTo(LongRational.ZERO);
+    }
+
     @Test
     void multiply_should_throw_exception_when_multiplier_is_null() {
         assertThatNullPointerException()
@@ -171,6 +351,17 @@ final class LongRationalTest {
         assertThat(rational1.multiply(rational2)).isEqualTo(new LongRational(8, 15));
     }
 
+    @Test
+    void multiply_should_reduce_crosswise_before_multiplying() {
+        assertThat(new LongRational(1L << 40, 3).multiply(new LongRational(9, 1L << 41)))
+                .isEqualTo(new LongRational(3, 2));
+    }
+
+    @Test
+    void multiply_should_return_zero_when_multiplier_is_zero() {
+        assertThat(rational1.multiply(new LongRational(0, 7))).isEqualTo(LongRational.ZERO);
+    }
+
     @Test
     void divide_should_throw_exception_when_divisor_is_null() {
         assertThatNullPointerException()
@@ -189,7 +380,18 @@ final class LongRationalTest {
 
     @Test
     void divide_should_succeed() {
-        assertThat(rational1.divide(rational2)).isEqualTo(new LongRational(8, 15));
+        assertThat(rational1.divide(rational2)).isEqualTo(new LongRational(5, 6));
+    }
+
+    @Test
+    void divide_should_succeed_when_divisor_is_negative() {
+        assertThat(rational1.divide(new LongRational(-1, 3))).isEqualTo(new LongRational(-2, 1));
+    }
+
+    @Test
+    void divide_should_reduce_crosswise_before_multiplying() {
+        assertThat(new LongRational(1L << 40, 3).divide(new LongRational(1L << 41, 9)))
+                .isEqualTo(new LongRational(3, 2));
     }
 
     @Test
@@ -210,13 +412,201 @@ final class LongRationalTest {
         assertThat(rational1.power(2)).isEqualTo(new LongRational(4, 9));
     }
 
+    @Test
+    void power_should_succeed_when_exponent_is_negative() {
+        assertThat(new LongRational(-2, 3).power(-3)).isEqualTo(new LongRational(-27, 8));
+    }
+
+    @Test
+    void power_should_return_canonical_power() {
+        assertThat(new LongRational(4, 6).power(2)).isEqualTo(new LongRational(4, 9));
+    }
+
+    @Test
+    void power_should_succeed_when_power_needs_more_than_53_bits() {
+        assertThat(new LongRational(3, 1).power(39)).isEqualTo(new LongRational(4_052_555_153_018_976_267L, 1));
+    }
+
+    @Test
+    void power_should_throw_exception_when_power_overflows() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> new LongRational(1, 2).power(63));
+    }
+
+    @Test
+    void intValue_should_truncate_towards_zero() {
+        assertThat(new LongRational(-7, 2).intValue()).isEqualTo(-3);
+    }
+
+    @Test
+    void intValueExact_should_throw_exception_when_not_integer() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> rational1.intValueExact());
+    }
+
+    @Test
+    void intValueExact_should_throw_exception_when_out_of_range() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> new LongRational(1L << 32, 2).intValueExact());
+    }
+
+    @Test
+    void longValue_should_truncate_towards_zero() {
+        assertThat(new LongRational(7, 2).longValue()).isEqualTo(3);
+    }
+
+    @Test
+    void longValueExact_should_succeed() {
+        assertThat(new LongRational(Long.MAX_VALUE, 1).longValueExact()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void floatValue_should_succeed() {
+        assertThat(rational1.floatValue()).isEqualTo(2f / 3);
+    }
+
+    @Test
+    void floatValue_should_round_correctly_when_numerator_is_not_exact_double() {
+        assertThat(new LongRational((1L << 53) + 1, 3).floatValue()).isEqualTo((float) 3_002_399_751_580_331L);
+    }
+
+    @Test
+    void doubleValue_should_succeed() {
+        assertThat(new LongRational(1, 3).doubleValue()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void doubleValue_should_round_correctly_when_numerator_is_not_exact_double() {
+        assertThat(new LongRational((1L << 53) + 1, 3).doubleValue()).isEqualTo(3_002_399_751_580_331.0);
+    }
+
+    @Test
+    void doubleValue_should_round_correctly_when_denominator_is_not_exact_double() {
+        assertThat(new LongRational(-1, Long.MAX_VALUE).doubleValue()).isEqualTo(-0x1p-63);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1/2, 1, 2",
+        "-6/4, -3, 2",
+        "+7, 7, 1",
+        "-0, 0, 1",
+        "0.25, 1, 4",
+        "-12.50, -25, 2",
+        "3.000000000000000000000, 3, 1",
+        "0.000000000000000001, 1, 1000000000000000000",
+        "9223372036854775807/3, 9223372036854775807, 3"
+    })
+    void parse_should_return_canonical_rational(final String text, final long numerator, final long denominator) {
+        final var actual = LongRational.parse(text);
+
+        assertThat(actual.getNumerator()).isEqualTo(numerator);
+        assertThat(actual.getDenominator()).isEqualTo(denominator);
+    }
+
+    @Test
+    void parse_should_parse_range() {
+        assertThat(LongRational.parse("x=-3/4;", 2, 6)).isEqualTo(new LongRational(-3, 4));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "'' | Unexpected end of rational in \"\"",
+                "- | Unexpected end of rational in \"-\"",
+                "1/ | Unexpected end of rational in \"1/\"",
+                "1. | Unexpected end of rational in \"1.\"",
+                ".5 | Unexpected character '.' in \".5\"",
+                "1/-2 | Unexpected character '-' in \"1/-2\"",
+                "1.5/2 | Unexpected character '/' in \"1.5/2\"",
+                "' 1' | Unexpected character ' ' in \" 1\"",
+                "1/0 | Expected denominator != 0 but denominator=0 in \"1/0\"",
+                "9223372036854775808 | Numerator out of range in \"9223372036854775808\"",
+                "-9223372036854775808 | Numerator out of range in \"-9223372036854775808\"",
+                "-9223372036854775808/3 | Numerator out of range in \"-9223372036854775808/3\"",
+                "1/9223372036854775808 | Denominator out of range in \"1/9223372036854775808\"",
+                "0.0000000000000000001 | Denominator out of range in \"0.0000000000000000001\""
+            })
+    void parse_should_throw_exception_when_text_is_malformed(final String text, final String message) {
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> LongRational.parse(text))
+                .withMessage(message)
+                .withNoCause();
+    }
+
+    @Test
+    void formatTo_should_succeed() {
+        assertThat(new LongRational(-3, 4).formatTo(new StringBuilder("x="))).hasToString("x=-3/4");
+    }
+
+    @Test
+    void appendTo_should_succeed() throws IOException {
+        final var writer = new StringWriter();
+
+        new LongRational(-1_234_567_890_123L, 10).appendTo(writer);
+        LongRational.ZERO.appendTo(writer.append(' '));
+
+        assertThat(writer).hasToString("-1234567890123/10 0/1");
+        assertThat(LongRational.parse(new LongRational(5, 7).appendTo(new StringBuilder())))
+                .isEqualTo(new LongRational(5, 7));
+    }
+
+    @Test
+    void compareTo_should_succeed_when_cross_products_overflow() {
+        final var smaller = new LongRational(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+        final var larger = new LongRational(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+
+        assertThat(smaller).isLessThan(larger);
+        assertThat(larger).isGreaterThan(smaller);
+        assertThat(new LongRational(-Long.MAX_VALUE, 3)).isLessThan(new LongRational(-Long.MAX_VALUE, 5));
+        assertThat(new LongRational(Long.MAX_VALUE, 2)).isEqualByComparingTo(new LongRational(Long.MAX_VALUE, 2));
+    }
+
     @Test
     void hashCode_and_equals_should_succeed() {
-        EqualsVerifier.forClass(LongRational.class).verify();
+        final var value = new LongRational(1, 3);
+        final var equal = new LongRational(-2, -6);
+        final var other = new LongRational(1, 4);
+
+        assertThat(value).isEqualTo(value).isEqualTo(equal).isNotEqualTo(other).isNotEqualTo(null);
+        assertThat(value).isNotEqualTo(value.toBigRational()).hasSameHashCodeAs(equal);
+        assertThat(equal).isEqualTo(value);
+        assertThat(value.hashCode()).isEqualTo(value.hashCode()).isNotEqualTo(other.hashCode());
+    }
+
+    @Test
+    void equals_should_compare_values() {
+        assertThat(new LongRational(2, 4)).isEqualTo(new LongRational(1, 2)).hasSameHashCodeAs(new LongRational(1, 2));
+        assertThat(new LongRational(-3, 6)).isEqualTo(new LongRational(1, -2));
+        assertThat(new LongRational(0, 5)).isEqualTo(LongRational.ZERO).hasSameHashCodeAs(LongRational.ZERO);
+        assertThat(new LongRational(Long.MAX_VALUE, Long.MAX_VALUE - 1))
+                .isNotEqualTo(new LongRational(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2));
+    }
+
+    @Test
+    void hashCode_should_spread_small_rationals_over_buckets() {
+        final var hashCodes = new HashSet<Integer>();
+        for (var numerator = -50; numerator <= 50; numerator++) {
+            for (var denominator = 1; denominator <= 50; denominator++) {
+                hashCodes.add(LongRational.valueOf(numerator, denominator).hashCode() & 0xFFF);
+            }
+        }
+
+        // about 3,000 distinct values, so uniform hashing fills about 2,200 of 4,096 buckets
+        assertThat(hashCodes).hasSizeGreaterThan(2_000);
     }
 
     @Test
     void toString_should_succeed() {
         assertThat(rational1).hasToString("LongRational{numerator=2, denominator=3}");
     }
+
+    private static BigRational exact(final double value) {
+        final var decimal = new BigDecimal(value);
+        return new BigRational(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+    }
+
+    private static BigRational distance(final BigRational left, final BigRational right) {
+        final var difference = left.subtract(right);
+        return difference.signum() < 0 ? difference.negate() : difference;
+    }
 }
@@ -0,0 +1,55 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+final class LongRationalWriterTest {
+    private final LongRationalWriter writer = new LongRationalWriter('\n');
+    private final LongRationalArray source = new LongRationalArray(
+            new LongRational(1, 2), new LongRational(-30, 7), new LongRational(Long.MAX_VALUE, 1));
+
+    @Test
+    void of_should_throw_exception_when_delimiter_is_not_ascii() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new LongRationalWriter('ä'))
+                .withMessage("Expected ASCII delimiter that is not part of a value but delimiter=ä")
+                .withNoCause();
+    }
+
+    @Test
+    void write_should_write_values_while_they_fit() {
+        final var destination = CharBuffer.allocate(10);
+
+        final var actual = writer.write(source, 0, destination);
+
+        assertThat(actual).isEqualTo(2);
+        assertThat(destination.flip().toString()).isEqualTo("1/2\n-30/7\n");
+    }
+
+    @Test
+    void write_should_continue_at_offset() {
+        final var destination = ByteBuffer.allocate(64);
+
+        final var actual = writer.write(source, 2, destination);
+
+        assertThat(actual).isEqualTo(3);
+        assertThat(new String(destination.array(), 0, destination.position(), StandardCharsets.US_ASCII))
+                .isEqualTo("9223372036854775807/1\n");
+    }
+
+    @Test
+    void write_should_produce_text_that_reader_reads() {
+        final var buffer = CharBuffer.allocate(64);
+        final var destination = new LongRationalArray(source.length());
+
+        writer.write(source, 0, buffer);
+        new LongRationalReader('\n').read(buffer.flip(), destination, 0, true);
+
+        assertThat(destination).isEqualTo(source);
+    }
+}
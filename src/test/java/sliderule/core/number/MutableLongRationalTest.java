@@ -0,0 +1,124 @@
+package sliderule.core.number;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class MutableLongRationalTest {
+    @Test
+    void of_should_throw_exception_when_denominator_is_zero() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new MutableLongRational(1, 0))
+                .withMessage("Expected denominator != 0 but denominator=0")
+                .withNoCause();
+    }
+
+    @Test
+    void of_should_normalize_sign() {
+        final var actual = new MutableLongRational(1, -2);
+
+        assertThat(actual.getNumerator()).isEqualTo(-1L);
+        assertThat(actual.getDenominator()).isEqualTo(2L);
+    }
+
+    @Test
+    void set_should_throw_exception_when_numerator_is_min_value() {
+        final var actual = new MutableLongRational(1, 2);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> actual.set(Long.MIN_VALUE, 1));
+        assertThat(actual.getNumerator()).isOne();
+    }
+
+    @Test
+    void addInPlace_should_throw_exception_when_summand_is_null() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new MutableLongRational().addInPlace(null))
+                .withMessage("summand")
+                .withNoCause();
+    }
+
+    @Test
+    void addInPlace_should_not_reduce_lazily() {
+        final var actual = new MutableLongRational(1, 4).addInPlace(new LongRational(1, 4));
+
+        assertThat(actual.getNumerator()).isEqualTo(2L);
+        assertThat(actual.getDenominator()).isEqualTo(4L);
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(1, 2));
+    }
+
+    @Test
+    void addInPlace_should_reduce_when_near_overflow() {
+        final var actual = new MutableLongRational();
+        LongStream.rangeClosed(1, 40).forEach(i -> actual.addInPlace(new LongRational(1, i * (i + 1))));
+
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(40, 41));
+    }
+
+    @Test
+    void addInPlace_should_throw_exception_and_keep_value_when_sum_overflows() {
+        final var actual = new MutableLongRational(Long.MAX_VALUE, 1);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> actual.addInPlace(LongRational.ONE));
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void subtractInPlace_should_succeed() {
+        final var actual = new MutableLongRational(2, 3).subtractInPlace(new LongRational(4, 5));
+
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(-2, 15));
+    }
+
+    @Test
+    void multiplyInPlace_should_succeed() {
+        final var actual = new MutableLongRational(2, 3).multiplyInPlace(new LongRational(3, -4));
+
+        assertThat(actual.toLongRational()).isEqualTo(new LongRational(-1, 2));
+    }
+
+    @Test
+    void multiplyInPlace_should_reduce_when_near_overflow() {
+        final var actual = new MutableLongRational(1L << 40, 3).multiplyInPlace(new LongRational(3, 1L << 40));
+
+        assertThat(actual.toLongRational()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void addProduct_should_succeed() {
+        final var actual = new MutableLongRational(1, 2).addProduct(new LongRational(2, 3), new LongRational(3, 4));
+
+        assertThat(actual.toLongRational()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void addProduct_should_reduce_when_product_overflows() {
+        final var actual = new MutableLongRational()
+                .addProduct(new LongRational(Long.MAX_VALUE, 3), new LongRational(3, Long.MAX_VALUE));
+
+        assertThat(actual.toLongRational()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void addProduct_should_succeed_when_given_numerators_and_denominators() {
+        final var actual = new MutableLongRational(1, 2).addProduct(2, 3, 3, 4);
+
+        assertThat(actual.toLongRational()).isEqualTo(LongRational.ONE);
+    }
+
+    @Test
+    void reduce_should_succeed() {
+        final var actual = new MutableLongRational(6, 8).reduce();
+
+        assertThat(actual.getNumerator()).isEqualTo(3L);
+        assertThat(actual.getDenominator()).isEqualTo(4L);
+    }
+
+    @Test
+    void toString_should_succeed() {
+        assertThat(new MutableLongRational(1, 2)).hasToString("MutableLongRational{numerator=1, denominator=2}");
+    }
+}
@@ -1,10 +1,15 @@
 package sliderule.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.math.BigInteger;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 final class LongsTest {
@@ -24,4 +29,161 @@ final class LongsTest {
     void powerExact_should_succeed(final long base, final int exponent, final double expected) {
         assertThat(Longs.powerExact(base, exponent)).isEqualByComparingTo(expected);
     }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0, 1", "0, 3, 0", "-1, 2147483647, -1", "3, 39, 4052555153018976267", "-2, 63, -9223372036854775808"
+    })
+    void powExact_should_succeed(final long base, final int exponent, final long expected) {
+        assertThat(Longs.powExact(base, exponent)).isEqualTo(expected);
+    }
+
+    @Test
+    void powExact_should_throw_exception_when_power_overflows() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> Longs.powExact(2, 63));
+    }
+
+    @Test
+    void powExact_should_throw_exception_when_exponent_is_negative() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Longs.powExact(2, -1))
+                .withMessage("Expected exponent >= 0 but exponent=-1");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "0, -5, 5",
+        "12, 18, 6",
+        "-12, 18, 6",
+        "17, 5, 1",
+        "-9223372036854775808, 6, 2",
+        "9223372036854775807, 9223372036854775806, 1"
+    })
+    void gcd_should_succeed(final long a, final long b, final long expected) {
+        assertThat(Longs.gcd(a, b)).isEqualTo(expected);
+    }
+
+    @Test
+    void gcd_should_throw_exception_when_gcd_is_two_to_the_power_of_63() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> Longs.gcd(Long.MIN_VALUE, 0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 7, 0", "4, 6, 12", "-4, 6, 12", "7, 13, 91"})
+    void lcmExact_should_succeed(final long a, final long b, final long expected) {
+        assertThat(Longs.lcmExact(a, b)).isEqualTo(expected);
+    }
+
+    @Test
+    void lcmExact_should_throw_exception_when_lcm_overflows() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> Longs.lcmExact(Long.MAX_VALUE, Long.MAX_VALUE - 1));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "2, 10, 1000",
+        "-2, 3, 7",
+        "5, 0, 1",
+        "123456789, 987654321, 9223372036854775783",
+        "9223372036854775806, 9223372036854775805, 9223372036854775783"
+    })
+    void modPow_should_succeed(final long base, final long exponent, final long modulus) {
+        assertThat(Longs.modPow(base, exponent, modulus))
+                .isEqualTo(BigInteger.valueOf(base)
+                        .modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus))
+                        .longValueExact());
+    }
+
+    @Test
+    void modPow_should_throw_exception_when_modulus_is_not_positive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Longs.modPow(2, 3, 0))
+                .withMessage("Expected modulus > 0 but modulus=0");
+    }
+
+    @Test
+    void mulMod_should_succeed_when_product_overflows() {
+        final var modulus = Long.MAX_VALUE - 24;
+        assertThat(Longs.mulMod(modulus - 1, modulus - 2, modulus)).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "1, 1",
+        "15, 3",
+        "16, 4",
+        "9223372030926249000, 3037000498",
+        "9223372030926249001, 3037000499",
+        "9223372036854775807, 3037000499"
+    })
+    void isqrt_should_succeed(final long n, final long expected) {
+        assertThat(Longs.isqrt(n)).isEqualTo(expected);
+    }
+
+    @Test
+    void isqrt_should_throw_exception_when_n_is_negative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Longs.isqrt(-1)).withMessage("Expected n >= 0 but n=-1");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-7, false",
+        "0, false",
+        "1, false",
+        "2, true",
+        "37, true",
+        "41, true",
+        "561, false",
+        "3215031751, false",
+        "2305843009213693951, true",
+        "9223372036854775783, true",
+        "9223372036854775807, false"
+    })
+    void isPrime_should_succeed(final long n, final boolean expected) {
+        assertThat(Longs.isPrime(n)).isEqualTo(expected);
+    }
+
+    @Test
+    void isPrime_should_equal_BigInteger() {
+        for (var n = 0L; n < 10_000; n++) {
+            assertThat(Longs.isPrime(n)).isEqualTo(BigInteger.valueOf(n).isProbablePrime(50));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 10, true",
+        "1000, 10, true",
+        "1024, 2, true",
+        "-8, -2, true",
+        "0, 0, true",
+        "0, 10, false",
+        "20, 10, false",
+        "6, 2, false",
+        "-4, 2, false"
+    })
+    void isPowerOf_should_succeed(final long n, final long base, final boolean expected) {
+        assertThat(Longs.isPowerOf(n, base)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3037000499, 3037000499, true", "3037000500, 3037000500, false", "-4611686018427387904, 2, true"})
+    void multiplyFits_should_succeed(final long x, final long y, final boolean expected) {
+        assertThat(Longs.multiplyFits(x, y)).isEqualTo(expected);
+    }
+
+    @Test
+    void unsignedMultiplyHigh_should_succeed() {
+        assertThat(Longs.unsignedMultiplyHigh(-1L, -1L)).isEqualTo(-2L);
+    }
+
+    @Test
+    void compareProducts_should_succeed_when_products_overflow() {
+        assertThat(Longs.compareProducts(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE - 1))
+                .isPositive();
+        assertThat(Longs.compareProducts(Long.MAX_VALUE, -Long.MAX_VALUE, 1, 1)).isNegative();
+        assertThat(Longs.compareProducts(6, 4, 3, 8)).isZero();
+    }
 }